@@ -158,6 +158,48 @@ public interface IFileBufferManager {
 	 */
 	void disconnectFileStore(IFileStore fileStore, IProgressMonitor monitor) throws CoreException;
 
+	/**
+	 * Connects the files at the given locations to this manager. This is
+	 * equivalent to calling {@link #connect(IPath, LocationKind, IProgressMonitor)}
+	 * for each location, but the contents of files which are not yet connected
+	 * may be loaded in parallel and the connected file buffers are registered
+	 * with this manager all at once.
+	 * <p>
+	 * If one of the files cannot be connected, none of the given locations
+	 * are connected by this call.
+	 * </p>
+	 * <p>
+	 * The type of the provided locations is specified by the given
+	 * <code>locationKind</code>.
+	 * </p>
+	 *
+	 * @param locations the locations of the files to be connected
+	 * @param locationKind the kind of the given locations
+	 * @param monitor the progress monitor, or <code>null</code> if progress reporting is not desired
+	 * @throws CoreException if one of the files could not successfully be connected
+	 * @see LocationKind
+	 * @since 3.9
+	 */
+	void connectAll(IPath[] locations, LocationKind locationKind, IProgressMonitor monitor) throws CoreException;
+
+	/**
+	 * Disconnects the files at the given locations from this manager. This is
+	 * equivalent to calling {@link #disconnect(IPath, LocationKind, IProgressMonitor)}
+	 * for each location.
+	 * <p>
+	 * The type of the provided locations is specified by the given
+	 * <code>locationKind</code>.
+	 * </p>
+	 *
+	 * @param locations the locations of the files to be disconnected
+	 * @param locationKind the kind of the given locations
+	 * @param monitor the progress monitor, or <code>null</code> if progress reporting is not desired
+	 * @throws CoreException if one of the files could not successfully be disconnected
+	 * @see LocationKind
+	 * @since 3.9
+	 */
+	void disconnectAll(IPath[] locations, LocationKind locationKind, IProgressMonitor monitor) throws CoreException;
+
 	/**
 	 * Returns the file buffer managed for the given location or <code>null</code>
 	 * if there is no such file buffer.
@@ -17,7 +17,9 @@ package org.eclipse.core.filebuffers;
 import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.internal.filebuffers.FileBuffersPlugin;
 
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.source.IAnnotationModel;
@@ -75,6 +77,32 @@ public interface ITextFileBufferManager extends IFileBufferManager {
 	 */
 	ITextFileBuffer getTextFileBuffer(IPath location, LocationKind locationKind);
 
+	/**
+	 * Creates a read-only text file buffer for the file at the given location.
+	 * The returned buffer is meant for transient scans of the file content: it
+	 * is not managed by this manager, it does not track changes of the
+	 * underlying file, it has no annotation model and changes to its document
+	 * are never written back. Clients simply drop the buffer when done.
+	 * <p>
+	 * The document of the returned buffer holds the content of the underlying
+	 * file, even if a managed file buffer with unsaved changes exists for the
+	 * same location.
+	 * </p>
+	 * <p>
+	 * The type of the provided location is specified by the given
+	 * <code>locationKind</code>.
+	 * </p>
+	 *
+	 * @param location the location of the file to be read
+	 * @param locationKind the kind of the given location
+	 * @param monitor the progress monitor, or <code>null</code> if progress reporting is not desired
+	 * @return the read-only text file buffer
+	 * @throws CoreException if the file buffer could not be created
+	 * @see LocationKind
+	 * @since 3.9
+	 */
+	ITextFileBuffer createReadOnlyTextFileBuffer(IPath location, LocationKind locationKind, IProgressMonitor monitor) throws CoreException;
+
 	/**
 	 * Returns the text file buffer managed for the given file store
 	 * or <code>null</code> if there is no such text file buffer.
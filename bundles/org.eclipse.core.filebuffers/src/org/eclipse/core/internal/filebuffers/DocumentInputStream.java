@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.core.internal.filebuffers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.util.Objects;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.ISynchronizable;
+
+
+/**
+ * An <code>InputStream</code> that encodes the content of an
+ * <code>IDocument</code> while it is read. The document is read chunk by chunk
+ * through {@link IDocument#get(int, int)} and encoded into a reused buffer, so
+ * that neither the content nor its encoded form are ever held in memory as a
+ * whole.
+ * <p>
+ * Each chunk is read while holding the document's lock object, if it has one.
+ * The document must not be modified while the stream is read; a modification
+ * is reported as an <code>IOException</code> instead of writing a mix of old
+ * and new content. Unmappable characters are reported as
+ * {@link java.nio.charset.CharacterCodingException} according to the actions
+ * configured on the encoder.
+ * </p>
+ *
+ * @since 3.9
+ */
+class DocumentInputStream extends InputStream {
+
+	/** The number of characters encoded at once. */
+	private static final int CHUNK_SIZE= 8192;
+
+	private final IDocument fDocument;
+	private final int fLength;
+	/** The modification stamp of the document when the stream was created. */
+	private final long fModificationStamp;
+	private final CharsetEncoder fEncoder;
+	/** The characters read from the document which have not been encoded yet. */
+	private final CharBuffer fChars;
+	private final ByteBuffer fBytes;
+	/** The offset of the first document character not yet in the character buffer. */
+	private int fOffset;
+	private boolean fFlushed;
+
+	/**
+	 * Creates a new stream for the given document.
+	 *
+	 * @param document the document to read
+	 * @param encoder the encoder to use, it is reset by this constructor
+	 */
+	public DocumentInputStream(IDocument document, CharsetEncoder encoder) {
+		fDocument= document;
+		synchronized (getLockObject()) {
+			fLength= document.getLength();
+			fModificationStamp= getModificationStamp();
+		}
+		fEncoder= encoder.reset();
+		fChars= CharBuffer.allocate(CHUNK_SIZE).flip();
+		fBytes= ByteBuffer.allocate((int) Math.ceil(CHUNK_SIZE * encoder.maxBytesPerChar())).flip();
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fBytes.hasRemaining() && !fill())
+			return -1;
+		return fBytes.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0)
+			return 0;
+		if (!fBytes.hasRemaining() && !fill())
+			return -1;
+		int count= Math.min(len, fBytes.remaining());
+		fBytes.get(b, off, count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return fBytes.remaining();
+	}
+
+	/**
+	 * Encodes the next characters of the document into the byte buffer.
+	 *
+	 * @return <code>false</code> if the end of the stream has been reached
+	 * @throws IOException if the document cannot be encoded or has been modified
+	 */
+	private boolean fill() throws IOException {
+		fBytes.clear();
+		while (fBytes.position() == 0 && !fFlushed) {
+			CoderResult result;
+			if (fOffset < fLength) {
+				// keep characters the encoder left over, e.g. the first half of a surrogate pair
+				fChars.compact();
+				int count= Math.min(fChars.remaining(), fLength - fOffset);
+				fChars.put(readChunk(count));
+				fOffset+= count;
+				fChars.flip();
+				result= fEncoder.encode(fChars, fBytes, fOffset == fLength);
+			} else {
+				result= fEncoder.encode(fChars, fBytes, true);
+				if (result.isUnderflow()) {
+					result= fEncoder.flush(fBytes);
+					fFlushed= result.isUnderflow();
+				}
+			}
+			if (result.isError())
+				result.throwException();
+		}
+		fBytes.flip();
+		return fBytes.hasRemaining();
+	}
+
+	/**
+	 * Reads the next characters of the document under its lock.
+	 *
+	 * @param count the number of characters to read
+	 * @return the characters
+	 * @throws IOException if the document has been modified since the stream was created
+	 */
+	private String readChunk(int count) throws IOException {
+		synchronized (getLockObject()) {
+			if (fDocument.getLength() != fLength || getModificationStamp() != fModificationStamp)
+				throw new IOException(FileBuffersMessages.DocumentInputStream_error_documentModified);
+			try {
+				return fDocument.get(fOffset, count);
+			} catch (BadLocationException x) {
+				throw new IOException(x);
+			}
+		}
+	}
+
+	private Object getLockObject() {
+		if (fDocument instanceof ISynchronizable synchronizable) {
+			Object lockObject= synchronizable.getLockObject();
+			if (lockObject != null)
+				return lockObject;
+		}
+		return fDocument;
+	}
+
+	private long getModificationStamp() {
+		if (fDocument instanceof IDocumentExtension4 extension)
+			return extension.getModificationStamp();
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+}
@@ -48,6 +48,7 @@ final class FileBuffersMessages extends NLS {
 	public static String TextFileBufferManager_error_documentFactoryFailed;
 	public static String TextFileBufferManager_warning_documentSetupInstallsDefaultPartitioner;
 	public static String DocumentInputStream_error_streamClosed;
+	public static String DocumentInputStream_error_documentModified;
 
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, FileBuffersMessages.class);
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.core.internal.filebuffers;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.text.source.IAnnotationModel;
+
+
+/**
+ * A text file buffer for a workspace file which is not managed by the file
+ * buffer manager. It neither listens to resource changes nor tracks the
+ * changes of its document, and it never writes back to the file.
+ *
+ * @see org.eclipse.core.filebuffers.ITextFileBufferManager#createReadOnlyTextFileBuffer(org.eclipse.core.runtime.IPath, org.eclipse.core.filebuffers.LocationKind, IProgressMonitor)
+ * @since 3.9
+ */
+public class ReadOnlyResourceTextFileBuffer extends ResourceTextFileBuffer {
+
+	public ReadOnlyResourceTextFileBuffer(ResourceTextFileBufferManager manager) {
+		super(manager);
+	}
+
+	@Override
+	public IAnnotationModel getAnnotationModel() {
+		return null;
+	}
+
+	@Override
+	public void setEncoding(String encoding) {
+		// the encoding of the underlying file is not changed
+	}
+
+	@Override
+	public void setDirty(boolean isDirty) {
+		// never dirty
+	}
+
+	@Override
+	public boolean isCommitable() {
+		return false;
+	}
+
+	@Override
+	public void revert(IProgressMonitor monitor) {
+		// never dirty
+	}
+
+	@Override
+	public void validateState(IProgressMonitor monitor, Object computationContext) {
+		// nop
+	}
+
+	@Override
+	public boolean isDisconnected() {
+		// never connected, but valid as long as it is referenced
+		return false;
+	}
+
+	@Override
+	protected void addFileBufferContentListeners() {
+		// changes are not tracked
+	}
+}
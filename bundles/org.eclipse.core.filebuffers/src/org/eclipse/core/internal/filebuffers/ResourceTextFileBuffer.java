@@ -306,23 +306,31 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 		encoder.onMalformedInput(CodingErrorAction.REPLACE);
 		encoder.onUnmappableCharacter(CodingErrorAction.REPORT);
 
+		/*
+		 * Unicode charsets can encode every character, so the document is encoded while the
+		 * file is written. Any other charset may fail to map a character, so the document is
+		 * encoded before the file is touched.
+		 */
 		InputStream stream;
-
-		try {
-			byte[] bytes;
-			ByteBuffer byteBuffer= encoder.encode(CharBuffer.wrap(fDocument.get()));
-			if (byteBuffer.hasArray())
-				bytes= byteBuffer.array();
-			else {
-				bytes= new byte[byteBuffer.limit()];
-				byteBuffer.get(bytes);
+		if (charset.name().startsWith("UTF-")) { //$NON-NLS-1$
+			stream= new DocumentInputStream(fDocument, encoder);
+		} else {
+			try {
+				byte[] bytes;
+				ByteBuffer byteBuffer= encoder.encode(CharBuffer.wrap(fDocument.get()));
+				if (byteBuffer.hasArray())
+					bytes= byteBuffer.array();
+				else {
+					bytes= new byte[byteBuffer.limit()];
+					byteBuffer.get(bytes);
+				}
+				stream= new ByteArrayInputStream(bytes, 0, byteBuffer.limit());
+			} catch (CharacterCodingException ex) {
+				Assert.isTrue(ex instanceof UnmappableCharacterException);
+				String message= NLSUtility.format(FileBuffersMessages.ResourceTextFileBuffer_error_charset_mapping_failed_message_arg, new Object[] {encoding,getLocation().toString()});
+				IStatus s= new Status(IStatus.ERROR, FileBuffersPlugin.PLUGIN_ID, IFileBufferStatusCodes.CHARSET_MAPPING_FAILED, message, ex);
+				throw new CoreException(s);
 			}
-			stream= new ByteArrayInputStream(bytes, 0, byteBuffer.limit());
-		} catch (CharacterCodingException ex) {
-			Assert.isTrue(ex instanceof UnmappableCharacterException);
-			String message= NLSUtility.format(FileBuffersMessages.ResourceTextFileBuffer_error_charset_mapping_failed_message_arg, new Object[] {encoding,getLocation().toString()});
-			IStatus s= new Status(IStatus.ERROR, FileBuffersPlugin.PLUGIN_ID, IFileBufferStatusCodes.CHARSET_MAPPING_FAILED, message, ex);
-			throw new CoreException(s);
 		}
 
 		/*
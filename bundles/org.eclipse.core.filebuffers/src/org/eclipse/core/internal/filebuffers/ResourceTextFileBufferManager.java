@@ -116,6 +116,13 @@ public class ResourceTextFileBufferManager extends TextFileBufferManager {
 		return new FileStoreTextFileBuffer(this);
 	}
 
+	@Override
+	protected AbstractFileBuffer createReadOnlyFileBuffer(IPath location, LocationKind locationKind) {
+		if (locationKind == LocationKind.IFILE || locationKind == LocationKind.NORMALIZE  && FileBuffers.getWorkspaceFileAtLocation(location, true) != null)
+			return new ReadOnlyResourceTextFileBuffer(this);
+		return new ReadOnlyFileStoreTextFileBuffer(this);
+	}
+
 	IAnnotationModel createAnnotationModel(IFile file) {
 		Assert.isNotNull(file);
 		IAnnotationModelFactory factory= ((ResourceExtensionRegistry)fRegistry).getAnnotationModelFactory(file);
@@ -20,8 +20,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileInfo;
@@ -35,12 +37,15 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.content.IContentDescription;
 import org.eclipse.core.runtime.content.IContentType;
 import org.eclipse.core.runtime.content.IContentTypeManager;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.filebuffers.IAnnotationModelFactory;
 import org.eclipse.core.filebuffers.IDocumentSetupParticipant;
@@ -131,6 +136,101 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 		fireBufferCreated(fileBuffer);
 	}
 
+	@Override
+	public void connectAll(IPath[] locations, LocationKind locationKind, IProgressMonitor monitor) throws CoreException {
+		List<IPath> normalizedLocations= normalizeLocations(locations, locationKind);
+		SubMonitor subMonitor= SubMonitor.convert(monitor, normalizedLocations.size());
+
+		// Connect the buffers which already exist, remember the locations which need a new one
+		List<IPath> connected= new ArrayList<>();
+		List<IPath> missing= new ArrayList<>();
+		synchronized (fFilesBuffers) {
+			for (IPath location : normalizedLocations) {
+				AbstractFileBuffer fileBuffer= internalGetFileBuffer(location);
+				if (fileBuffer != null) {
+					fileBuffer.connect();
+					connected.add(location);
+				} else {
+					missing.add(location);
+				}
+			}
+		}
+		subMonitor.worked(connected.size());
+		if (missing.isEmpty())
+			return;
+
+		IPath[] toCreate= new LinkedHashSet<>(missing).toArray(new IPath[0]);
+		AbstractFileBuffer[] fileBuffers= new AbstractFileBuffer[toCreate.length];
+		Exception[] exceptions= new Exception[toCreate.length];
+		IntStream indexes= IntStream.range(0, toCreate.length);
+		// Workers must not block on a scheduling rule owned by the calling thread
+		if (Job.getJobManager().currentRule() == null)
+			indexes= indexes.parallel();
+		indexes.forEach(i -> {
+			if (subMonitor.isCanceled())
+				return;
+			try {
+				AbstractFileBuffer fileBuffer= createFileBuffer(toCreate[i], locationKind);
+				if (fileBuffer == null)
+					throw new CoreException(new Status(IStatus.ERROR, FileBuffersPlugin.PLUGIN_ID, IFileBufferStatusCodes.CREATION_FAILED, FileBuffersMessages.FileBufferManager_error_canNotCreateFilebuffer, null));
+				fileBuffer.create(toCreate[i], null);
+				fileBuffers[i]= fileBuffer;
+			} catch (CoreException | RuntimeException x) {
+				exceptions[i]= x;
+			}
+			// The monitor is only used by one thread at a time
+			synchronized (subMonitor) {
+				subMonitor.worked(1);
+			}
+		});
+
+		Map<IPath, AbstractFileBuffer> created= new HashMap<>();
+		Exception exception= null;
+		for (int i= 0; i < toCreate.length; i++) {
+			if (fileBuffers[i] != null)
+				created.put(toCreate[i], fileBuffers[i]);
+			else if (exception == null)
+				exception= exceptions[i];
+		}
+		if (exception != null || subMonitor.isCanceled()) {
+			for (AbstractFileBuffer fileBuffer : created.values()) {
+				fileBuffer.disconnect();
+				fileBuffer.dispose();
+			}
+			internalDisconnect(connected);
+			if (exception instanceof CoreException coreException)
+				throw coreException;
+			if (exception != null)
+				throw (RuntimeException) exception;
+			throw new OperationCanceledException();
+		}
+
+		List<AbstractFileBuffer> newFileBuffers= new ArrayList<>(toCreate.length);
+		synchronized (fFilesBuffers) {
+			for (IPath location : missing) {
+				AbstractFileBuffer oldFileBuffer= internalGetFileBuffer(location);
+				// only the first occurrence of a location finds its new buffer
+				AbstractFileBuffer fileBuffer= created.remove(location);
+				if (oldFileBuffer != null) {
+					if (fileBuffer != null) {
+						fileBuffer.disconnect();
+						fileBuffer.dispose();
+					}
+					oldFileBuffer.connect();
+				} else {
+					fileBuffer.connect();
+					fFilesBuffers.put(location, fileBuffer);
+					newFileBuffers.add(fileBuffer);
+				}
+			}
+		}
+		subMonitor.done();
+
+		// Do notification outside synchronized block
+		for (AbstractFileBuffer fileBuffer : newFileBuffers)
+			fireBufferCreated(fileBuffer);
+	}
+
 	@Override
 	public void connectFileStore(IFileStore fileStore, IProgressMonitor monitor) throws CoreException {
 		Assert.isLegal(fileStore != null);
@@ -208,6 +308,46 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 		fileBuffer.dispose();
 	}
 
+	@Override
+	public void disconnectAll(IPath[] locations, LocationKind locationKind, IProgressMonitor monitor) throws CoreException {
+		internalDisconnect(normalizeLocations(locations, locationKind));
+	}
+
+	private void internalDisconnect(List<IPath> locations) throws CoreException {
+		List<AbstractFileBuffer> disconnected= new ArrayList<>();
+		try {
+			synchronized (fFilesBuffers) {
+				for (IPath location : locations) {
+					AbstractFileBuffer fileBuffer= internalGetFileBuffer(location);
+					if (fileBuffer == null)
+						continue;
+
+					fileBuffer.disconnect();
+					if (fileBuffer.isDisconnected()) {
+						fFilesBuffers.remove(location);
+						disconnected.add(fileBuffer);
+					}
+				}
+			}
+		} finally {
+			// Do notification outside synchronized block
+			for (AbstractFileBuffer fileBuffer : disconnected) {
+				fireBufferDisposed(fileBuffer);
+				fileBuffer.dispose();
+			}
+		}
+	}
+
+	private List<IPath> normalizeLocations(IPath[] locations, LocationKind locationKind) {
+		Assert.isNotNull(locations);
+		List<IPath> normalizedLocations= new ArrayList<>(locations.length);
+		for (IPath location : locations) {
+			Assert.isNotNull(location);
+			normalizedLocations.add(locationKind == LocationKind.NORMALIZE ? normalizeLocation(location) : location);
+		}
+		return normalizedLocations;
+	}
+
 	@Override
 	public void disconnectFileStore(IFileStore fileStore, IProgressMonitor monitor) throws CoreException {
 		Assert.isLegal(fileStore != null);
@@ -358,6 +498,17 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 		return (ITextFileBuffer)getFileBuffer(location, locationKind);
 	}
 
+	@Override
+	public ITextFileBuffer createReadOnlyTextFileBuffer(IPath location, LocationKind locationKind, IProgressMonitor monitor) throws CoreException {
+		Assert.isNotNull(location);
+		if (locationKind == LocationKind.NORMALIZE)
+			location= normalizeLocation(location);
+
+		AbstractFileBuffer fileBuffer= createReadOnlyFileBuffer(location, locationKind);
+		fileBuffer.create(location, monitor);
+		return (ITextFileBuffer)fileBuffer;
+	}
+
 	@Override
 	public ITextFileBuffer getFileStoreTextFileBuffer(IFileStore fileStore) {
 		Assert.isLegal(fileStore != null);
@@ -621,6 +772,19 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 		return new FileStoreTextFileBuffer(this);
 	}
 
+	/**
+	 * Creates a read-only text file buffer for the given path.
+	 *
+	 * @param location the location of the file to be read
+	 * @param locationKind the kind of the given location
+	 * @return the read-only text file buffer
+	 * @since 3.9
+	 */
+	protected AbstractFileBuffer createReadOnlyFileBuffer(IPath location, LocationKind locationKind) {
+		Assert.isLegal(locationKind != LocationKind.IFILE);
+		return new ReadOnlyFileStoreTextFileBuffer(this);
+	}
+
 //	private AbstractFileBuffer createBinaryFileBuffer(IPath location, LocationKind locationKind) {
 //		// XXX: should return a binary file buffer - using text file buffer for now
 //		return createTextFileBuffer(location, locationKind);
@@ -130,6 +130,7 @@ public class BindingTable {
 	private Map<TriggerSequence, ArrayList<Binding>> bindingsByPrefix = new HashMap<>();
 	private Map<TriggerSequence, ArrayList<Binding>> conflicts = new HashMap<>();
 	private Map<TriggerSequence, ArrayList<Binding>> orderedBindingsByTrigger = new HashMap<>();
+	private BindingTableManager manager;
 
 	public BindingTable(Context context) {
 		tableId = context;
@@ -143,6 +144,17 @@ public class BindingTable {
 		return tableId.getId();
 	}
 
+	/**
+	 * Sets the manager which is notified when the active bindings of this table
+	 * change.
+	 *
+	 * @param manager
+	 *            the manager, or <code>null</code>
+	 */
+	void setManager(BindingTableManager manager) {
+		this.manager = manager;
+	}
+
 	public Collection<Binding> getConflicts() {
 		Collection<Binding> conflictsList = new ArrayList<>();
 		for (ArrayList<Binding> conflictsForTrigger : conflicts.values()) {
@@ -210,6 +222,9 @@ public class BindingTable {
 			}
 			bindings.add(binding);
 		}
+		if (manager != null) {
+			manager.bindingAdded(this, binding);
+		}
 	}
 
 	private void removeBindingSimple(Binding binding) {
@@ -227,6 +242,9 @@ public class BindingTable {
 				bindings.remove(binding);
 			}
 		}
+		if (manager != null) {
+			manager.bindingRemoved(this, binding);
+		}
 	}
 
 	public void removeBinding(Binding binding) {
@@ -17,8 +17,11 @@ package org.eclipse.e4.ui.bindings.internal;
 import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
+import java.util.WeakHashMap;
 import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.commands.contexts.Context;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -38,6 +41,12 @@ public class BindingTableManager {
 
 	private String[] activeSchemeIds;
 
+	/**
+	 * The prefix trees which are currently referenced by a context set. They
+	 * are updated as bindings are added to or removed from the tables.
+	 */
+	private final Set<BindingTrie> tries = Collections.newSetFromMap(new WeakHashMap<>());
+
 	public void addTable(BindingTable table) {
 		String contextId = getTableId(table.getId());
 		if (eclipseContext.containsKey(contextId)) {
@@ -45,6 +54,8 @@ public class BindingTableManager {
 			//			throw new IllegalArgumentException("Already contains table " + contextId); //$NON-NLS-1$
 		}
 		eclipseContext.set(contextId, table);
+		table.setManager(this);
+		invalidateTries();
 		final List<Context> contexts = definedTables.getContexts();
 		if (!contexts.contains(table.getTableId())) {
 			// this is only valid because I'm throwing away the old definedTables contextSet
@@ -63,6 +74,8 @@ public class BindingTableManager {
 			throw new IllegalArgumentException("Does not contains table " + contextId); //$NON-NLS-1$
 		}
 		eclipseContext.remove(contextId);
+		table.setManager(null);
+		invalidateTries();
 		final List<Context> contexts = definedTables.getContexts();
 		if (contexts.contains(table.getTableId())) {
 			// this is only valid because I'm throwing away the old definedTables contextSet
@@ -122,9 +135,16 @@ public class BindingTableManager {
 	}
 
 	public Binding getPerfectMatch(ContextSet contextSet, TriggerSequence triggerSequence) {
+		return getTrie(contextSet).getPerfectMatch(triggerSequence);
+	}
+
+	/**
+	 * Looks up the binding which wins for a trigger sequence in the given
+	 * contexts, by asking the table of each context in turn.
+	 */
+	Binding findPerfectMatch(List<Context> contexts, TriggerSequence triggerSequence) {
 		Binding result = null;
 		Binding currentResult = null;
-		List<Context> contexts = contextSet.getContexts();
 		ListIterator<Context> it = contexts.listIterator(contexts.size());
 		while (it.hasPrevious()) {
 			Context c = it.previous();
@@ -201,18 +221,7 @@ public class BindingTableManager {
 	}
 
 	public boolean isPartialMatch(ContextSet contextSet, TriggerSequence sequence) {
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				if (table.isPartialMatch(sequence)) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return getTrie(contextSet).isPartialMatch(sequence);
 	}
 
 	public Collection<Binding> getPartialMatches(ContextSet contextSet, TriggerSequence sequence) {
@@ -235,6 +244,55 @@ public class BindingTableManager {
 	public void setActiveSchemes(String[] activeSchemeIds) {
 		this.activeSchemeIds = activeSchemeIds;
 		BindingTable.BEST_SEQUENCE.setActiveSchemes(activeSchemeIds);
+		invalidateTries();
+	}
+
+	/**
+	 * Returns the prefix tree merging the tables of the given context set. The
+	 * tree is built the first time it is requested, and shared with all equal
+	 * context sets.
+	 */
+	private BindingTrie getTrie(ContextSet contextSet) {
+		BindingTrie trie = contextSet.getTrie();
+		if (trie != null && trie.isValid()) {
+			return trie;
+		}
+		trie = null;
+		for (BindingTrie candidate : tries) {
+			if (candidate.getContexts().equals(contextSet.getContexts())) {
+				trie = candidate;
+				break;
+			}
+		}
+		if (trie == null) {
+			trie = new BindingTrie(this, contextSet.getContexts());
+			tries.add(trie);
+		}
+		contextSet.setTrie(trie);
+		return trie;
+	}
+
+	private void invalidateTries() {
+		for (BindingTrie trie : tries) {
+			trie.invalidate();
+		}
+		tries.clear();
+	}
+
+	void bindingAdded(BindingTable table, Binding binding) {
+		for (BindingTrie trie : tries) {
+			if (trie.includes(table.getId())) {
+				trie.bindingAdded(binding);
+			}
+		}
+	}
+
+	void bindingRemoved(BindingTable table, Binding binding) {
+		for (BindingTrie trie : tries) {
+			if (trie.includes(table.getId())) {
+				trie.bindingRemoved(binding);
+			}
+		}
 	}
 
 	/*
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.bindings.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.core.commands.contexts.Context;
+import org.eclipse.jface.bindings.Binding;
+import org.eclipse.jface.bindings.Trigger;
+import org.eclipse.jface.bindings.TriggerSequence;
+
+/**
+ * A prefix tree of the trigger sequences bound in the binding tables of a
+ * context set. Every node is also indexed by its trigger sequence, so that the
+ * look-ups done on every key stroke take time proportional to the length of the
+ * sequence and do not allocate.
+ * <p>
+ * The tree is kept up to date by the {@link BindingTableManager} as bindings
+ * are added to or removed from the tables.
+ * </p>
+ */
+class BindingTrie {
+
+	private static class Node {
+		final TriggerSequence sequence;
+		final Node parent;
+		Map<Trigger, Node> children;
+
+		/**
+		 * The number of tables in which this sequence is bound.
+		 */
+		int perfectCount;
+
+		/**
+		 * The number of bindings, over all tables, for longer sequences which
+		 * start with this sequence.
+		 */
+		int partialCount;
+
+		/**
+		 * The binding which wins for this sequence in the context set, or
+		 * <code>null</code>.
+		 */
+		Binding perfectMatch;
+
+		Node(TriggerSequence sequence, Node parent) {
+			this.sequence = sequence;
+			this.parent = parent;
+		}
+	}
+
+	private final BindingTableManager manager;
+	private final List<Context> contexts;
+	private final Set<String> contextIds = new HashSet<>();
+	private final Node root = new Node(null, null);
+	private final Map<TriggerSequence, Node> nodes = new HashMap<>();
+	private boolean valid = true;
+
+	BindingTrie(BindingTableManager manager, List<Context> contexts) {
+		this.manager = manager;
+		this.contexts = new ArrayList<>(contexts);
+		for (Context context : contexts) {
+			contextIds.add(context.getId());
+			BindingTable table = manager.getTable(context.getId());
+			if (table != null) {
+				for (Binding binding : table.getBindings()) {
+					insert(binding);
+				}
+			}
+		}
+		for (Node node : nodes.values()) {
+			resolve(node);
+		}
+	}
+
+	List<Context> getContexts() {
+		return contexts;
+	}
+
+	boolean includes(String contextId) {
+		return contextIds.contains(contextId);
+	}
+
+	boolean isValid() {
+		return valid;
+	}
+
+	void invalidate() {
+		valid = false;
+	}
+
+	Binding getPerfectMatch(TriggerSequence sequence) {
+		Node node = nodes.get(sequence);
+		return node == null ? null : node.perfectMatch;
+	}
+
+	boolean isPartialMatch(TriggerSequence sequence) {
+		Node node = nodes.get(sequence);
+		return node != null && node.partialCount > 0;
+	}
+
+	void bindingAdded(Binding binding) {
+		resolve(insert(binding));
+	}
+
+	void bindingRemoved(Binding binding) {
+		Node node = nodes.get(binding.getTriggerSequence());
+		if (node == null) {
+			return;
+		}
+		node.perfectCount--;
+		for (Node ancestor = node.parent; ancestor != root; ancestor = ancestor.parent) {
+			ancestor.partialCount--;
+		}
+		resolve(node);
+		prune(node);
+	}
+
+	private Node insert(Binding binding) {
+		TriggerSequence sequence = binding.getTriggerSequence();
+		Node node = nodes.get(sequence);
+		if (node == null) {
+			node = createPath(sequence);
+		}
+		node.perfectCount++;
+		for (Node ancestor = node.parent; ancestor != root; ancestor = ancestor.parent) {
+			ancestor.partialCount++;
+		}
+		return node;
+	}
+
+	private Node createPath(TriggerSequence sequence) {
+		Trigger[] triggers = sequence.getTriggers();
+		TriggerSequence[] prefixes = sequence.getPrefixes();
+		Node node = root;
+		for (int i = 0; i < triggers.length; i++) {
+			if (node.children == null) {
+				node.children = new HashMap<>(4);
+			}
+			Node child = node.children.get(triggers[i]);
+			if (child == null) {
+				TriggerSequence childSequence = i == triggers.length - 1 ? sequence : prefixes[i + 1];
+				child = new Node(childSequence, node);
+				node.children.put(triggers[i], child);
+				nodes.put(childSequence, child);
+			}
+			node = child;
+		}
+		return node;
+	}
+
+	private void prune(Node node) {
+		while (node != root && node.perfectCount == 0 && node.partialCount == 0
+				&& (node.children == null || node.children.isEmpty())) {
+			Trigger[] triggers = node.sequence.getTriggers();
+			node.parent.children.remove(triggers[triggers.length - 1]);
+			nodes.remove(node.sequence);
+			node = node.parent;
+		}
+	}
+
+	private void resolve(Node node) {
+		node.perfectMatch = node.perfectCount > 0 ? manager.findPerfectMatch(contexts, node.sequence) : null;
+	}
+}
@@ -74,6 +74,8 @@ public class ContextSet {
 
 	private List<Context> contexts;
 
+	private BindingTrie trie;
+
 	public ContextSet(Collection<Context> c) {
 		contexts = new ArrayList<>(c);
 		contexts.sort(CONTEXT_COMP);
@@ -83,6 +85,14 @@ public class ContextSet {
 		return contexts;
 	}
 
+	BindingTrie getTrie() {
+		return trie;
+	}
+
+	void setTrie(BindingTrie trie) {
+		this.trie = trie;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o == this) {
@@ -18,6 +18,7 @@ package org.eclipse.e4.ui.progress.internal;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.DoubleAdder;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.jobs.Job;
@@ -39,7 +40,11 @@ class GroupInfo extends JobTreeElement implements IProgressMonitor {
 
 	double total = -1;
 
-	double currentWork;
+	/**
+	 * The work done by the jobs of the group. It is updated by the threads of all
+	 * these jobs, so it is accumulated without locking.
+	 */
+	final DoubleAdder currentWork = new DoubleAdder();
 
 	private ProgressManager progressManager;
 
@@ -84,7 +89,7 @@ class GroupInfo extends JobTreeElement implements IProgressMonitor {
 	 * @return int
 	 */
 	int getPercentDone() {
-		return (int) (currentWork * 100 / total);
+		return (int) (currentWork.sum() * 100 / total);
 	}
 
 	@Override
@@ -134,10 +139,7 @@ class GroupInfo extends JobTreeElement implements IProgressMonitor {
 
 	@Override
 	public void internalWorked(double work) {
-		synchronized (lock) {
-			currentWork += work;
-		}
-
+		currentWork.add(work);
 	}
 
 	@Override
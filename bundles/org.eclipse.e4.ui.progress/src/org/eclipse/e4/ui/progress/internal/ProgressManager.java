@@ -29,6 +29,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.ICoreRunnable;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -76,8 +77,11 @@ public class ProgressManager extends ProgressProvider {
 
 	private static ProgressManager singleton;
 
-	final private Map<Job, JobInfo> jobs = Collections
-			.synchronizedMap(new HashMap<>());
+	/**
+	 * The infos of the known jobs. It is read on every progress tick of every job,
+	 * so it is a concurrent map rather than a synchronized one.
+	 */
+	final private Map<Job, JobInfo> jobs = new ConcurrentHashMap<>();
 
 	final Map<Job, JobMonitor> runnableMonitors = new HashMap<>();
 
@@ -210,8 +214,7 @@ public class ProgressManager extends ProgressProvider {
 	JobInfo getJobInfo(Job job) {
 		JobInfo info = internalGetJobInfo(job);
 		if (info == null) {
-			info = jobInfoFactory.getJobInfo(job);
-			jobs.put(job, info);
+			info = jobs.computeIfAbsent(job, jobInfoFactory::getJobInfo);
 		}
 		return info;
 	}
@@ -698,17 +701,15 @@ public class ProgressManager extends ProgressProvider {
 	 * @return JobInfo[]
 	 */
 	public JobInfo[] getJobInfos(boolean debug) {
-		synchronized (jobs) {
-			Collection<JobInfo> result = new ArrayList<>();
-			for (Entry<Job, JobInfo> entry : jobs.entrySet()) {
-				if (!isCurrentDisplaying(entry.getKey(), debug)) {
-					result.add(entry.getValue());
-				}
+		Collection<JobInfo> result = new ArrayList<>();
+		for (Entry<Job, JobInfo> entry : jobs.entrySet()) {
+			if (!isCurrentDisplaying(entry.getKey(), debug)) {
+				result.add(entry.getValue());
 			}
-			JobInfo[] infos = new JobInfo[result.size()];
-			result.toArray(infos);
-			return infos;
 		}
+		JobInfo[] infos = new JobInfo[result.size()];
+		result.toArray(infos);
+		return infos;
 	}
 
 	/**
@@ -718,23 +719,21 @@ public class ProgressManager extends ProgressProvider {
 	 * @return JobTreeElement[]
 	 */
 	public JobTreeElement[] getRootElements(boolean debug) {
-		synchronized (jobs) {
-			Collection<JobTreeElement> result = new HashSet<>();
-			for (Entry<Job, JobInfo> entry : jobs.entrySet()) {
-				if (!isCurrentDisplaying(entry.getKey(), debug)) {
-					JobInfo jobInfo = entry.getValue();
-					GroupInfo group = jobInfo.getGroupInfo();
-					if (group == null) {
-						result.add(jobInfo);
-					} else {
-						result.add(group);
-					}
+		Collection<JobTreeElement> result = new HashSet<>();
+		for (Entry<Job, JobInfo> entry : jobs.entrySet()) {
+			if (!isCurrentDisplaying(entry.getKey(), debug)) {
+				JobInfo jobInfo = entry.getValue();
+				GroupInfo group = jobInfo.getGroupInfo();
+				if (group == null) {
+					result.add(jobInfo);
+				} else {
+					result.add(group);
 				}
 			}
-			JobTreeElement[] infos = new JobTreeElement[result.size()];
-			result.toArray(infos);
-			return infos;
 		}
+		JobTreeElement[] infos = new JobTreeElement[result.size()];
+		result.toArray(infos);
+		return infos;
 	}
 
 	/**
@@ -743,9 +742,7 @@ public class ProgressManager extends ProgressProvider {
 	 * @return boolean
 	 */
 	public boolean hasJobInfos() {
-		synchronized (jobs) {
-			return !jobs.isEmpty();
-		}
+		return !jobs.isEmpty();
 	}
 
 	/**
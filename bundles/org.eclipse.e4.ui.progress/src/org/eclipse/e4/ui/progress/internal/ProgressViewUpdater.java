@@ -17,6 +17,10 @@ package org.eclipse.e4.ui.progress.internal;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -43,35 +47,33 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 
 	Job updateJob;
 
-	UpdatesInfo currentInfo = new UpdatesInfo();
-
-	Object updateLock = new Object();
+	final AtomicReference<UpdatesInfo> currentInfo = new AtomicReference<>(new UpdatesInfo());
 
 	@Inject
 	ProgressManager progressManager;
 
-	static class MutableBoolean {
-		boolean value;
-	}
-
 	/*
 	 * True when update job is scheduled or running. This is used to limit the
 	 * update job to no more than once every 100 ms. See bug 258352 and 395645.
 	 */
-	MutableBoolean updateScheduled = new MutableBoolean();
+	final AtomicBoolean updateScheduled = new AtomicBoolean();
 
 	/**
 	 * The UpdatesInfo is a private class for keeping track of the updates required.
+	 * The jobs report their progress from many threads at once, so the updates are
+	 * collected in concurrent sets without locking. The repeated updates of an
+	 * element are coalesced until the update job replaces the whole info by a new
+	 * one and processes it.
 	 */
 	static class UpdatesInfo {
 
-		Collection<JobTreeElement> additions = new HashSet<>();
+		Collection<JobTreeElement> additions = ConcurrentHashMap.newKeySet();
 
-		Collection<JobTreeElement> deletions = new HashSet<>();
+		Collection<JobTreeElement> deletions = ConcurrentHashMap.newKeySet();
 
-		Collection<JobTreeElement> refreshes = new HashSet<>();
+		Collection<JobTreeElement> refreshes = ConcurrentHashMap.newKeySet();
 
-		boolean updateAll = false;
+		volatile boolean updateAll = false;
 
 		private UpdatesInfo() {
 			// Create a new instance of the info
@@ -99,16 +101,13 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 		}
 
 		/**
-		 * Reset the caches after completion of an update.
+		 * @return the elements to refresh, to add and to remove
 		 */
-		void reset() {
-			additions.clear();
-			deletions.clear();
-			refreshes.clear();
-			updateAll = false;
-		}
+		Object[][] processForUpdate() {
+			Collection<JobTreeElement> refreshes = new HashSet<>(this.refreshes);
+			Collection<JobTreeElement> additions = new HashSet<>(this.additions);
+			Collection<JobTreeElement> deletions = new HashSet<>(this.deletions);
 
-		void processForUpdate() {
 			HashSet<JobTreeElement> staleAdditions = new HashSet<>();
 
 			Iterator<JobTreeElement> additionsIterator = additions.iterator();
@@ -146,6 +145,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 
 			refreshes.removeAll(obsoleteRefresh);
 
+			return new Object[][] { refreshes.toArray(), additions.toArray(), deletions.toArray() };
 		}
 	}
 
@@ -198,14 +198,9 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 	void scheduleUpdate() {
 		if (PlatformUI.isWorkbenchRunning()) {
 			// make sure we don't schedule too often
-			boolean scheduleUpdate = false;
-			synchronized (updateScheduled) {
-				if (!updateScheduled.value || updateJob.getState() == Job.NONE) {
-					updateScheduled.value = scheduleUpdate = true;
-				}
-			}
-			if (scheduleUpdate)
+			if (updateScheduled.compareAndSet(false, true) || updateJob.getState() == Job.NONE) {
 				updateJob.schedule(100);
+			}
 		}
 	}
 
@@ -216,38 +211,26 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 		updateJob = new UIJob(ProgressMessages.ProgressContentProvider_UpdateProgressJob) {
 			@Override
 			public IStatus runInUIThread(IProgressMonitor monitor) {
-				synchronized (updateScheduled) {
-					// updates requested while we are running should cause it to
-					// be rescheduled
-					updateScheduled.value = false;
-				}
+				// updates requested while we are running should cause it to
+				// be rescheduled
+				updateScheduled.set(false);
 				// Abort the job if there isn't anything
 				if (collectors.length == 0) {
 					return Status.CANCEL_STATUS;
 				}
 
-				if (currentInfo.updateAll) {
-					synchronized (updateLock) {
-						currentInfo.reset();
-					}
+				// Take the pending updates, new ones go to the next update
+				UpdatesInfo info = currentInfo.getAndSet(new UpdatesInfo());
+				if (info.updateAll) {
 					for (IProgressUpdateCollector collector : collectors) {
 						collector.refresh();
 					}
 
 				} else {
-					// Lock while getting local copies of the caches.
-					Object[] updateItems;
-					Object[] additionItems;
-					Object[] deletionItems;
-					synchronized (updateLock) {
-						currentInfo.processForUpdate();
-
-						updateItems = currentInfo.refreshes.toArray();
-						additionItems = currentInfo.additions.toArray();
-						deletionItems = currentInfo.deletions.toArray();
-
-						currentInfo.reset();
-					}
+					Object[][] items = info.processForUpdate();
+					Object[] updateItems = items[0];
+					Object[] additionItems = items[1];
+					Object[] deletionItems = items[2];
 
 					for (IProgressUpdateCollector collector : collectors) {
 						if (updateItems.length > 0) {
@@ -267,9 +250,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 
 			@Override
 			protected void canceling() {
-				synchronized (updateScheduled) {
-					updateScheduled.value = false;
-				}
+				updateScheduled.set(false);
 			}
 		};
 		updateJob.setSystem(true);
@@ -284,7 +265,22 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 	 * @return Returns the currentInfo.
 	 */
 	UpdatesInfo getCurrentInfo() {
-		return currentInfo;
+		return currentInfo.get();
+	}
+
+	/**
+	 * Records an update in the pending updates. An update recorded while the
+	 * update job takes the pending updates may be missed by it, so it is
+	 * recorded again in the updates that replaced them. Processing an update
+	 * twice is harmless.
+	 */
+	private void addUpdate(Consumer<UpdatesInfo> update) {
+		UpdatesInfo info = currentInfo.get();
+		update.accept(info);
+		UpdatesInfo newInfo = currentInfo.get();
+		if (newInfo != info) {
+			update.accept(newInfo);
+		}
 	}
 
 	/**
@@ -296,12 +292,10 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 			return;
 		}
 
-		synchronized (updateLock) {
-			currentInfo.refresh(info);
-			GroupInfo group = info.getGroupInfo();
-			if (group != null) {
-				currentInfo.refresh(group);
-			}
+		addUpdate(i -> i.refresh(info));
+		GroupInfo group = info.getGroupInfo();
+		if (group != null) {
+			addUpdate(i -> i.refresh(group));
 		}
 		// Add in a 100ms delay so as to keep priority low
 		scheduleUpdate();
@@ -315,9 +309,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 			return;
 		}
 
-		synchronized (updateLock) {
-			currentInfo.refresh(info);
-		}
+		addUpdate(i -> i.refresh(info));
 		// Add in a 100ms delay so as to keep priority low
 		scheduleUpdate();
 
@@ -325,9 +317,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 
 	@Override
 	public void refreshGroup(GroupInfo info) {
-		synchronized (updateLock) {
-			currentInfo.refresh(info);
-		}
+		addUpdate(i -> i.refresh(info));
 		// Add in a 100ms delay so as to keep priority low
 		scheduleUpdate();
 
@@ -336,9 +326,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 	@Override
 	public void addGroup(GroupInfo info) {
 
-		synchronized (updateLock) {
-			currentInfo.add(info);
-		}
+		addUpdate(i -> i.add(info));
 		scheduleUpdate();
 
 	}
@@ -346,9 +334,7 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 	@Override
 	public void refreshAll() {
 
-		synchronized (updateLock) {
-			currentInfo.updateAll = true;
-		}
+		addUpdate(i -> i.updateAll = true);
 
 		// Add in a 100ms delay so as to keep priority low
 		scheduleUpdate();
@@ -362,14 +348,12 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 			return;
 		}
 
-		synchronized (updateLock) {
-			GroupInfo group = info.getGroupInfo();
+		GroupInfo group = info.getGroupInfo();
 
-			if (group == null) {
-				currentInfo.add(info);
-			} else {
-				currentInfo.refresh(group);
-			}
+		if (group == null) {
+			addUpdate(i -> i.add(info));
+		} else {
+			addUpdate(i -> i.refresh(group));
 		}
 		scheduleUpdate();
 
@@ -382,22 +366,18 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 			return;
 		}
 
-		synchronized (updateLock) {
-			GroupInfo group = info.getGroupInfo();
-			if (group == null) {
-				currentInfo.remove(info);
-			} else {
-				currentInfo.refresh(group);
-			}
+		GroupInfo group = info.getGroupInfo();
+		if (group == null) {
+			addUpdate(i -> i.remove(info));
+		} else {
+			addUpdate(i -> i.refresh(group));
 		}
 		scheduleUpdate();
 	}
 
 	@Override
 	public void removeGroup(GroupInfo group) {
-		synchronized (updateLock) {
-			currentInfo.remove(group);
-		}
+		addUpdate(i -> i.remove(group));
 		scheduleUpdate();
 
 	}
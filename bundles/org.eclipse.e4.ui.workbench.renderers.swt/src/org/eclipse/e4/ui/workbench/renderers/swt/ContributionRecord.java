@@ -89,7 +89,18 @@ public class ContributionRecord {
 	}
 
 	public void updateVisibility(IEclipseContext context) {
-		ExpressionContext exprContext = new ExpressionContext(context);
+		updateVisibility(new ExpressionContext(context));
+	}
+
+	/**
+	 * Updates the visibility of the contributed elements. Expressions are
+	 * evaluated at most once per expression context.
+	 *
+	 * @param exprContext
+	 *            the context to evaluate the <code>visibleWhen</code>
+	 *            expressions in
+	 */
+	public void updateVisibility(ExpressionContext exprContext) {
 		updateIsVisible(exprContext);
 		HashSet<ContributionRecord> recentlyUpdated = new HashSet<>();
 		recentlyUpdated.add(this);
@@ -132,7 +143,7 @@ public class ContributionRecord {
 
 	public void updateIsVisible(ExpressionContext exprContext) {
 		isVisible = ContributionsAnalyzer.isVisible(menuContribution,
-				exprContext);
+				exprContext, renderer.getVisibilityCache());
 	}
 
 	public boolean computeVisibility(
@@ -164,7 +175,8 @@ public class ContributionRecord {
 			}
 		}
 		if (currentVisibility && item.getVisibleWhen() != null) {
-			boolean val = ContributionsAnalyzer.isVisible(item.getVisibleWhen(), exprContext);
+			boolean val = ContributionsAnalyzer.isVisible(item.getVisibleWhen(), exprContext,
+					renderer.getVisibilityCache());
 			currentVisibility = val;
 		}
 		return currentVisibility;
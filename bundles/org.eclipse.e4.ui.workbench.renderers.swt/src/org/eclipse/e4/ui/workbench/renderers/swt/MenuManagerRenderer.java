@@ -48,6 +48,7 @@ import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.log.Logger;
 import org.eclipse.e4.ui.di.UIEventTopic;
 import org.eclipse.e4.ui.internal.workbench.ContributionsAnalyzer;
+import org.eclipse.e4.ui.internal.workbench.ExpressionResultCache;
 import org.eclipse.e4.ui.internal.workbench.OpaqueElementUtil;
 import org.eclipse.e4.ui.internal.workbench.RenderedElementUtil;
 import org.eclipse.e4.ui.internal.workbench.swt.Policy;
@@ -110,6 +111,8 @@ public class MenuManagerRenderer extends SWTPartRenderer {
 
 	private Collection<IContributionManager> mgrToUpdate = new LinkedHashSet<>();
 
+	private final ExpressionResultCache visibilityCache = new ExpressionResultCache();
+
 	@Inject
 	private Logger logger;
 
@@ -893,6 +896,14 @@ public class MenuManagerRenderer extends SWTPartRenderer {
 		}
 	}
 
+	/**
+	 * @return the cache for the results of the <code>visibleWhen</code>
+	 *         expressions of the menus rendered by this renderer
+	 */
+	public ExpressionResultCache getVisibilityCache() {
+		return visibilityCache;
+	}
+
 	public ContributionRecord getContributionRecord(MMenuElement element) {
 		return modelContributionToRecord.get(element);
 	}
@@ -1059,6 +1070,18 @@ public class MenuManagerRenderer extends SWTPartRenderer {
 	}
 
 	public static void updateVisibility(MenuManager menuManager, MMenuElement element, ExpressionContext evalContext) {
+		updateVisibility(menuManager, element, evalContext, null);
+	}
+
+	/**
+	 * Updates the visibility of the element, reusing the results of
+	 * <code>visibleWhen</code> expressions from the given cache.
+	 *
+	 * @param cache
+	 *            the expression result cache, may be <code>null</code>
+	 */
+	public static void updateVisibility(MenuManager menuManager, MMenuElement element, ExpressionContext evalContext,
+			ExpressionResultCache cache) {
 		boolean current = element.isVisible();
 		boolean visible = true;
 		boolean evaluated = false;
@@ -1072,7 +1095,7 @@ public class MenuManagerRenderer extends SWTPartRenderer {
 		}
 		if (visible && element.getVisibleWhen() != null) {
 			evaluated = true;
-			visible = ContributionsAnalyzer.isVisible(element.getVisibleWhen(), evalContext);
+			visible = ContributionsAnalyzer.isVisible(element.getVisibleWhen(), evalContext, cache);
 		}
 		if (evaluated && visible != current) {
 			element.setVisible(visible);
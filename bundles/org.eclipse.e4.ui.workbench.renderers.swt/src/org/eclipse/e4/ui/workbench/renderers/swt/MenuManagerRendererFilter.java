@@ -170,11 +170,11 @@ public class MenuManagerRendererFilter implements Listener {
 			ContributionRecord record = renderer.getContributionRecord(element);
 			if (record != null) {
 				if (records.add(record)) {
-					record.updateVisibility(evalContext);
+					record.updateVisibility(exprContext);
 				}
 			} else {
 				MenuManagerRenderer.updateVisibility(menuManager, element,
-						exprContext);
+						exprContext, renderer.getVisibilityCache());
 			}
 			if (recurseLevel > 0 && element.isVisible()
 					&& element instanceof MMenu) {
@@ -14,21 +14,38 @@
 
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.e4.ui.internal.workbench.swt.Policy;
+import org.eclipse.e4.ui.internal.workbench.swt.WorkbenchSWTActivator;
 import org.eclipse.e4.ui.workbench.Selector;
 import org.eclipse.swt.widgets.Display;
 
+/**
+ * Recomputes the enablement of the tool items of a toolbar renderer.
+ * <p>
+ * Update requests are debounced: all items selected between two runs are
+ * queued once and evaluated in a single pass, which runs once no request
+ * arrived for the configured delay. If requests keep coming, the queue is still
+ * flushed after at most that delay. With the <code>/trace/enablement</code>
+ * debug option the number of evaluations per second is traced.
+ * </p>
+ */
 public class ToolItemUpdater implements Runnable {
 
 	private static int DELAY = 100;
+	private static final long STATS_INTERVAL = TimeUnit.SECONDS.toNanos(1);
 	private long timestampOfEarliestQueuedUpdate = 0;
-	private List<AbstractContributionItem> itemsToCheck = new ArrayList<>();
-	private final List<AbstractContributionItem> orphanedToolItems = new ArrayList<>();
+	private final Set<AbstractContributionItem> itemsToCheck = new LinkedHashSet<>();
 	private final Set<AbstractContributionItem> itemsToUpdateLater = new LinkedHashSet<>();
 
+	private long statsStart;
+	private int evaluations;
+	private int batches;
+	private int requests;
+
 	public ToolItemUpdater() {
 		String delayProperty = System.getProperty("ToolItemUpdaterDelayInMs"); //$NON-NLS-1$
 		if (delayProperty != null) {
@@ -37,54 +54,77 @@ public class ToolItemUpdater implements Runnable {
 	}
 
 	void registerItem(AbstractContributionItem item) {
-		if (!itemsToCheck.contains(item)) {
-			itemsToCheck.add(item);
-		}
+		itemsToCheck.add(item);
 	}
 
 	void removeItem(AbstractContributionItem item) {
 		itemsToCheck.remove(item);
+		itemsToUpdateLater.remove(item);
 	}
 
 	public void updateContributionItems(Selector selector) {
-		boolean doRunNow = false;
-		for (final AbstractContributionItem ci : itemsToCheck) {
-			if (ci.getModel() != null && ci.getModel().getParent() != null) {
-				if (selector.select(ci.getModel())) {
-					itemsToUpdateLater.add(ci);
-					if (timestampOfEarliestQueuedUpdate == 0) {
-						timestampOfEarliestQueuedUpdate = System.nanoTime();
-					}
-					if (System.nanoTime() - timestampOfEarliestQueuedUpdate > DELAY * 1_000_000) {
-						// runnable was not called within the last DELAY milliseconds, do it now.
-						// For scenario: a plugin is forcing that updateContributionItems is called
-						// again and again in less than given DELAY frequency. TimerExec would then
-						// never be executed.
-						doRunNow = true;
-					} else {
-						Display.getDefault().timerExec(DELAY, this);
-					}
-				}
-			} else {
-				orphanedToolItems.add(ci);
+		requests++;
+		for (Iterator<AbstractContributionItem> it = itemsToCheck.iterator(); it.hasNext();) {
+			AbstractContributionItem ci = it.next();
+			if (ci.getModel() == null || ci.getModel().getParent() == null) {
+				// orphaned item
+				it.remove();
+			} else if (selector.select(ci.getModel())) {
+				itemsToUpdateLater.add(ci);
 			}
 		}
-		if (!orphanedToolItems.isEmpty()) {
-			itemsToCheck.removeAll(orphanedToolItems);
-			orphanedToolItems.clear();
+		if (itemsToUpdateLater.isEmpty()) {
+			return;
+		}
+		if (timestampOfEarliestQueuedUpdate == 0) {
+			timestampOfEarliestQueuedUpdate = System.nanoTime();
 		}
-		if (doRunNow) {
+		if (System.nanoTime() - timestampOfEarliestQueuedUpdate > DELAY * 1_000_000L) {
+			// runnable was not called within the last DELAY milliseconds, do it now.
+			// For scenario: a plugin is forcing that updateContributionItems is called
+			// again and again in less than given DELAY frequency. TimerExec would then
+			// never be executed.
+			Display.getDefault().timerExec(-1, this);
 			run();
+		} else {
+			// one timer per request, re-arming it postpones the pending run
+			Display.getDefault().timerExec(DELAY, this);
 		}
 	}
 
 	@Override
 	public void run() {
 		timestampOfEarliestQueuedUpdate = 0;
+		if (itemsToUpdateLater.isEmpty()) {
+			return;
+		}
 		AbstractContributionItem[] copy = itemsToUpdateLater.toArray(new AbstractContributionItem[] {});
 		itemsToUpdateLater.clear();
 		for (AbstractContributionItem it : copy) {
 			it.updateItemEnablement();
 		}
+		if (Policy.DEBUG_ENABLEMENT) {
+			traceStatistics(copy.length);
+		}
+	}
+
+	private void traceStatistics(int evaluated) {
+		long now = System.nanoTime();
+		if (statsStart == 0) {
+			statsStart = now;
+		}
+		evaluations += evaluated;
+		batches++;
+		long elapsed = now - statsStart;
+		if (elapsed >= STATS_INTERVAL) {
+			long perSecond = evaluations * STATS_INTERVAL / elapsed;
+			WorkbenchSWTActivator.trace(Policy.DEBUG_ENABLEMENT_FLAG, "tool item enablement: " + perSecond //$NON-NLS-1$
+					+ " evaluations/s (" + evaluations + " in " + batches + " batches for " + requests //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " requests over " + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms)", null); //$NON-NLS-1$ //$NON-NLS-2$
+			statsStart = now;
+			evaluations = 0;
+			batches = 0;
+			requests = 0;
+		}
 	}
 }
@@ -33,13 +33,23 @@ import org.eclipse.e4.ui.model.application.ui.basic.MTrimElement;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.menu.MTrimContribution;
 import org.eclipse.e4.ui.model.application.ui.menu.impl.ToolBarImpl;
+import org.eclipse.e4.ui.workbench.IPresentationEngine;
 import org.eclipse.e4.ui.workbench.swt.factories.IRendererFactory;
 import org.eclipse.jface.action.ToolBarManager;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
 
 public class TrimBarRenderer extends SWTPartRenderer {
+	/**
+	 * Name of the system property, or context variable, which enables the
+	 * deferred rendering of hidden trim elements. When set to
+	 * <code>true</code>, trim elements which are not visible when their trim
+	 * bar is rendered are only created once they become visible.
+	 */
+	public static final String DEFER_HIDDEN_TRIM = "org.eclipse.e4.ui.workbench.renderers.swt.deferHiddenTrim"; //$NON-NLS-1$
+
 	private MApplication application;
+	private boolean deferHiddenTrim;
 
 	synchronized private void layoutTrim(MTrimBar trimBar) {
 		Composite comp = (Composite) trimBar.getWidget();
@@ -52,6 +62,9 @@ public class TrimBarRenderer extends SWTPartRenderer {
 	public void init(IEclipseContext context) {
 		super.init(context);
 		application = context.get(MApplication.class);
+		Object defer = context.get(DEFER_HIDDEN_TRIM);
+		deferHiddenTrim = defer != null ? Boolean.parseBoolean(defer.toString())
+				: Boolean.getBoolean(DEFER_HIDDEN_TRIM);
 	}
 
 	@Override
@@ -103,7 +116,17 @@ public class TrimBarRenderer extends SWTPartRenderer {
 	public void processContents(MElementContainer<MUIElement> me) {
 		if (!(((MUIElement) me) instanceof MTrimBar))
 			return;
-		super.processContents(me);
+		if (deferHiddenTrim) {
+			// hidden elements are rendered by the engine once they are shown
+			IPresentationEngine renderer = context.get(IPresentationEngine.class);
+			for (MUIElement child : new ArrayList<>(me.getChildren())) {
+				if (child.isVisible()) {
+					renderer.createGui(child);
+				}
+			}
+		} else {
+			super.processContents(me);
+		}
 		IEclipseContext ctx = getContext(me);
 		ExpressionContext eContext = new ExpressionContext(ctx);
 		MElementContainer<?> trimObj = me;
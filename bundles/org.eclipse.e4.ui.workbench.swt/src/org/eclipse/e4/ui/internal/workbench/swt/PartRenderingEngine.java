@@ -75,6 +75,7 @@ import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
 import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimBar;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
 import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
@@ -206,6 +207,13 @@ public class PartRenderingEngine implements IPresentationEngine {
 
 		// Re-parent the control based on the visible state
 		if (changedElement.isVisible()) {
+			if (changedElement.isToBeRendered() && changedElement.getWidget() == null
+					&& parent instanceof MTrimBar && parent.getWidget() != null) {
+				// trim elements may have been left unrendered while hidden
+				createGui(changedElement);
+				fixZOrder(changedElement);
+				return;
+			}
 			if (changedElement.isToBeRendered()) {
 				if (changedElement.getWidget() instanceof Control && //
 						renderer.getUIContainer(changedElement) instanceof Composite) {
@@ -22,6 +22,7 @@ public class Policy {
 	public static final String DEBUG_MENUS_FLAG = "/trace/menus"; //$NON-NLS-1$
 	public static final String DEBUG_RENDERER_FLAG = "/trace/renderer"; //$NON-NLS-1$
 	public static final String DEBUG_WORKBENCH_FLAG = "/trace/workbench"; //$NON-NLS-1$
+	public static final String DEBUG_ENABLEMENT_FLAG = "/trace/enablement"; //$NON-NLS-1$
 
 	/***/
 	public static boolean DEBUG;
@@ -39,4 +40,6 @@ public class Policy {
 	public static boolean DEBUG_RENDERER;
 	/***/
 	public static boolean DEBUG_WORKBENCH;
+	/***/
+	public static boolean DEBUG_ENABLEMENT;
 }
@@ -18,6 +18,8 @@ import static org.eclipse.e4.ui.internal.workbench.swt.Policy.DEBUG_CMDS;
 import static org.eclipse.e4.ui.internal.workbench.swt.Policy.DEBUG_CMDS_FLAG;
 import static org.eclipse.e4.ui.internal.workbench.swt.Policy.DEBUG_CONTEXTS;
 import static org.eclipse.e4.ui.internal.workbench.swt.Policy.DEBUG_CONTEXTS_FLAG;
+import static org.eclipse.e4.ui.internal.workbench.swt.Policy.DEBUG_ENABLEMENT;
+import static org.eclipse.e4.ui.internal.workbench.swt.Policy.DEBUG_ENABLEMENT_FLAG;
 import static org.eclipse.e4.ui.internal.workbench.swt.Policy.DEBUG_FLAG;
 import static org.eclipse.e4.ui.internal.workbench.swt.Policy.DEBUG_FOCUS;
 import static org.eclipse.e4.ui.internal.workbench.swt.Policy.DEBUG_FOCUS_FLAG;
@@ -136,6 +138,7 @@ public class WorkbenchSWTActivator implements BundleActivator, DebugOptionsListe
 		DEBUG_MENUS = options.getBooleanOption(PI_RENDERERS + DEBUG_MENUS_FLAG, false);
 		DEBUG_RENDERER = options.getBooleanOption(PI_RENDERERS + DEBUG_RENDERER_FLAG, false);
 		DEBUG_WORKBENCH = options.getBooleanOption(PI_RENDERERS + DEBUG_WORKBENCH_FLAG, false);
+		DEBUG_ENABLEMENT = options.getBooleanOption(PI_RENDERERS + DEBUG_ENABLEMENT_FLAG, false);
 	}
 
 	public DebugTrace getTrace() {
@@ -211,10 +211,23 @@ public final class ContributionsAnalyzer {
 	}
 
 	public static boolean isVisible(MMenuContribution menuContribution, ExpressionContext eContext) {
+		return isVisible(menuContribution, eContext, null);
+	}
+
+	/**
+	 * Evaluates the <code>visibleWhen</code> of the contribution, reusing
+	 * results from the given cache.
+	 *
+	 * @param cache
+	 *            the cache to reuse expression results from, may be
+	 *            <code>null</code>
+	 */
+	public static boolean isVisible(MMenuContribution menuContribution, ExpressionContext eContext,
+			ExpressionResultCache cache) {
 		if (menuContribution.getVisibleWhen() == null) {
 			return true;
 		}
-		return isVisible(menuContribution.getVisibleWhen(), eContext);
+		return isVisible(menuContribution.getVisibleWhen(), eContext, cache);
 	}
 
 	public static boolean isVisible(MToolBarContribution contribution, ExpressionContext eContext) {
@@ -232,9 +245,21 @@ public final class ContributionsAnalyzer {
 	}
 
 	public static boolean isVisible(MExpression exp, final ExpressionContext eContext) {
+		return isVisible(exp, eContext, null);
+	}
+
+	/**
+	 * Evaluates the expression, reusing core expression results from the given
+	 * cache. Imperative expressions are always evaluated.
+	 *
+	 * @param cache
+	 *            the cache to reuse core expression results from, may be
+	 *            <code>null</code>
+	 */
+	public static boolean isVisible(MExpression exp, final ExpressionContext eContext, ExpressionResultCache cache) {
 		if (exp instanceof MCoreExpression) {
 			MCoreExpression coreExpression = (MCoreExpression) exp;
-			return isCoreExpressionVisible(coreExpression, eContext);
+			return isCoreExpressionVisible(coreExpression, eContext, cache);
 		} else if (exp instanceof MImperativeExpression) {
 			return isImperativeExpressionVisible((MImperativeExpression) exp, eContext);
 		}
@@ -242,7 +267,8 @@ public final class ContributionsAnalyzer {
 		return true;
 	}
 
-	private static boolean isCoreExpressionVisible(MCoreExpression coreExpression, final ExpressionContext eContext) {
+	private static boolean isCoreExpressionVisible(MCoreExpression coreExpression, final ExpressionContext eContext,
+			ExpressionResultCache cache) {
 		final Expression ref;
 		if (coreExpression.getCoreExpression() instanceof Expression) {
 			ref = (Expression) coreExpression.getCoreExpression();
@@ -253,14 +279,15 @@ public final class ContributionsAnalyzer {
 		// Creates dependency on a predefined value that can be "poked" by
 		// the evaluation
 		// service
-		ExpressionInfo info = ref.computeExpressionInfo();
+		ExpressionInfo info = cache == null ? ref.computeExpressionInfo() : cache.getExpressionInfo(ref);
 		String[] names = info.getAccessedPropertyNames();
 		for (String name : names) {
 			eContext.getVariable(name + ".evaluationServiceLink"); //$NON-NLS-1$
 		}
 		boolean ret = false;
 		try {
-			ret = ref.evaluate(eContext) != EvaluationResult.FALSE;
+			EvaluationResult result = cache == null ? ref.evaluate(eContext) : cache.evaluate(ref, eContext);
+			ret = result != EvaluationResult.FALSE;
 		} catch (Exception e) {
 			if (DEBUG) {
 				trace("isVisible exception", e); //$NON-NLS-1$
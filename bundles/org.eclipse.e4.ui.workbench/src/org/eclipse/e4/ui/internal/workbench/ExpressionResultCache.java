@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionInfo;
+import org.eclipse.core.expressions.IEvaluationContext;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.e4.core.commands.ExpressionContext;
+
+/**
+ * Remembers the results of core expressions used as <code>visibleWhen</code>
+ * of menu contributions, together with the values of the variables each
+ * expression read.
+ * <p>
+ * A result is reused as long as every variable the expression accesses still
+ * holds the same (identical) value. Expressions which call property testers,
+ * read system properties or cannot describe what they access may depend on
+ * state outside of the evaluation context, their results are only reused
+ * within one evaluation pass, i.e. for the same {@link ExpressionContext}.
+ * </p>
+ * <p>
+ * Results of expressions which resolve variables through the context's
+ * resolvers are never reused, as they depend on more than the variable values.
+ * Neither is {@link EvaluationResult#NOT_LOADED}, as the result may change once
+ * the plug-in providing an adapter is loaded.
+ * </p>
+ * <p>
+ * Expressions are held weakly, the entries of expressions which are no longer
+ * referenced by a contribution, e.g. because it was removed, are dropped.
+ * </p>
+ * <p>
+ * This class is meant to be used from the UI thread only.
+ * </p>
+ */
+public final class ExpressionResultCache {
+
+	private static final Object NULL_VALUE = new Object();
+
+	private static final class Entry {
+		final ExpressionInfo info;
+		final String[] variableNames;
+		boolean cacheable = true;
+		final boolean passOnly;
+		WeakReference<ExpressionContext> pass;
+		/** The values read, held weakly unless they are values like numbers. */
+		Object[] values;
+		EvaluationResult result;
+
+		Entry(Expression expression) {
+			info = expression.computeExpressionInfo();
+			variableNames = info.getAccessedVariableNames();
+			passOnly = info.getAccessedPropertyNames().length > 0 || info.hasSystemPropertyAccess()
+					|| info.getMisbehavingExpressionTypes() != null;
+		}
+	}
+
+	private final Map<Expression, Entry> entries = new WeakHashMap<>();
+
+	/**
+	 * Returns the expression information of the given expression, computing it
+	 * only once.
+	 *
+	 * @param expression
+	 *            the expression
+	 * @return the information about what the expression accesses
+	 */
+	public ExpressionInfo getExpressionInfo(Expression expression) {
+		return getEntry(expression).info;
+	}
+
+	/**
+	 * Evaluates the expression in the given context unless a result computed
+	 * for the same variable values is available.
+	 *
+	 * @param expression
+	 *            the expression
+	 * @param context
+	 *            the evaluation context
+	 * @return the result of the evaluation
+	 * @throws CoreException
+	 *             if the evaluation fails
+	 */
+	public EvaluationResult evaluate(Expression expression, ExpressionContext context) throws CoreException {
+		Entry entry = getEntry(expression);
+		if (!entry.cacheable) {
+			return expression.evaluate(context);
+		}
+		Object[] values = getValues(entry, context);
+		if (entry.result != null && (isSamePass(entry, context) || (!entry.passOnly && isSameValues(entry, values)))) {
+			return entry.result;
+		}
+		entry.result = null;
+		ResolverTrackingContext trackingContext = new ResolverTrackingContext(context);
+		EvaluationResult result = expression.evaluate(trackingContext);
+		if (trackingContext.resolved) {
+			entry.cacheable = false;
+		} else if (result != EvaluationResult.NOT_LOADED) {
+			entry.pass = new WeakReference<>(context);
+			entry.values = createReferences(values);
+			entry.result = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Forgets all results.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * @return the number of expressions for which results are cached
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private Entry getEntry(Expression expression) {
+		return entries.computeIfAbsent(expression, Entry::new);
+	}
+
+	private static Object[] getValues(Entry entry, ExpressionContext context) {
+		// always read the variables, the callers track these accesses
+		List<Object> values = new ArrayList<>(entry.variableNames.length + 1);
+		for (String name : entry.variableNames) {
+			addValue(values, context.getVariable(name));
+		}
+		if (entry.info.hasDefaultVariableAccess()) {
+			addValue(values, context.getDefaultVariable());
+		}
+		return values.toArray();
+	}
+
+	private static void addValue(List<Object> values, Object value) {
+		if (value instanceof Collection) {
+			// collections like the default variable are often created on every
+			// access or changed in place, compare their elements instead
+			Collection<?> elements = (Collection<?>) value;
+			values.add(Integer.valueOf(elements.size()));
+			values.addAll(elements);
+		} else {
+			values.add(value);
+		}
+	}
+
+	private static boolean isSamePass(Entry entry, ExpressionContext context) {
+		return entry.pass != null && entry.pass.get() == context;
+	}
+
+	private static boolean isSameValues(Entry entry, Object[] values) {
+		if (entry.values == null || entry.values.length != values.length) {
+			return false;
+		}
+		for (int i = 0; i < values.length; i++) {
+			Object value = values[i] == null ? NULL_VALUE : values[i];
+			Object cached = entry.values[i];
+			if (cached instanceof WeakReference<?> reference ? reference.get() != value : !cached.equals(value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Object[] createReferences(Object[] values) {
+		Object[] references = new Object[values.length];
+		for (int i = 0; i < values.length; i++) {
+			Object value = values[i] == null ? NULL_VALUE : values[i];
+			// values like collection sizes are only referenced by the cache
+			references[i] = isPlainValue(value) ? value : new WeakReference<>(value);
+		}
+		return references;
+	}
+
+	private static boolean isPlainValue(Object value) {
+		return value == NULL_VALUE || value instanceof Number || value instanceof Boolean
+				|| value instanceof Character || value instanceof String;
+	}
+
+	/**
+	 * Evaluates on behalf of a context and records whether the expression
+	 * resolved a variable through the resolvers of the context.
+	 */
+	private static final class ResolverTrackingContext extends ExpressionContext {
+		private final ExpressionContext context;
+		boolean resolved;
+
+		ResolverTrackingContext(ExpressionContext context) {
+			super(context.eclipseContext);
+			this.context = context;
+		}
+
+		@Override
+		public Object resolveVariable(String name, Object[] args) throws CoreException {
+			resolved = true;
+			return context.resolveVariable(name, args);
+		}
+
+		@Override
+		public Object getVariable(String name) {
+			return context.getVariable(name);
+		}
+
+		@Override
+		public Object getDefaultVariable() {
+			return context.getDefaultVariable();
+		}
+
+		@Override
+		public IEvaluationContext getParent() {
+			return context.getParent();
+		}
+
+		@Override
+		public IEvaluationContext getRoot() {
+			IEvaluationContext root = context.getRoot();
+			return root == context ? this : root;
+		}
+
+		@Override
+		public void setAllowPluginActivation(boolean value) {
+			context.setAllowPluginActivation(value);
+		}
+
+		@Override
+		public boolean getAllowPluginActivation() {
+			return context.getAllowPluginActivation();
+		}
+
+		@Override
+		public void addVariable(String name, Object value) {
+			context.addVariable(name, value);
+		}
+
+		@Override
+		public Object removeVariable(String name) {
+			return context.removeVariable(name);
+		}
+	}
+}
@@ -25,6 +25,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -39,6 +42,7 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 
 import org.eclipse.jface.contentassist.IContentAssistSubjectControl;
@@ -60,6 +64,33 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 
 	private static final int MAX_WAIT_IN_MS= 50; // TODO make it a preference
 
+	private static final boolean DEBUG= "true".equalsIgnoreCase(Platform.getDebugOption("org.eclipse.jface.text/debug/AsyncContentAssist")); //$NON-NLS-1$//$NON-NLS-2$
+
+	/**
+	 * The maximum number of processors computing proposals at the same time for one popup, hence
+	 * for one viewer.
+	 *
+	 * @since 3.27
+	 */
+	private static final int MAX_PARALLEL_COMPUTATIONS= Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+	private static final String COMPUTATION_THREAD_NAME= "Content Assist Computation"; //$NON-NLS-1$
+
+	/**
+	 * The future of the computation running in the current thread, if any.
+	 *
+	 * @see #isCurrentComputationCanceled()
+	 */
+	private static final ThreadLocal<CompletableFuture<?>> CURRENT_COMPUTATION= new ThreadLocal<>();
+
+	/**
+	 * The executor running the processors' computations, created lazily. Its threads are dropped
+	 * once idle for a few seconds.
+	 *
+	 * @since 3.27
+	 */
+	private ThreadPoolExecutor fComputationExecutor;
+
 	/**
 	 * This is only used and set when populating the dialog is async (ie computation takes more than
 	 * MAX_WAIT_IN_MS
@@ -372,28 +403,92 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 		}
 		List<CompletableFuture<List<ICompletionProposal>>> futures = new ArrayList<>(processors.size());
 		for (IContentAssistProcessor processor : processors) {
-			futures.add(CompletableFuture.supplyAsync(() -> {
-				AtomicReference<List<ICompletionProposal>> result= new AtomicReference<>();
-				SafeRunner.run(() -> {
-					ICompletionProposal[] proposals= processor.computeCompletionProposals(fViewer, invocationOffset);
-					if (proposals == null) {
-						result.set(Collections.emptyList());
-					} else {
-						result.set(Arrays.asList(proposals));
-					}
-				});
-				List<ICompletionProposal> proposals= result.get();
-				if (proposals == null) { // an error occurred during computeCompletionProposal,
-					// possible improvement: give user feedback by returning an error "proposal" shown
-					// in completion popup and providing details
-					return Collections.emptyList();
-				}
-				return proposals;
-			}));
+			futures.add(computeProposalsAsync(processor, invocationOffset));
 		}
 		return futures;
 	}
 
+	/**
+	 * Schedules the computation of the given processor's proposals on this popup's executor.
+	 * Canceling the returned future removes the computation from the queue if it has not started
+	 * yet. A running processor is not interrupted, it can check
+	 * {@link ContentAssistant#isProposalComputationCanceled()} to stop early.
+	 *
+	 * @param processor the processor to compute the proposals with
+	 * @param invocationOffset the offset at which content assist was invoked
+	 * @return the future proposals, empty if the computation failed
+	 * @since 3.27
+	 */
+	private CompletableFuture<List<ICompletionProposal>> computeProposalsAsync(IContentAssistProcessor processor, int invocationOffset) {
+		CompletableFuture<List<ICompletionProposal>> result= new CompletableFuture<>();
+		Future<?> task= getComputationExecutor().submit(() -> {
+			if (!result.isDone()) {
+				CURRENT_COMPUTATION.set(result);
+				try {
+					result.complete(computeProposals(processor, invocationOffset));
+				} finally {
+					CURRENT_COMPUTATION.remove();
+				}
+			}
+		});
+		result.whenComplete((proposals, e) -> {
+			if (result.isCancelled()) {
+				task.cancel(false);
+			}
+		});
+		return result;
+	}
+
+	private List<ICompletionProposal> computeProposals(IContentAssistProcessor processor, int invocationOffset) {
+		long start= DEBUG ? System.nanoTime() : 0;
+		AtomicReference<List<ICompletionProposal>> result= new AtomicReference<>();
+		SafeRunner.run(() -> {
+			ICompletionProposal[] proposals= processor.computeCompletionProposals(fViewer, invocationOffset);
+			if (proposals == null) {
+				result.set(Collections.emptyList());
+			} else {
+				result.set(Arrays.asList(proposals));
+			}
+		});
+		List<ICompletionProposal> proposals= result.get();
+		if (DEBUG) {
+			long duration= TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			System.out.println("AsyncCompletionProposalPopup: " + processor.getClass().getName() //$NON-NLS-1$
+					+ (proposals == null ? " failed" : " computed " + proposals.size() + " proposals") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " in " + duration + "ms" //$NON-NLS-1$ //$NON-NLS-2$
+					+ (isCurrentComputationCanceled() ? " (canceled)" : "")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		if (proposals == null) { // an error occurred during computeCompletionProposal,
+			// possible improvement: give user feedback by returning an error "proposal" shown
+			// in completion popup and providing details
+			return Collections.emptyList();
+		}
+		return proposals;
+	}
+
+	/**
+	 * Returns whether the proposal computation running in the current thread has been canceled.
+	 *
+	 * @return <code>true</code> if the current thread computes proposals for a popup and that
+	 *         computation has been canceled, <code>false</code> otherwise
+	 */
+	static boolean isCurrentComputationCanceled() {
+		CompletableFuture<?> computation= CURRENT_COMPUTATION.get();
+		return computation != null && computation.isCancelled();
+	}
+
+	private synchronized ThreadPoolExecutor getComputationExecutor() {
+		if (fComputationExecutor == null) {
+			fComputationExecutor= new ThreadPoolExecutor(MAX_PARALLEL_COMPUTATIONS, MAX_PARALLEL_COMPUTATIONS, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, COMPUTATION_THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			});
+			fComputationExecutor.allowCoreThreadTimeOut(true);
+		}
+		return fComputationExecutor;
+	}
+
 	private String getTokenContentType(int invocationOffset) throws BadLocationException {
 		if (fContentAssistSubjectControl != null) {
 			IDocument document= fContentAssistSubjectControl.getDocument();
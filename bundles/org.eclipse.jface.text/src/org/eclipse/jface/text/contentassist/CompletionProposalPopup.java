@@ -24,7 +24,9 @@ import static org.eclipse.jface.util.Util.isValid;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.osgi.util.TextProcessor;
@@ -450,6 +452,29 @@ class CompletionProposalPopup implements IContentAssistListener {
 	 */
 	boolean fIsInitialSort;
 
+	/**
+	 * The number of leading proposals which are sorted first when sorting a long list of
+	 * proposals, comfortably more than the proposal table shows at once.
+	 *
+	 * @since 3.27
+	 */
+	private static final int SORTED_PAGE_SIZE= 100;
+
+	/**
+	 * The list of proposals of which only the first {@link #fSortedCount} elements have been
+	 * sorted by {@link #sortProposals(List)}, or <code>null</code> if there is no such list.
+	 *
+	 * @since 3.27
+	 */
+	private List<ICompletionProposal> fPartiallySortedProposals;
+
+	/**
+	 * The number of sorted leading elements of {@link #fPartiallySortedProposals}.
+	 *
+	 * @since 3.27
+	 */
+	private int fSortedCount;
+
 	/**
 	 * Creates a new completion proposal popup for the given elements.
 	 *
@@ -864,6 +889,7 @@ class CompletionProposalPopup implements IContentAssistListener {
 
 		List<ICompletionProposal> proposals= fFilteredProposals;
 		if (0 <= index && index < proposals.size()) {
+			ensureSorted(proposals, index);
 			ICompletionProposal current= proposals.get(index);
 
 			String displayString;
@@ -935,6 +961,7 @@ class CompletionProposalPopup implements IContentAssistListener {
 		if (proposals == null || i < 0 || i >= proposals.size()) {
 			return null;
 		}
+		ensureSorted(proposals, i);
 		return proposals.get(i);
 	}
 
@@ -1139,6 +1166,7 @@ class CompletionProposalPopup implements IContentAssistListener {
 
 		fFilteredProposals= null;
 		fComputedProposals= null;
+		fPartiallySortedProposals= null;
 
 		fContentAssistant.possibleCompletionsClosed();
 	}
@@ -1448,6 +1476,7 @@ class CompletionProposalPopup implements IContentAssistListener {
 			return;
 		}
 
+		ensureSorted(proposals, index);
 		ICompletionProposal proposal= proposals.get(index);
 		if (proposal instanceof ICompletionProposalExtension2 && fViewer != null)
 			((ICompletionProposalExtension2) proposal).selected(fViewer, smartToggle);
@@ -2018,12 +2047,75 @@ class CompletionProposalPopup implements IContentAssistListener {
 
 	/**
 	 * Sorts the given proposal array.
+	 * <p>
+	 * For long lists only the first {@link #SORTED_PAGE_SIZE} proposals are selected and sorted
+	 * with a bounded heap, the remaining ones are sorted by {@link #ensureSorted(List, int)} once
+	 * they are shown. The result is the same as the one of a stable sort of the whole list.
+	 * </p>
 	 *
 	 * @param proposals the new proposals to display in the popup window
 	 * @throws NullPointerException if no sorter has been set
 	 * @since 3.8
 	 */
 	void sortProposals(final List<ICompletionProposal> proposals) {
-		proposals.sort(fSorter::compare);
+		int size= proposals.size();
+		if (size <= 4 * SORTED_PAGE_SIZE) {
+			proposals.sort(fSorter::compare);
+			fPartiallySortedProposals= null;
+			return;
+		}
+
+		// proposals of asynchronous computations may be added to a synchronized list concurrently
+		synchronized (proposals) {
+			size= proposals.size();
+			ICompletionProposal[] original= proposals.toArray(new ICompletionProposal[size]);
+			Comparator<Integer> order= (i, j) -> {
+				int result= fSorter.compare(original[i], original[j]);
+				return result != 0 ? result : Integer.compare(i, j);
+			};
+			// the heap root is the last of the best proposals seen so far
+			PriorityQueue<Integer> heap= new PriorityQueue<>(SORTED_PAGE_SIZE + 1, order.reversed());
+			for (int i= 0; i < size; i++) {
+				if (heap.size() < SORTED_PAGE_SIZE) {
+					heap.add(i);
+				} else if (order.compare(i, heap.peek()) < 0) {
+					heap.poll();
+					heap.add(i);
+				}
+			}
+
+			// the best proposals in order, followed by all others in their original order
+			boolean[] selected= new boolean[size];
+			for (int k= SORTED_PAGE_SIZE - 1; k >= 0; k--) {
+				int i= heap.poll();
+				selected[i]= true;
+				proposals.set(k, original[i]);
+			}
+			int k= SORTED_PAGE_SIZE;
+			for (int i= 0; i < size; i++) {
+				if (!selected[i])
+					proposals.set(k++, original[i]);
+			}
+		}
+		fPartiallySortedProposals= proposals;
+		fSortedCount= SORTED_PAGE_SIZE;
+	}
+
+	/**
+	 * Sorts the remaining proposals of a partially sorted list if the proposal at the given index
+	 * is not sorted yet.
+	 *
+	 * @param proposals the proposals about to be accessed
+	 * @param index the index of the proposal about to be accessed
+	 * @since 3.27
+	 */
+	private void ensureSorted(List<ICompletionProposal> proposals, int index) {
+		if (proposals == fPartiallySortedProposals && index >= fSortedCount) {
+			fPartiallySortedProposals= null;
+			// proposals of asynchronous computations may be added to a synchronized list concurrently
+			synchronized (proposals) {
+				proposals.subList(fSortedCount, proposals.size()).sort(fSorter::compare);
+			}
+		}
 	}
 }
@@ -2759,6 +2759,22 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 		fCompletionProposalTriggerCharsEnabled= enable;
 	}
 
+	/**
+	 * Returns whether the asynchronous proposal computation running in the calling thread has been
+	 * canceled, for example because the proposal popup was closed. Processors of an asynchronous
+	 * content assistant can check this during a long computation and return early. The computing
+	 * thread is not interrupted on cancellation.
+	 *
+	 * @return <code>true</code> if the calling thread computes proposals for an asynchronous
+	 *         content assistant and that computation has been canceled, <code>false</code>
+	 *         otherwise
+	 * @see #ContentAssistant(boolean)
+	 * @since 3.27
+	 */
+	public static boolean isProposalComputationCanceled() {
+		return AsyncCompletionProposalPopup.isCurrentComputationCanceled();
+	}
+
 	boolean isAutoActivation() {
 		return fIsAutoActivated;
 	}
@@ -281,6 +281,38 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	 */
 	private Map prefixTable;
 
+	/**
+	 * The cached binding set holding the solution that was most recently made
+	 * active. It is used as the starting point when the solution can be
+	 * updated incrementally, i.e., when only the trigger sequences affected by
+	 * a change in the active contexts or bindings need to be solved again. This
+	 * value is <code>null</code> if there is no solution to start from.
+	 */
+	private CachedBindingSet incrementalBase = null;
+
+	/**
+	 * The trigger sequences for which bindings have been added or removed
+	 * since <code>incrementalBase</code> was computed. This value is never
+	 * <code>null</code>, but may be empty.
+	 */
+	private final Set<TriggerSequence> dirtySequences = new HashSet<>();
+
+	/**
+	 * The bindings indexed by their trigger sequence. The bindings for each
+	 * sequence appear in the same order as in <code>bindings</code>. This
+	 * value is <code>null</code> if it has not yet been computed for the
+	 * current set of bindings.
+	 */
+	private Map<TriggerSequence, List<Binding>> bindingsBySequence = null;
+
+	/**
+	 * The trigger sequences indexed by the identifier of the context in which
+	 * they are bound. This is computed together with
+	 * <code>bindingsBySequence</code>, and may contain sequences for which
+	 * the binding in that context has since been removed.
+	 */
+	private Map<String, Set<TriggerSequence>> sequencesByContextId = null;
+
 	/**
 	 * <p>
 	 * Constructs a new instance of <code>BindingManager</code>.
@@ -339,7 +371,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 			System.arraycopy(oldBindings, 0, bindings, 0, oldBindings.length);
 		}
 		bindings[bindingCount++] = binding;
-		clearCache();
+		clearCache(binding, true);
 	}
 
 	/**
@@ -434,9 +466,57 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 			Tracing.printTrace("BINDINGS", "Clearing cache"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		cachedBindings.clear();
+		bindingsBySequence = null;
+		sequencesByContextId = null;
 		clearSolution();
 	}
 
+	/**
+	 * <p>
+	 * Clears the cache after a single binding has been added or removed. As
+	 * deletion markers only apply to bindings with the same trigger sequence,
+	 * such a change can only affect the solution for that sequence. The
+	 * existing solution is therefore kept as the base for an incremental
+	 * recomputation, if there is one.
+	 * </p>
+	 * <p>
+	 * This method completes in <code>O(1)</code> when adding, and in
+	 * <code>O(k)</code> when removing, where <code>k</code> is the number of
+	 * bindings for the binding's trigger sequence.
+	 * </p>
+	 *
+	 * @param binding
+	 *            The binding that was added or removed; must not be
+	 *            <code>null</code>.
+	 * @param added
+	 *            <code>true</code> if the binding was added;
+	 *            <code>false</code> if it was removed.
+	 */
+	private final void clearCache(final Binding binding, final boolean added) {
+		if (incrementalBase == null) {
+			clearCache();
+			return;
+		}
+
+		final TriggerSequence sequence = binding.getTriggerSequence();
+		if (DEBUG) {
+			Tracing.printTrace("BINDINGS", "Clearing cache for " + sequence); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		if (bindingsBySequence != null) {
+			if (added) {
+				indexBinding(binding);
+			} else {
+				final List<Binding> sequenceBindings = bindingsBySequence.get(sequence);
+				if (sequenceBindings != null) {
+					sequenceBindings.removeIf(b -> b == binding);
+				}
+			}
+		}
+		cachedBindings.clear();
+		dirtySequences.add(sequence);
+		setActiveBindings(null, null, null, null);
+	}
+
 	/**
 	 * <p>
 	 * Clears the existing solution.
@@ -445,6 +525,8 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	 * This method completes in <code>O(1)</code>.
 	 */
 	private final void clearSolution() {
+		incrementalBase = null;
+		dirtySequences.clear();
 		setActiveBindings(null, null, null, null);
 	}
 
@@ -532,7 +614,6 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 		final int length = trimmedBindings.length;
 		for (int i = 0; i < length; i++) {
 			final Binding binding = trimmedBindings[i];
-			boolean found;
 
 			// Check the context.
 			final String contextId = binding.getContextId();
@@ -552,17 +633,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 			}
 
 			// Check the scheme ids.
-			final String schemeId = binding.getSchemeId();
-			found = false;
-			if (activeSchemeIds != null) {
-				for (String activeSchemeId : activeSchemeIds) {
-					if (Objects.equals(schemeId, activeSchemeId)) {
-						found = true;
-						break;
-					}
-				}
-			}
-			if (!found) {
+			if (!isActiveScheme(binding.getSchemeId())) {
 				continue;
 			}
 
@@ -585,9 +656,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 			}
 		}
 
-		MultiStatus conflicts = new MultiStatus("org.eclipse.jface", 0, //$NON-NLS-1$
-				"Keybinding conflicts occurred.  They may interfere with normal accelerator operation.", //$NON-NLS-1$
-				null);
+		final MultiStatus conflicts = createConflictsStatus();
 		/*
 		 * THIRD PASS: In this pass, we move any non-conflicting bindings
 		 * directly into the map. In the case of conflicts, we apply some
@@ -637,33 +706,8 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 				final Binding winner = resolveConflicts((Collection) match,
 						activeContextTree);
 				if (winner == null) {
-					// warn once ... so as not to flood the logs
 					conflictsByTrigger.put(trigger, match);
-					if (triggerConflicts.add(trigger)) {
-						final StringWriter sw = new StringWriter();
-						final BufferedWriter buffer = new BufferedWriter(sw);
-						try {
-							buffer.write("A conflict occurred for "); //$NON-NLS-1$
-							buffer.write(trigger.toString());
-							buffer.write(':');
-							Iterator i = ((Collection) match).iterator();
-							while (i.hasNext()) {
-								buffer.newLine();
-								buffer.write(i.next().toString());
-							}
-							buffer.flush();
-						} catch (IOException e) {
-							// we should not get this
-						}
-						conflicts.add(new Status(IStatus.WARNING,
-								"org.eclipse.jface", //$NON-NLS-1$
-								sw.toString()));
-					}
-					if (DEBUG) {
-						Tracing.printTrace("BINDINGS", //$NON-NLS-1$
-								"A conflict occurred for " + trigger); //$NON-NLS-1$
-						Tracing.printTrace("BINDINGS", "    " + match); //$NON-NLS-1$ //$NON-NLS-2$
-					}
+					addConflict(conflicts, trigger, (Collection) match);
 				} else {
 					bindingsByTrigger.put(trigger, winner);
 					addReverseLookup(triggersByCommandId, winner
@@ -676,6 +720,186 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 		}
 	}
 
+	/**
+	 * <p>
+	 * Updates the solution of the incremental base for a new tree of active
+	 * contexts. Only the trigger sequences which have a binding in a context
+	 * that was activated or deactivated, or whose bindings have changed, are
+	 * solved again. The maps of the incremental base are not modified; they are
+	 * copied, and the nested collections are only copied where they change.
+	 * </p>
+	 * <p>
+	 * This method completes in <code>O(n+kp)</code>, where <code>n</code>
+	 * is the number of active bindings, <code>k</code> is the number of
+	 * bindings for the affected trigger sequences and <code>p</code> is the
+	 * average number of triggers in a trigger sequence.
+	 * </p>
+	 *
+	 * @param activeContextTree
+	 *            The map representing the tree of active contexts. The map is
+	 *            one of child to parent, each being a context id (
+	 *            <code>String</code>). This value must not be
+	 *            <code>null</code>.
+	 * @param bindingSet
+	 *            The uninitialized binding set which should receive the
+	 *            solution; must not be <code>null</code>.
+	 * @return <code>true</code> if the binding set was initialized;
+	 *         <code>false</code> if the solution cannot be updated
+	 *         incrementally, and needs to be computed from scratch.
+	 */
+	private final boolean computeBindingsIncrementally(
+			final Map activeContextTree, final CachedBindingSet bindingSet) {
+		final CachedBindingSet base = incrementalBase;
+		if ((base == null) || (!base.isInitialized())
+				|| (!base.hasSameEnvironment(bindingSet))) {
+			return false;
+		}
+		final Map previousContextTree = base.getActiveContextTree();
+		if (previousContextTree == null) {
+			return false;
+		}
+
+		// Find the contexts which have been activated or deactivated.
+		final Set<String> changedContextIds = new HashSet<>();
+		final Iterator contextItr = previousContextTree.entrySet().iterator();
+		while (contextItr.hasNext()) {
+			final Map.Entry entry = (Map.Entry) contextItr.next();
+			final String contextId = (String) entry.getKey();
+			if (!activeContextTree.containsKey(contextId)) {
+				changedContextIds.add(contextId);
+			} else if (!Objects.equals(entry.getValue(),
+					activeContextTree.get(contextId))) {
+				// The hierarchy itself has changed.
+				return false;
+			}
+		}
+		final Iterator activeContextItr = activeContextTree.keySet().iterator();
+		while (activeContextItr.hasNext()) {
+			final String contextId = (String) activeContextItr.next();
+			if (!previousContextTree.containsKey(contextId)) {
+				changedContextIds.add(contextId);
+			}
+		}
+
+		if (bindingsBySequence == null) {
+			bindingsBySequence = new HashMap<>();
+			sequencesByContextId = new HashMap<>();
+			for (int i = 0; i < bindingCount; i++) {
+				indexBinding(bindings[i]);
+			}
+		}
+
+		// Find the trigger sequences which need to be solved again.
+		final Set<TriggerSequence> affectedSequences = new HashSet<>(dirtySequences);
+		for (final String contextId : changedContextIds) {
+			final Set<TriggerSequence> sequences = sequencesByContextId.get(contextId);
+			if (sequences != null) {
+				affectedSequences.addAll(sequences);
+			}
+		}
+		if (DEBUG) {
+			Tracing.printTrace("BINDINGS", "Incremental update of " //$NON-NLS-1$ //$NON-NLS-2$
+					+ affectedSequences.size() + " trigger sequences"); //$NON-NLS-1$
+		}
+
+		final Map bindingsByTrigger = new HashMap(base.getBindingsByTrigger());
+		final Map triggersByCommandId = new HashMap(base.getTriggersByCommandId());
+		final Map conflictsByTrigger = new HashMap(base.getConflictsByTrigger());
+		final Map newPrefixTable = new HashMap(base.getPrefixTable());
+		final Set copiedCommands = new HashSet();
+		final Set copiedPrefixes = new HashSet();
+		final List<TriggerSequence> removedSequences = new ArrayList<>();
+		final Map<TriggerSequence, Binding> addedSequences = new HashMap<>();
+		final MultiStatus conflicts = createConflictsStatus();
+
+		for (final TriggerSequence sequence : affectedSequences) {
+			conflictsByTrigger.remove(sequence);
+			final Binding oldWinner = (Binding) bindingsByTrigger.get(sequence);
+			final Binding newWinner = solveSequence(sequence, activeContextTree,
+					conflictsByTrigger, conflicts);
+			if (oldWinner == newWinner) {
+				continue;
+			}
+
+			if (oldWinner != null) {
+				final Object command = oldWinner.getParameterizedCommand();
+				copyReverseLookup(triggersByCommandId, command, copiedCommands);
+				final Collection triggers = (Collection) triggersByCommandId.get(command);
+				if (triggers != null) {
+					triggers.remove(sequence);
+					if (triggers.isEmpty()) {
+						triggersByCommandId.remove(command);
+					}
+				}
+			}
+
+			if (newWinner == null) {
+				bindingsByTrigger.remove(sequence);
+				removedSequences.add(sequence);
+			} else {
+				bindingsByTrigger.put(sequence, newWinner);
+				final Object command = newWinner.getParameterizedCommand();
+				copyReverseLookup(triggersByCommandId, command, copiedCommands);
+				addReverseLookup(triggersByCommandId, command, sequence);
+				addedSequences.put(sequence, newWinner);
+			}
+		}
+
+		/*
+		 * The prefix table is updated only after the active bindings are
+		 * complete, as removing a sequence needs to know whether its prefixes
+		 * are still perfect matches.
+		 */
+		for (final TriggerSequence sequence : removedSequences) {
+			if (newPrefixTable.containsKey(sequence)
+					&& (newPrefixTable.get(sequence) == null)) {
+				newPrefixTable.remove(sequence);
+			}
+			for (final TriggerSequence prefix : sequence.getPrefixes()) {
+				final Map completions = copyPrefix(newPrefixTable, prefix,
+						copiedPrefixes);
+				if (completions == null) {
+					continue;
+				}
+				completions.remove(sequence);
+				if (completions.isEmpty()) {
+					if (bindingsByTrigger.containsKey(prefix)) {
+						newPrefixTable.put(prefix, null);
+					} else {
+						newPrefixTable.remove(prefix);
+					}
+				}
+			}
+		}
+		for (final Map.Entry<TriggerSequence, Binding> entry : addedSequences
+				.entrySet()) {
+			final TriggerSequence sequence = entry.getKey();
+			if (!newPrefixTable.containsKey(sequence)) {
+				newPrefixTable.put(sequence, null);
+			}
+			for (final TriggerSequence prefix : sequence.getPrefixes()) {
+				Map completions = copyPrefix(newPrefixTable, prefix,
+						copiedPrefixes);
+				if (completions == null) {
+					completions = new HashMap();
+					newPrefixTable.put(prefix, completions);
+					copiedPrefixes.add(prefix);
+				}
+				completions.put(sequence, entry.getValue());
+			}
+		}
+
+		if (conflicts.getSeverity() != IStatus.OK) {
+			Policy.getLog().log(conflicts);
+		}
+
+		bindingSet.setBindingsByTrigger(bindingsByTrigger);
+		bindingSet.setTriggersByCommandId(triggersByCommandId);
+		bindingSet.setConflictsByTrigger(conflictsByTrigger);
+		bindingSet.setPrefixTable(newPrefixTable);
+		return true;
+	}
+
 	/**
 	 * <p>
 	 * Notifies this manager that the context manager has changed. This method
@@ -694,6 +918,116 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 		}
 	}
 
+	/**
+	 * Makes sure that the collection of triggers for the given command is not
+	 * shared with another solution, by replacing it with a copy the first time
+	 * it is requested.
+	 *
+	 * @param triggersByCommandId
+	 *            The map of commands to collections of triggers; must not be
+	 *            <code>null</code>.
+	 * @param command
+	 *            The command whose triggers are about to be modified; may be
+	 *            <code>null</code>.
+	 * @param copiedCommands
+	 *            The commands whose triggers have already been copied; must
+	 *            not be <code>null</code>.
+	 */
+	private static void copyReverseLookup(final Map triggersByCommandId,
+			final Object command, final Set copiedCommands) {
+		if (copiedCommands.add(command)) {
+			final Collection triggers = (Collection) triggersByCommandId.get(command);
+			if (triggers != null) {
+				triggersByCommandId.put(command, new ArrayList(triggers));
+			}
+		}
+	}
+
+	/**
+	 * Returns the map of completions for a prefix in the given prefix table,
+	 * making sure that it is not shared with another solution by replacing it
+	 * with a copy the first time it is requested.
+	 *
+	 * @param prefixTable
+	 *            The prefix table; must not be <code>null</code>.
+	 * @param prefix
+	 *            The prefix whose completions are about to be modified; must
+	 *            not be <code>null</code>.
+	 * @param copiedPrefixes
+	 *            The prefixes whose completions have already been copied; must
+	 *            not be <code>null</code>.
+	 * @return The modifiable map of completions, or <code>null</code> if
+	 *         there are no completions for the prefix.
+	 */
+	private static Map copyPrefix(final Map prefixTable, final Object prefix,
+			final Set copiedPrefixes) {
+		final Object completions = prefixTable.get(prefix);
+		if (!(completions instanceof Map)) {
+			return null;
+		}
+		if (copiedPrefixes.add(prefix)) {
+			final Map copy = new HashMap((Map) completions);
+			prefixTable.put(prefix, copy);
+			return copy;
+		}
+		return (Map) completions;
+	}
+
+	/**
+	 * Creates the status to which the conflicts found while solving the
+	 * bindings are added.
+	 *
+	 * @return A new multi-status; never <code>null</code>.
+	 */
+	private static MultiStatus createConflictsStatus() {
+		return new MultiStatus("org.eclipse.jface", 0, //$NON-NLS-1$
+				"Keybinding conflicts occurred.  They may interfere with normal accelerator operation.", //$NON-NLS-1$
+				null);
+	}
+
+	/**
+	 * Records an unresolved conflict. Each conflicting trigger is only added to
+	 * the status once, so as not to flood the logs.
+	 *
+	 * @param conflicts
+	 *            The status to which the conflict should be added; must not be
+	 *            <code>null</code>.
+	 * @param trigger
+	 *            The trigger for which the conflict occurred; must not be
+	 *            <code>null</code>.
+	 * @param match
+	 *            The conflicting bindings; must not be <code>null</code>.
+	 */
+	private final void addConflict(final MultiStatus conflicts,
+			final TriggerSequence trigger, final Collection match) {
+		// warn once ... so as not to flood the logs
+		if (triggerConflicts.add(trigger)) {
+			final StringWriter sw = new StringWriter();
+			final BufferedWriter buffer = new BufferedWriter(sw);
+			try {
+				buffer.write("A conflict occurred for "); //$NON-NLS-1$
+				buffer.write(trigger.toString());
+				buffer.write(':');
+				Iterator i = match.iterator();
+				while (i.hasNext()) {
+					buffer.newLine();
+					buffer.write(i.next().toString());
+				}
+				buffer.flush();
+			} catch (IOException e) {
+				// we should not get this
+			}
+			conflicts.add(new Status(IStatus.WARNING,
+					"org.eclipse.jface", //$NON-NLS-1$
+					sw.toString()));
+		}
+		if (DEBUG) {
+			Tracing.printTrace("BINDINGS", //$NON-NLS-1$
+					"A conflict occurred for " + trigger); //$NON-NLS-1$
+			Tracing.printTrace("BINDINGS", "    " + match); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
 	/**
 	 * Returns the number of strokes in an array of triggers. It is assumed that
 	 * there is one natural key per trigger. The strokes are counted based on
@@ -1734,6 +2068,8 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 			if (DEBUG) {
 				Tracing.printTrace("BINDINGS", "Cache hit"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
+			incrementalBase = existingCache;
+			dirtySequences.clear();
 			setActiveBindings(existingCache.getBindingsByTrigger(), existingCache.getTriggersByCommandId(),
 					existingCache.getPrefixTable(),
 					existingCache.getConflictsByTrigger());
@@ -1745,6 +2081,16 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 			Tracing.printTrace("BINDINGS", "Cache miss"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 
+		// Try to update the previous solution.
+		if (computeBindingsIncrementally(activeContextTree, existingCache)) {
+			incrementalBase = existingCache;
+			dirtySequences.clear();
+			setActiveBindings(existingCache.getBindingsByTrigger(), existingCache.getTriggersByCommandId(),
+					existingCache.getPrefixTable(),
+					existingCache.getConflictsByTrigger());
+			return;
+		}
+
 		// Compute the active bindings.
 		final Map commandIdsByTrigger = new HashMap();
 		final Map triggersByParameterizedCommand = new HashMap();
@@ -1758,12 +2104,147 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 		existingCache.setTriggersByCommandId(triggersByParameterizedCommand);
 		existingCache.setConflictsByTrigger(conflictsByTrigger);
 		existingCache.setPrefixTable(newPrefixTable);
+		incrementalBase = existingCache;
+		dirtySequences.clear();
 
 		setActiveBindings(commandIdsByTrigger, triggersByParameterizedCommand,
 				newPrefixTable,
 				conflictsByTrigger);
 	}
 
+	/**
+	 * Adds a binding to <code>bindingsBySequence</code> and
+	 * <code>sequencesByContextId</code>. Both indices must have been created.
+	 *
+	 * @param binding
+	 *            The binding to index; must not be <code>null</code>.
+	 */
+	private final void indexBinding(final Binding binding) {
+		final TriggerSequence sequence = binding.getTriggerSequence();
+		bindingsBySequence.computeIfAbsent(sequence, s -> new ArrayList<>(2))
+				.add(binding);
+		sequencesByContextId.computeIfAbsent(binding.getContextId(),
+				c -> new HashSet<>()).add(sequence);
+	}
+
+	/**
+	 * <p>
+	 * Solves the bindings for a single trigger sequence. This applies the same
+	 * rules as <code>computeBindings</code> -- deletion markers, contexts,
+	 * locales, platforms, schemes and conflict resolution -- but only looks at
+	 * the bindings for the given trigger sequence.
+	 * </p>
+	 * <p>
+	 * This method completes in <code>O(k)</code>, where <code>k</code> is
+	 * the number of bindings for the trigger sequence.
+	 * </p>
+	 *
+	 * @param sequence
+	 *            The trigger sequence to solve; must not be <code>null</code>.
+	 * @param activeContextTree
+	 *            The map representing the tree of active contexts; must not be
+	 *            <code>null</code>.
+	 * @param conflictsByTrigger
+	 *            The map to which an unresolved conflict is added; must not be
+	 *            <code>null</code>.
+	 * @param conflicts
+	 *            The status to which an unresolved conflict is logged; must
+	 *            not be <code>null</code>.
+	 * @return The binding which is active for the trigger sequence;
+	 *         <code>null</code> if there is none, or if there is an
+	 *         unresolved conflict.
+	 */
+	private final Binding solveSequence(final TriggerSequence sequence,
+			final Map activeContextTree, final Map conflictsByTrigger,
+			final MultiStatus conflicts) {
+		final List<Binding> sequenceBindings = bindingsBySequence.get(sequence);
+		if ((sequenceBindings == null) || (sequenceBindings.isEmpty())) {
+			return null;
+		}
+
+		// Extract the deletions.
+		List<Binding> deletions = null;
+		for (final Binding binding : sequenceBindings) {
+			if (isDeletionMarker(binding)) {
+				if (deletions == null) {
+					deletions = new ArrayList<>(2);
+				}
+				deletions.add(binding);
+			}
+		}
+
+		final Collection matches = new ArrayList(2);
+		bindingLoop: for (final Binding binding : sequenceBindings) {
+			if ((deletions != null) && (isDeletionMarker(binding))) {
+				continue;
+			}
+			if (deletions != null) {
+				for (final Binding deletion : deletions) {
+					if (deletion.deletes(binding)) {
+						continue bindingLoop;
+					}
+				}
+			}
+
+			if ((!activeContextTree.containsKey(binding.getContextId()))
+					|| (!localeMatches(binding))
+					|| (!platformMatches(binding))
+					|| (!isActiveScheme(binding.getSchemeId()))) {
+				continue;
+			}
+
+			matches.add(binding);
+		}
+
+		if (matches.isEmpty()) {
+			return null;
+		}
+		if (matches.size() == 1) {
+			return (Binding) matches.iterator().next();
+		}
+
+		final Binding winner = resolveConflicts(matches, activeContextTree);
+		if (winner == null) {
+			conflictsByTrigger.put(sequence, matches);
+			addConflict(conflicts, sequence, matches);
+		}
+		return winner;
+	}
+
+	/**
+	 * Checks whether a binding is a deletion marker which applies to the
+	 * current locale and platform.
+	 *
+	 * @param binding
+	 *            The binding to check; must not be <code>null</code>.
+	 * @return <code>true</code> if the binding removes matching bindings;
+	 *         <code>false</code> otherwise.
+	 */
+	private final boolean isDeletionMarker(final Binding binding) {
+		return (binding.getParameterizedCommand() == null)
+				&& (localeMatches(binding)) && (platformMatches(binding));
+	}
+
+	/**
+	 * Checks whether a scheme is the active scheme or one of its ancestors.
+	 *
+	 * @param schemeId
+	 *            The identifier of the scheme to check; may be
+	 *            <code>null</code>.
+	 * @return <code>true</code> if the scheme is active; <code>false</code>
+	 *         otherwise.
+	 */
+	private final boolean isActiveScheme(final String schemeId) {
+		if (activeSchemeIds != null) {
+			for (String activeSchemeId : activeSchemeIds) {
+				if (Objects.equals(schemeId, activeSchemeId)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * <p>
 	 * Remove the specific binding by identity. Does nothing if the binding is
@@ -1798,7 +2279,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 		if (bindingsChanged) {
 			this.bindings = newBindings;
 			bindingCount = index;
-			clearCache();
+			clearCache(binding, false);
 		}
 	}
 
@@ -1903,8 +2384,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 		// Extract the deletions.
 		for (int i = 0; i < bindingCount; i++) {
 			final Binding binding = bindingsCopy[i];
-			if ((binding.getParameterizedCommand() == null)
-					&& (localeMatches(binding)) && (platformMatches(binding))) {
+			if (isDeletionMarker(binding)) {
 				final TriggerSequence sequence = binding.getTriggerSequence();
 				final Object currentValue = deletions.get(sequence);
 				if (currentValue instanceof Binding) {
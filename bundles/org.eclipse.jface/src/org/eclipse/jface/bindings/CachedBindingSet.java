@@ -234,6 +234,17 @@ final class CachedBindingSet {
 		return Arrays.equals(schemeIds, other.schemeIds);
 	}
 
+	/**
+	 * Returns the tree of contexts for which this binding set was calculated.
+	 *
+	 * @return The map of child context identifiers to parent context
+	 *         identifiers; may be <code>null</code> if this binding set
+	 *         disregards the contexts.
+	 */
+	final Map getActiveContextTree() {
+		return activeContextTree;
+	}
+
 	/**
 	 * Returns the map of command identifiers indexed by trigger sequence.
 	 *
@@ -283,6 +294,23 @@ final class CachedBindingSet {
 		return triggersByCommandId;
 	}
 
+	/**
+	 * Checks whether this binding set was calculated for the same locales,
+	 * platforms and schemes as another binding set. The two sets may differ in
+	 * their tree of active contexts.
+	 *
+	 * @param other
+	 *            The binding set with which to compare; must not be
+	 *            <code>null</code>.
+	 * @return <code>true</code> if the locales, platforms and schemes are
+	 *         equivalent; <code>false</code> otherwise.
+	 */
+	final boolean hasSameEnvironment(final CachedBindingSet other) {
+		return Arrays.equals(locales, other.locales)
+				&& Arrays.equals(platforms, other.platforms)
+				&& Arrays.equals(schemeIds, other.schemeIds);
+	}
+
 	/**
 	 * Computes the hash code for this cached binding set. The hash code is
 	 * based only on the immutable values. This allows the set to be created and
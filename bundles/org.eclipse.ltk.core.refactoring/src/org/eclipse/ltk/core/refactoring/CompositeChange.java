@@ -18,11 +18,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.SubMonitor;
@@ -44,6 +46,12 @@ import org.eclipse.ltk.internal.core.refactoring.RefactoringCorePlugin;
  */
 public class CompositeChange extends Change {
 
+	/**
+	 * The minimal number of text file changes for which the file states are
+	 * validated in parallel.
+	 */
+	private static final int PARALLEL_VALIDATION_THRESHOLD= 64;
+
 	private String fName;
 	private List<Change> fChanges;
 	private boolean fIsSynthetic;
@@ -227,6 +235,12 @@ public class CompositeChange extends Change {
 	 * will not receive the <code>isValid</code> call.
 	 * </p>
 	 * <p>
+	 * Text file changes which only read the state of their file are validated
+	 * in parallel if there are many of them. Their results are merged in the
+	 * order of the children, so the returned status is the same as if they were
+	 * validated one after the other.
+	 * </p>
+	 * <p>
 	 * Client are allowed to extend this method.
 	 * </p>
 	 */
@@ -235,10 +249,22 @@ public class CompositeChange extends Change {
 		RefactoringStatus result= new RefactoringStatus();
 
 		SubMonitor subMonitor= SubMonitor.convert(pm, fChanges.size());
-		for (Iterator<Change> iter= fChanges.iterator(); iter.hasNext() && !result.hasFatalError();) {
+		Object[] parallelResults= validateInParallel(subMonitor);
+		int index= 0;
+		for (Iterator<Change> iter= fChanges.iterator(); iter.hasNext() && !result.hasFatalError(); index++) {
 			Change change= iter.next();
 			if (change.isEnabled()) {
-				result.merge(change.isValid(subMonitor.split(1)));
+				Object parallelResult= parallelResults != null ? parallelResults[index] : null;
+				if (parallelResult == null) {
+					result.merge(change.isValid(subMonitor.split(1)));
+				} else {
+					subMonitor.split(1);
+					if (parallelResult instanceof CoreException)
+						throw (CoreException) parallelResult;
+					if (parallelResult instanceof RuntimeException)
+						throw (RuntimeException) parallelResult;
+					result.merge((RefactoringStatus) parallelResult);
+				}
 			} else {
 				pm.worked(1);
 			}
@@ -246,6 +272,42 @@ public class CompositeChange extends Change {
 		return result;
 	}
 
+	/**
+	 * Validates the enabled text file changes which can be validated
+	 * concurrently, if there are enough of them.
+	 *
+	 * @param pm the progress monitor checked for cancellation
+	 * @return the status or the exception of every child validated in parallel
+	 *  at its index, <code>null</code> at the other indices, or <code>null</code>
+	 *  if the children are to be validated sequentially
+	 */
+	private Object[] validateInParallel(IProgressMonitor pm) {
+		boolean[] parallel= new boolean[fChanges.size()];
+		int count= 0;
+		for (int i= 0; i < parallel.length; i++) {
+			Change change= fChanges.get(i);
+			if (change.isEnabled() && change instanceof TextFileChange && ((TextFileChange) change).canValidateConcurrently()) {
+				parallel[i]= true;
+				count++;
+			}
+		}
+		if (count < PARALLEL_VALIDATION_THRESHOLD)
+			return null;
+
+		Object[] results= new Object[parallel.length];
+		IntStream.range(0, parallel.length).parallel().filter(i -> parallel[i]).forEach(i -> {
+			// children left out are validated sequentially, which reports the cancellation
+			if (pm.isCanceled())
+				return;
+			try {
+				results[i]= fChanges.get(i).isValid(new NullProgressMonitor());
+			} catch (CoreException | RuntimeException e) {
+				results[i]= e;
+			}
+		});
+		return results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * <p>
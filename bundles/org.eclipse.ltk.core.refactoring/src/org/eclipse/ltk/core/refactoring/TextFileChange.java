@@ -37,6 +37,8 @@ import org.eclipse.text.edits.UndoEdit;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 
+import org.eclipse.ltk.core.refactoring.resource.Resources;
+
 import org.eclipse.ltk.internal.core.refactoring.BufferValidationState;
 import org.eclipse.ltk.internal.core.refactoring.Changes;
 import org.eclipse.ltk.internal.core.refactoring.ContentStamps;
@@ -77,6 +79,21 @@ public class TextFileChange extends TextChange {
 	public static final int LEAVE_DIRTY= 1 << 2;
 
 
+	/**
+	 * Whether a class of text file changes validates itself with the implementation
+	 * of this class, which only reads the state of the file.
+	 */
+	private static final ClassValue<Boolean> INHERITS_VALIDATION= new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return Boolean.valueOf(type.getMethod("isValid", IProgressMonitor.class).getDeclaringClass() == TextFileChange.class); //$NON-NLS-1$
+			} catch (NoSuchMethodException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
 	// the file to change
 	private final IFile fFile;
 
@@ -203,6 +220,20 @@ public class TextFileChange extends TextChange {
 		}
 	}
 
+	/**
+	 * Returns whether {@link #isValid(IProgressMonitor)} may be called concurrently
+	 * with the validation of other changes. This is the case if the method is not
+	 * overridden and does not have to ask the team provider to make a read-only
+	 * file writable.
+	 *
+	 * @return <code>true</code> if the change can be validated concurrently
+	 */
+	boolean canValidateConcurrently() {
+		if (!INHERITS_VALIDATION.get(getClass()).booleanValue())
+			return false;
+		return !needsSaving() || !Resources.isReadOnly(fFile);
+	}
+
 	@Override
 	public void dispose() {
 		if (fValidationState != null) {
@@ -32,6 +32,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -100,6 +101,72 @@ public final class RefactoringHistoryManager {
 	/** The calendar instance */
 	private static final Calendar fgCalendar= Calendar.getInstance(TimeZone.getTimeZone("GMT+00:00")); //$NON-NLS-1$
 
+	/** The maximal number of cached index files */
+	private static final int MAX_CACHED_INDEXES= 1024;
+
+	/**
+	 * The contents of the recently read index files, keyed by their file store.
+	 * Access must be synchronized on the map.
+	 */
+	private static final Map<IFileStore, IndexEntry> fgIndexCache= new LinkedHashMap<>(64, 0.75f, true) {
+
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<IFileStore, IndexEntry> entry) {
+			return size() > MAX_CACHED_INDEXES;
+		}
+	};
+
+	/**
+	 * The contents of an index file, sorted by time stamp. The entry is only
+	 * valid as long as the file keeps its modification time and length.
+	 */
+	private static final class IndexEntry {
+
+		/** The modification time of the file */
+		private final long fLastModified;
+
+		/** The length of the file */
+		private final long fLength;
+
+		/** The time stamps of the refactorings, in ascending order */
+		private final long[] fStamps;
+
+		/** The descriptions of the refactorings */
+		private final String[] fDescriptions;
+
+		IndexEntry(final IFileInfo info, final RefactoringDescriptorProxy[] proxies) {
+			fLastModified= info.getLastModified();
+			fLength= info.getLength();
+			sortRefactoringDescriptorsAscending(proxies);
+			fStamps= new long[proxies.length];
+			fDescriptions= new String[proxies.length];
+			for (int index= 0; index < proxies.length; index++) {
+				fStamps[index]= proxies[index].getTimeStamp();
+				fDescriptions[index]= proxies[index].getDescription();
+			}
+		}
+
+		boolean isValid(final IFileInfo info) {
+			return fLastModified == info.getLastModified() && fLength == info.getLength();
+		}
+
+		void addProxies(final String project, final long start, final long end, final Collection<RefactoringDescriptorProxy> collection) {
+			int low= 0;
+			int high= fStamps.length;
+			while (low < high) {
+				final int middle= (low + high) >>> 1;
+				if (fStamps[middle] < start)
+					low= middle + 1;
+				else
+					high= middle;
+			}
+			for (int index= low; index < fStamps.length && fStamps[index] <= end; index++)
+				collection.add(new DefaultRefactoringDescriptorProxy(fDescriptions[index], project, fStamps[index]));
+		}
+	}
+
 	/**
 	 * Checks whether the argument map is well-formed.
 	 * <p>
@@ -206,13 +273,47 @@ public final class RefactoringHistoryManager {
 	 *             if an error occurs
 	 */
 	private static void readRefactoringDescriptorProxies(final IFileStore store, final String project, final Collection<RefactoringDescriptorProxy> collection, final long start, final long end, final IProgressMonitor monitor, final String task) throws CoreException {
+		readRefactoringDescriptorProxies(store, project, collection, start, end, monitor, task, 0, -1);
+	}
+
+	/**
+	 * Reads refactoring descriptor proxies.
+	 * <p>
+	 * The history is stored in folders per year, month and week. Year and month
+	 * folders outside of the time range are not visited.
+	 * </p>
+	 *
+	 * @param store
+	 *            the file store to read
+	 * @param project
+	 *            the name of the project, or <code>null</code> for the
+	 *            workspace
+	 * @param collection
+	 *            the collection of proxies to fill in
+	 * @param start
+	 *            the start time stamp, inclusive
+	 * @param end
+	 *            the end time stamp, inclusive
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @param task
+	 *            the task label to use
+	 * @param depth
+	 *            the depth of the children of the store below the history
+	 *            root
+	 * @param year
+	 *            the year of the store if it is a year folder, or
+	 *            <code>-1</code>
+	 * @throws CoreException
+	 *             if an error occurs
+	 */
+	private static void readRefactoringDescriptorProxies(final IFileStore store, final String project, final Collection<RefactoringDescriptorProxy> collection, final long start, final long end, final IProgressMonitor monitor, final String task, final int depth, final int year) throws CoreException {
 		try {
 			SubMonitor subMon= SubMonitor.convert(monitor, RefactoringCoreMessages.RefactoringHistoryService_retrieving_history, 22);
 			final IFileInfo info= store.fetchInfo(EFS.NONE, subMon.newChild(2, SubMonitor.SUPPRESS_SUBTASK));
 			if (!info.isDirectory() && info.exists() && RefactoringHistoryService.NAME_INDEX_FILE.equalsIgnoreCase(store.getName())) {
-				try (InputStream stream= store.openInputStream(EFS.NONE, subMon.newChild(1, SubMonitor.SUPPRESS_SUBTASK))) {
-					final RefactoringDescriptorProxy[] proxies= readRefactoringDescriptorProxies(stream, project, start, end);
-					collection.addAll(Arrays.asList(proxies));
+				try {
+					getIndexEntry(store, info, subMon.newChild(1, SubMonitor.SUPPRESS_SUBTASK)).addProxies(project, start, end, collection);
 					monitor.worked(1);
 				} catch (IOException exception) {
 					throw createCoreException(exception);
@@ -226,7 +327,18 @@ public final class RefactoringHistoryManager {
 			try {
 				subMonitor.beginTask(task, stores.length);
 				for (IFileStore s : stores) {
-					readRefactoringDescriptorProxies(s, project, collection, start, end, subMonitor.newChild(1), task);
+					int number= -1;
+					if (depth < 2) {
+						try {
+							number= Integer.parseInt(s.getName());
+						} catch (NumberFormatException exception) {
+							// Not a year or month folder
+						}
+					}
+					if (isInTimeRange(depth, year, number, start, end))
+						readRefactoringDescriptorProxies(s, project, collection, start, end, subMonitor.newChild(1), task, depth + 1, depth == 0 ? number : -1);
+					else
+						subMonitor.worked(1);
 				}
 			} finally {
 				subMonitor.done();
@@ -236,6 +348,70 @@ public final class RefactoringHistoryManager {
 		}
 	}
 
+	/**
+	 * Returns whether the history folder with the specified number may contain
+	 * refactorings of the time range.
+	 *
+	 * @param depth
+	 *            the depth of the folder below the history root
+	 * @param year
+	 *            the year of the parent folder, or <code>-1</code>
+	 * @param number
+	 *            the number in the name of the folder, or <code>-1</code>
+	 * @param start
+	 *            the start time stamp, inclusive
+	 * @param end
+	 *            the end time stamp, inclusive
+	 * @return <code>true</code> if the folder has to be read,
+	 *         <code>false</code> otherwise
+	 */
+	private static boolean isInTimeRange(final int depth, final int year, final int number, final long start, final long end) {
+		if (number < 0 || depth > 1 || (depth == 1 && year < 0))
+			return true;
+		final Calendar calendar= Calendar.getInstance(TimeZone.getTimeZone("GMT+00:00")); //$NON-NLS-1$
+		calendar.clear();
+		if (depth == 0)
+			calendar.set(number, Calendar.JANUARY, 1);
+		else
+			calendar.set(year, number - 1, 1);
+		final long from= calendar.getTimeInMillis();
+		calendar.add(depth == 0 ? Calendar.YEAR : Calendar.MONTH, 1);
+		final long to= calendar.getTimeInMillis() - 1;
+		return from <= end && to >= start;
+	}
+
+	/**
+	 * Returns the contents of the specified index file. The contents are read
+	 * again only if the file has changed since it was last read.
+	 *
+	 * @param store
+	 *            the index file
+	 * @param info
+	 *            the current information about the index file
+	 * @param monitor
+	 *            the progress monitor to use
+	 * @return the contents of the index file
+	 * @throws CoreException
+	 *             if an error occurs while opening the file
+	 * @throws IOException
+	 *             if an input/output error occurs
+	 */
+	private static IndexEntry getIndexEntry(final IFileStore store, final IFileInfo info, final IProgressMonitor monitor) throws CoreException, IOException {
+		synchronized (fgIndexCache) {
+			final IndexEntry entry= fgIndexCache.get(store);
+			if (entry != null && entry.isValid(info))
+				return entry;
+		}
+		final IndexEntry entry;
+		try (InputStream stream= store.openInputStream(EFS.NONE, monitor)) {
+			entry= new IndexEntry(info, readRefactoringDescriptorProxies(stream, null, 0, Long.MAX_VALUE));
+		}
+		synchronized (fgIndexCache) {
+			fgIndexCache.put(store, entry);
+		}
+		return entry;
+	}
+
 	/**
 	 * Reads refactoring descriptor proxies from the specified input stream.
 	 * <p>
@@ -510,6 +686,9 @@ public final class RefactoringHistoryManager {
 					// Do nothing
 				}
 			}
+			synchronized (fgIndexCache) {
+				fgIndexCache.remove(file);
+			}
 		}
 	}
 
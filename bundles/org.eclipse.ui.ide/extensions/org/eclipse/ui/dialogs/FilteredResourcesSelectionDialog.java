@@ -29,11 +29,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.IResourceProxy;
-import org.eclipse.core.resources.IResourceProxyVisitor;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -83,6 +82,7 @@ import org.eclipse.ui.internal.WorkbenchMessages;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.internal.ide.IDEWorkbenchMessages;
 import org.eclipse.ui.internal.ide.IIDEHelpContextIds;
+import org.eclipse.ui.internal.ide.dialogs.ResourceNameIndex;
 import org.eclipse.ui.internal.ide.model.ResourceFactory;
 import org.eclipse.ui.model.WorkbenchLabelProvider;
 import org.eclipse.ui.statushandlers.StatusManager;
@@ -584,23 +584,26 @@ public class FilteredResourcesSelectionDialog extends FilteredItemsSelectionDial
 	protected void fillContentProvider(AbstractContentProvider contentProvider, ItemsFilter itemsFilter,
 			IProgressMonitor progressMonitor) throws CoreException {
 		if (itemsFilter instanceof ResourceFilter) {
-			IResource[] members = container.members();
+			ResourceFilter resourceFilter = (ResourceFilter) itemsFilter;
 			progressMonitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_searchJob_taskName,
-					members.length);
-
-			ResourceProxyVisitor visitor = new ResourceProxyVisitor(contentProvider, (ResourceFilter) itemsFilter,
+					IProgressMonitor.UNKNOWN);
+
+			// Only pass the candidates of the name to the filter unless a subclass may
+			// match on something else
+			boolean matchesName = resourceFilter.getClass() == ResourceFilter.class;
+			int types = matchesName ? resourceFilter.filterTypeMask
+					: IResource.FILE | IResource.FOLDER | IResource.PROJECT;
+			Predicate<String> nameFilter = matchesName ? resourceFilter::nameMatches : name -> true;
+			List<IResource> resources = ResourceNameIndex.getDefault().find(container, types, nameFilter,
 					progressMonitor);
 
-			if (visitor.visit(container.createProxy())) {
-				for (IResource member : members) {
-					if (member.isAccessible())
-						member.accept(visitor, IResource.NONE);
-					progressMonitor.worked(1);
-					if (progressMonitor.isCanceled())
-						break;
-				}
+			for (IResource resource : resources) {
+				if (progressMonitor.isCanceled())
+					break;
+				// The members of derived folders are only shown along with derived resources
+				if (resourceFilter.isShowDerived() || !resource.isDerived(IResource.CHECK_ANCESTORS))
+					contentProvider.add(resource, resourceFilter);
 			}
-
 		}
 		progressMonitor.done();
 	}
@@ -908,53 +911,6 @@ public class FilteredResourcesSelectionDialog extends FilteredItemsSelectionDial
 		}
 	}
 
-	/**
-	 * ResourceProxyVisitor to visit resource tree and get matched resources. During
-	 * visit resources it updates progress monitor and adds matched resources to
-	 * ContentProvider instance.
-	 */
-	private static class ResourceProxyVisitor implements IResourceProxyVisitor {
-
-		private AbstractContentProvider proxyContentProvider;
-
-		private ResourceFilter resourceFilter;
-
-		private IProgressMonitor progressMonitor;
-
-		/**
-		 * Creates new ResourceProxyVisitor instance.
-		 */
-		public ResourceProxyVisitor(AbstractContentProvider contentProvider, ResourceFilter resourceFilter,
-				IProgressMonitor progressMonitor) {
-			super();
-			this.proxyContentProvider = contentProvider;
-			this.resourceFilter = resourceFilter;
-			this.progressMonitor = progressMonitor;
-		}
-
-		@Override
-		public boolean visit(IResourceProxy proxy) {
-
-			if (progressMonitor.isCanceled())
-				return false;
-
-			IResource resource = proxy.requestResource();
-
-			proxyContentProvider.add(resource, resourceFilter);
-
-			if (resource.getType() == IResource.FOLDER && resource.isDerived() && !resourceFilter.isShowDerived()) {
-
-				return false;
-			}
-
-			if (resource.getType() == IResource.FILE) {
-				return false;
-			}
-
-			return true;
-		}
-	}
-
 	/**
 	 * Filters resources using pattern and showDerived flag. It overrides
 	 * ItemsFilter.
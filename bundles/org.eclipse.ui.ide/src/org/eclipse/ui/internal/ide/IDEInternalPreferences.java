@@ -85,6 +85,9 @@ public interface IDEInternalPreferences {
 	//Value of marker limits
 	String MARKER_LIMITS_VALUE = "MARKER_LIMITS_VALUE"; //$NON-NLS-1$
 
+	//Whether the markers views use a virtual tree, only creating the visible rows
+	String USE_VIRTUAL_MARKERS_TREE = "USE_VIRTUAL_MARKERS_TREE"; //$NON-NLS-1$
+
 	// Type of import
 	String IMPORT_FILES_AND_FOLDERS_TYPE = "IMPORT_FILES_AND_FOLDERS_TYPE"; //$NON-NLS-1$
 
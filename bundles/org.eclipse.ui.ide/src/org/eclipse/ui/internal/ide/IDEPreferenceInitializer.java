@@ -72,6 +72,7 @@ public class IDEPreferenceInitializer extends AbstractPreferenceInitializer {
 
 		node.putBoolean(IDEInternalPreferences.USE_MARKER_LIMITS, true);
 		node.putInt(IDEInternalPreferences.MARKER_LIMITS_VALUE, 100);
+		node.putBoolean(IDEInternalPreferences.USE_VIRTUAL_MARKERS_TREE, false);
 
 		node.put(IDEInternalPreferences.IMPORT_FILES_AND_FOLDERS_TYPE, ""); //$NON-NLS-1$
 		node.putBoolean(IDEInternalPreferences.IMPORT_FILES_AND_FOLDERS_RELATIVE, true);
@@ -45,6 +45,7 @@ import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.ide.dialogs.ResourceNameIndex;
 import org.eclipse.ui.internal.ide.registry.MarkerImageProviderRegistry;
 import org.eclipse.ui.internal.ide.registry.ProjectImageRegistry;
 import org.eclipse.ui.internal.ide.registry.UnassociatedEditorStrategyRegistry;
@@ -338,6 +339,7 @@ public class IDEWorkbenchPlugin extends AbstractUIPlugin {
 		super.stop(context);
 		if (resourceManager != null)
 			resourceManager.dispose();
+		ResourceNameIndex.shutdown();
 	}
 
 	@Override
@@ -0,0 +1,454 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.internal.ide.dialogs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
+
+/**
+ * An index of the names of the resources in the workspace, which lets the
+ * resource selection dialogs find resources by name without walking the
+ * resource tree on every search.
+ * <p>
+ * The index is built on first use and then kept up to date from resource
+ * deltas. Resources are stored as a tree of names in which every resource
+ * shares the path of its parent, so the index takes much less memory than the
+ * handles of the indexed resources. Hidden and team private resources are not
+ * indexed, and neither are closed projects.
+ * </p>
+ * <p>
+ * Searches read a published tree without locking. Changes never modify a
+ * published tree but copy the nodes on the paths they change and publish the
+ * new tree, so resource change notifications never wait for a search or for
+ * the index to be built.
+ * </p>
+ */
+public class ResourceNameIndex implements IResourceChangeListener {
+
+	private static final int CANCEL_CHECK_INTERVAL = 1000;
+
+	private static ResourceNameIndex instance;
+
+	private static final class Node {
+		final String name;
+		final Node parent;
+		final int type;
+		/** The members of an accessible container, or <code>null</code>. */
+		Map<String, Node> members;
+
+		Node(String name, Node parent, int type) {
+			this.name = name;
+			this.parent = parent;
+			this.type = type;
+		}
+	}
+
+	/**
+	 * A change of the workspace to apply to the index.
+	 */
+	private static final class Change {
+		/** The resource was added, its members are added by changes of their own. */
+		static final int ADD = 0;
+		/** The resource and its members were removed. */
+		static final int REMOVE = 1;
+		/** The resource and its members are indexed again. */
+		static final int REPLACE = 2;
+
+		final IResource resource;
+		final int kind;
+
+		Change(IResource resource, int kind) {
+			this.resource = resource;
+			this.kind = kind;
+		}
+	}
+
+	/**
+	 * Changes a tree of nodes. Unless the tree is changed in place, the nodes of
+	 * the given tree are left untouched and copied the first time their members
+	 * change.
+	 */
+	private static final class TreeWriter {
+		/** The nodes which may be changed, unless changing in place. */
+		private final Set<Node> writable = Collections.newSetFromMap(new IdentityHashMap<>());
+		private final boolean inPlace;
+		final Node root;
+
+		TreeWriter(Node root, boolean inPlace) {
+			this.inPlace = inPlace;
+			this.root = inPlace ? root : copy(root, null);
+		}
+
+		private Node copy(Node node, Node parent) {
+			Node copy = new Node(node.name, parent, node.type);
+			if (node.members != null) {
+				copy.members = new HashMap<>(node.members);
+			}
+			writable.add(copy);
+			return copy;
+		}
+
+		/**
+		 * Returns the changeable node of the container at the given path, or
+		 * <code>null</code> if it is not indexed.
+		 */
+		Node getContainer(IPath path) {
+			Node node = root;
+			for (int i = 0; i < path.segmentCount(); i++) {
+				Node member = node.members == null ? null : node.members.get(path.segment(i));
+				if (member == null) {
+					return null;
+				}
+				if (!inPlace && !writable.contains(member)) {
+					member = copy(member, node);
+					node.members.put(member.name, member);
+				}
+				node = member;
+			}
+			return node;
+		}
+
+		Node addMember(Node parent, String memberName, int memberType) {
+			if (parent.members == null) {
+				parent.members = new HashMap<>(4);
+			}
+			return parent.members.computeIfAbsent(memberName, n -> {
+				Node member = new Node(n, parent, memberType);
+				if (!inPlace) {
+					writable.add(member);
+				}
+				return member;
+			});
+		}
+
+		void removeMember(Node parent, String memberName) {
+			if (parent.members != null) {
+				parent.members.remove(memberName);
+			}
+		}
+	}
+
+	private final IWorkspaceRoot workspaceRoot;
+
+	/** Held while building the index. */
+	private final Object buildLock = new Object();
+
+	/** Held while changing the index, never while reading the workspace tree for a search. */
+	private final Object changeLock = new Object();
+
+	/** The node of the workspace root, or <code>null</code> until first use. */
+	private volatile Node root;
+
+	/**
+	 * The changes made while the index is built, to apply once it is built.
+	 * Guarded by {@link #changeLock}, <code>null</code> unless building.
+	 */
+	private List<Change> pendingChanges;
+
+	private ResourceNameIndex(IWorkspaceRoot workspaceRoot) {
+		this.workspaceRoot = workspaceRoot;
+	}
+
+	/**
+	 * Returns the index of the resources of the workspace, registering it for
+	 * resource changes on first access.
+	 *
+	 * @return the shared index
+	 */
+	public static synchronized ResourceNameIndex getDefault() {
+		if (instance == null) {
+			instance = new ResourceNameIndex(ResourcesPlugin.getWorkspace().getRoot());
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(instance, IResourceChangeEvent.POST_CHANGE);
+		}
+		return instance;
+	}
+
+	/**
+	 * Unregisters the shared index, if it was created.
+	 */
+	public static synchronized void shutdown() {
+		if (instance != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(instance);
+			instance = null;
+		}
+	}
+
+	/**
+	 * Returns the given container and the resources below it whose type and name
+	 * match. Closed projects and their members are not returned.
+	 *
+	 * @param container the container to search
+	 * @param typeMask  the types of the resources to return, see
+	 *                  {@link IResource#getType()}
+	 * @param nameFilter the filter of the resource names
+	 * @param monitor   the progress monitor checked for cancellation
+	 * @return the matching resources, possibly incomplete if the search was
+	 *         canceled
+	 * @throws CoreException if the resource tree could not be read to build the
+	 *                       index
+	 */
+	public List<IResource> find(IContainer container, int typeMask, Predicate<String> nameFilter,
+			IProgressMonitor monitor) throws CoreException {
+		Node tree = root;
+		if (tree == null) {
+			tree = build();
+		}
+		List<Node> matches = new ArrayList<>();
+		Node node = findNode(tree, container.getFullPath());
+		if (node != null) {
+			collect(node, typeMask, nameFilter, monitor, matches);
+		}
+		List<IResource> resources = new ArrayList<>(matches.size());
+		Map<Node, IPath> paths = new HashMap<>();
+		for (Node match : matches) {
+			resources.add(toResource(match, paths));
+		}
+		return resources;
+	}
+
+	/**
+	 * Builds the index unless another search did meanwhile. The changes made
+	 * while reading the workspace tree are queued by
+	 * {@link #resourceChanged(IResourceChangeEvent)} and applied before the index
+	 * is published.
+	 */
+	private Node build() throws CoreException {
+		synchronized (buildLock) {
+			Node tree = root;
+			if (tree != null) {
+				return tree;
+			}
+			synchronized (changeLock) {
+				pendingChanges = new ArrayList<>();
+			}
+			try {
+				TreeWriter writer = new TreeWriter(new Node("", null, IResource.ROOT), true); //$NON-NLS-1$
+				for (IProject project : workspaceRoot.getProjects()) {
+					addResource(writer, writer.root, project);
+				}
+				synchronized (changeLock) {
+					// Some of the changes may be part of the tree already,
+					// applying them again does not change it
+					for (Change change : pendingChanges) {
+						applyChange(writer, change);
+					}
+					root = writer.root;
+					return writer.root;
+				}
+			} finally {
+				synchronized (changeLock) {
+					pendingChanges = null;
+				}
+			}
+		}
+	}
+
+	private void collect(Node node, int typeMask, Predicate<String> nameFilter, IProgressMonitor monitor,
+			List<Node> matches) {
+		List<Node> pending = new ArrayList<>();
+		pending.add(node);
+		int visited = 0;
+		while (!pending.isEmpty()) {
+			Node next = pending.remove(pending.size() - 1);
+			if ((next.type & typeMask) != 0 && nameFilter.test(next.name)) {
+				matches.add(next);
+			}
+			if (next.members != null) {
+				pending.addAll(next.members.values());
+			}
+			if (++visited % CANCEL_CHECK_INTERVAL == 0 && monitor.isCanceled()) {
+				return;
+			}
+		}
+	}
+
+	private IResource toResource(Node node, Map<Node, IPath> paths) {
+		IPath path = getPath(node, paths);
+		switch (node.type) {
+		case IResource.FILE:
+			return workspaceRoot.getFile(path);
+		case IResource.FOLDER:
+			return workspaceRoot.getFolder(path);
+		case IResource.PROJECT:
+			return workspaceRoot.getProject(node.name);
+		default:
+			return workspaceRoot;
+		}
+	}
+
+	/**
+	 * Returns the path of the node. The parent of a node may be a node which has
+	 * been copied since, but it still has the same name and path.
+	 */
+	private IPath getPath(Node node, Map<Node, IPath> paths) {
+		if (node.parent == null) {
+			return IPath.ROOT;
+		}
+		IPath path = paths.get(node);
+		if (path == null) {
+			path = getPath(node.parent, paths).append(node.name);
+			if (node.members != null) {
+				paths.put(node, path);
+			}
+		}
+		return path;
+	}
+
+	private static Node findNode(Node tree, IPath path) {
+		Node node = tree;
+		for (int i = 0; i < path.segmentCount() && node != null; i++) {
+			node = node.members == null ? null : node.members.get(path.segment(i));
+		}
+		return node;
+	}
+
+	/**
+	 * Adds the given resource and, if it is a container, all its members to the
+	 * index. Inaccessible resources such as closed projects are not added.
+	 */
+	private void addResource(TreeWriter writer, Node parent, IResource resource) throws CoreException {
+		if (!resource.isAccessible()) {
+			return;
+		}
+		if (resource.getType() == IResource.FILE) {
+			writer.addMember(parent, resource.getName(), resource.getType());
+			return;
+		}
+		int baseDepth = resource.getFullPath().segmentCount();
+		List<Node> ancestors = new ArrayList<>();
+		ancestors.add(parent);
+		resource.accept(proxy -> {
+			int depth = proxy.requestFullPath().segmentCount() - baseDepth;
+			while (ancestors.size() > depth + 1) {
+				ancestors.remove(ancestors.size() - 1);
+			}
+			Node node = writer.addMember(ancestors.get(depth), proxy.getName(), proxy.getType());
+			if (proxy.getType() == IResource.FILE) {
+				return false;
+			}
+			ancestors.add(node);
+			return true;
+		}, IResource.NONE);
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		synchronized (changeLock) {
+			if (root == null && pendingChanges == null) {
+				// A later build reads the changed workspace
+				return;
+			}
+		}
+		List<Change> changes = new ArrayList<>();
+		try {
+			delta.accept(d -> collectChange(d, changes));
+		} catch (CoreException e) {
+			IDEWorkbenchPlugin.log(e.getMessage(), e.getStatus());
+		}
+		if (changes.isEmpty()) {
+			return;
+		}
+		synchronized (changeLock) {
+			if (pendingChanges != null) {
+				pendingChanges.addAll(changes);
+				return;
+			}
+			Node tree = root;
+			if (tree == null) {
+				return;
+			}
+			try {
+				TreeWriter writer = new TreeWriter(tree, false);
+				for (Change change : changes) {
+					applyChange(writer, change);
+				}
+				root = writer.root;
+			} catch (CoreException e) {
+				IDEWorkbenchPlugin.log(e.getMessage(), e.getStatus());
+				// Rebuild on next use
+				root = null;
+			}
+		}
+	}
+
+	private static boolean collectChange(IResourceDelta delta, List<Change> changes) {
+		IResource resource = delta.getResource();
+		switch (delta.getKind()) {
+		case IResourceDelta.ADDED:
+			if (resource.getType() == IResource.PROJECT) {
+				// The members of an opened project are not part of the delta
+				changes.add(new Change(resource, Change.REPLACE));
+				return false;
+			}
+			changes.add(new Change(resource, Change.ADD));
+			return true;
+		case IResourceDelta.REMOVED:
+			changes.add(new Change(resource, Change.REMOVE));
+			return false;
+		default:
+			if ((delta.getFlags() & IResourceDelta.TYPE) != 0
+					|| resource.getType() == IResource.PROJECT && (delta.getFlags() & IResourceDelta.OPEN) != 0) {
+				changes.add(new Change(resource, Change.REPLACE));
+				return false;
+			}
+			return true;
+		}
+	}
+
+	private void applyChange(TreeWriter writer, Change change) throws CoreException {
+		IResource resource = change.resource;
+		if (resource.getType() == IResource.ROOT) {
+			return;
+		}
+		Node parent = writer.getContainer(resource.getFullPath().removeLastSegments(1));
+		if (parent == null) {
+			return;
+		}
+		switch (change.kind) {
+		case Change.ADD:
+			writer.addMember(parent, resource.getName(), resource.getType());
+			break;
+		case Change.REMOVE:
+			writer.removeMember(parent, resource.getName());
+			break;
+		default:
+			writer.removeMember(parent, resource.getName());
+			addResource(writer, parent, resource);
+			break;
+		}
+	}
+}
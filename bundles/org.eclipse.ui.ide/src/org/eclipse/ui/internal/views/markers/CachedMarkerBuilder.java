@@ -435,11 +435,12 @@ public class CachedMarkerBuilder {
 				// ensure cancellation before calling the method
 				// updateJob.cancel();
 			} else {
-				/*
-				 * updateJob = isIncremental() ? new IncrementUpdateJob(this):
-				 * new MarkerUpdateJob(this);
-				 */
-				updateJob = new MarkerUpdateJob(this);
+				if (isIncremental()) {
+					incrementJob = new IncrementUpdateJob(this);
+					updateJob = incrementJob;
+				} else {
+					updateJob = new MarkerUpdateJob(this);
+				}
 				updateJob.setPriority(Job.LONG);
 				updateJob.setSystem(true);
 			}
@@ -580,20 +581,18 @@ public class CachedMarkerBuilder {
 	}
 
 ///////	<Incremental update code>///////
-		private IncrementUpdateJob incrementJob;
+	private IncrementUpdateJob incrementJob;
+
 	/**
-	 * Checks whether the builder should perform incrementally Note : Incremental
-	 * updating method is NOT used and tested yet but left out for further
-	 * investigation(*).
+	 * Checks whether the builder should perform incrementally. Marker deltas
+	 * are then applied to the existing markers by the
+	 * {@link IncrementUpdateJob}; markers are gathered all over again only
+	 * when a clean update is requested.
 	 *
 	 * @return Returns true if we should collect markers incrementally.
 	 */
 	boolean isIncremental() {
-		/*
-		 * We do not update incrementally. We have
-		 * code for further investigation(*) for this anyway.
-		 */
-		return false;
+		return true;
 	}
 
 	/**
@@ -100,6 +100,7 @@ import org.eclipse.ui.ide.IDE;
 import org.eclipse.ui.ide.ResourceUtil;
 import org.eclipse.ui.internal.WorkbenchPage;
 import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.ide.IDEInternalPreferences;
 import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
 import org.eclipse.ui.internal.ide.StatusUtil;
 import org.eclipse.ui.menus.IMenuService;
@@ -163,6 +164,8 @@ public class ExtendedMarkersView extends ViewPart {
 
 	private MarkersTreeViewer viewer;
 
+	private boolean useVirtualTree;
+
 	private Action filterAction;
 
 	/**
@@ -255,9 +258,17 @@ public class ExtendedMarkersView extends ViewPart {
 	private void createViewer(Composite parent) {
 		parent.setLayout(new FillLayout());
 
-		viewer = new MarkersTreeViewer(new Tree(parent, SWT.H_SCROLL
-				/*| SWT.VIRTUAL */| SWT.V_SCROLL | SWT.MULTI | SWT.FULL_SELECTION));
-		WorkbenchViewerSetup.setupViewer(viewer);
+		useVirtualTree = IDEWorkbenchPlugin.getDefault().getPreferenceStore()
+				.getBoolean(IDEInternalPreferences.USE_VIRTUAL_MARKERS_TREE);
+		int style = SWT.H_SCROLL | SWT.V_SCROLL | SWT.MULTI | SWT.FULL_SELECTION;
+		if (useVirtualTree) {
+			style |= SWT.VIRTUAL;
+		}
+		viewer = new MarkersTreeViewer(new Tree(parent, style));
+		if (!useVirtualTree) {
+			// a virtual tree only creates the visible rows anyway
+			WorkbenchViewerSetup.setupViewer(viewer);
+		}
 		viewer.getTree().setLinesVisible(true);
 		viewer.setUseHashlookup(true);
 		createColumns(new TreeColumn[0], new int[0]);
@@ -517,12 +528,16 @@ public class ExtendedMarkersView extends ViewPart {
 		viewer.getTree().addTreeListener(new TreeAdapter() {
 			@Override
 			public void treeCollapsed(TreeEvent e) {
-				removeExpandedCategory((MarkerCategory) e.item.getData());
+				if (e.item.getData() instanceof MarkerCategory category) {
+					removeExpandedCategory(category);
+				}
 			}
 
 			@Override
 			public void treeExpanded(TreeEvent e) {
-				addExpandedCategory((MarkerCategory) e.item.getData());
+				if (e.item.getData() instanceof MarkerCategory category) {
+					addExpandedCategory(category);
+				}
 			}
 		});
 	}
@@ -709,6 +724,9 @@ public class ExtendedMarkersView extends ViewPart {
 	 * @return ITreeContentProvider
 	 */
 	private IContentProvider getContentProvider() {
+		if (useVirtualTree) {
+			return new MarkerViewerLazyContentProvider(this);
+		}
 		return new MarkerViewerContentProvider(this);
 	}
 
@@ -14,230 +14,145 @@
 
 package org.eclipse.ui.internal.views.markers;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
+import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.ui.views.markers.internal.MarkerMessages;
 
 /**
- * The job that performs incremental update. Once the processing is complete it
- * schedules an UI update. If it'll be possible and beneficial switch to
- * incremental updatation, this has been left out for further investigation(*).
- * only, and not used currently.
+ * The job that performs incremental update. The marker deltas queued by the
+ * {@link MarkersChangeListener} are applied to the existing {@link Markers},
+ * so that a change to a few markers does not gather, sort and group all the
+ * markers of the workspace again. A clean update is done when requested (for
+ * example when the filters or the grouping change) or when the changes cannot
+ * be applied incrementally. Once the processing is complete it schedules an UI
+ * update.
  *
  * @since 3.6
  */
 class IncrementUpdateJob extends MarkerUpdateJob {
 
-	private LinkedList<MarkerEntry> incrementEntryList;
 	private LinkedList<MarkerUpdate> updateQueue;
 
 	public IncrementUpdateJob(CachedMarkerBuilder builder) {
 		super(builder);
-		incrementEntryList = new LinkedList<>();
 	}
 
 	@Override
 	protected IStatus run(IProgressMonitor monitor) {
 		monitor.beginTask(MarkerMessages.MarkerView_processUpdates, IProgressMonitor.UNKNOWN);
-		boolean clean= isClean();
-		if (clean) {
-			clearEntries();
-		}
-		Collection<MarkerEntry> markerEntries = incrementalEntries();
-		if (clean) {
+		if (!isClean()) {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
 			/*
-			 * Unfortunately we cannot lock marker operations between gathering
-			 * and updation. We have this code in place only for further
-			 * investigation
+			 * Once drained the updates are applied even if the job gets
+			 * cancelled, as they would be lost otherwise.
 			 */
-			clean = !clean(markerEntries, monitor);
-			LinkedList<MarkerUpdate> queue = getUpdatesQueue();
-			synchronized (queue) {
-				queue.clear();
-			}
-		}
-		if (monitor.isCanceled()) {
-			return Status.CANCEL_STATUS;
-		}
-		if (!clean) {
-			builder.registerTypesToListener();
-			if (!processUpdates(monitor)) {
-				return Status.CANCEL_STATUS;
+			boolean[] changeFlags = new boolean[3];
+			Map<IMarker, MarkerEntry> changes = drainUpdates(changeFlags);
+			if (builder.getMarkers().applyChanges(changes)) {
+				builder.updateChangeFlags(changeFlags);
+				if (!changes.isEmpty()) {
+					builder.getUpdateScheduler().scheduleUIUpdate(MarkerUpdateScheduler.SHORT_DELAY);
+				}
+				builder.setBuilding(false);
+				updateDone();
+				return Status.OK_STATUS;
 			}
-		}
-		if (!processMarkerEntries(markerEntries, monitor)) {
-			return Status.CANCEL_STATUS;
+			setClean();
+		}
+		/*
+		 * Unfortunately we cannot lock marker operations between gathering and
+		 * updation. The updates queued before gathering are covered by it and
+		 * dropped once the gathered markers are committed, so that any change
+		 * that comes in meanwhile is applied by the next run. If the job gets
+		 * cancelled before the commit they are kept, along with the clean
+		 * request.
+		 */
+		int gatheredUpdates = getUpdatesQueue().size();
+		if (buildMarkers(monitor)) {
+			removeEntries(gatheredUpdates);
 		}
 		if (monitor.isCanceled()) {
 			return Status.CANCEL_STATUS;
 		}
-		// update with sorted entries
-		updateIncrementalList(markerEntries);
-
-		if (monitor.isCanceled()) {
-			return Status.CANCEL_STATUS;
-		}
-		builder.getUpdateScheduler().scheduleUIUpdate(MarkerUpdateScheduler.SHORT_DELAY);
-		if (monitor.isCanceled()) {
-			return Status.CANCEL_STATUS;
-		}
-		builder.setBuilding(false);
-		updateDone();
 		return Status.OK_STATUS;
 	}
 
 	/**
-	 * Update the list
+	 * Remove the queued updates and merge them, the latest update of a marker
+	 * winning.
+	 *
+	 * @param changeFlags
+	 *            the {added,removed,changed} flags to update
+	 * @return a map from each changed marker to its new entry, or to
+	 *         <code>null</code> if the marker has been removed or is not
+	 *         selected by the filters
 	 */
-	private boolean updateIncrementalList(Collection<MarkerEntry> markerEntries) {
-		markerEntries.clear();
-		Markers clone = builder.getMarkers();
-		synchronized (clone) {
-			clone = clone.getClone();
-		}
-		markerEntries.addAll(Arrays.asList(clone.getMarkerEntryArray()));
-		return true;
-	}
-
-	/**
-	 * Process the incremental updates
-	 */
-	private boolean processUpdates(IProgressMonitor monitor) {
-		Collection<MarkerEntry> markerEntries = incrementalEntries();
-		int addCount = 0, removedCount = 0, changedCount = 0, size = 0, newSize = 0;
+	private Map<IMarker, MarkerEntry> drainUpdates(boolean[] changeFlags) {
+		List<MarkerUpdate> updates;
 		LinkedList<MarkerUpdate> queue = getUpdatesQueue();
-		MarkerUpdate next = null;
-		do {
-			synchronized (queue) {
-				if (!queue.isEmpty()) {
-					next = queue.removeFirst();
-				} else {
-					next = null;
-				}
-			}
-			if (monitor.isCanceled() || next == null) {
-				break;
-			}
-			/**
-			 * The following performs incremental updation of the markers that
-			 * were gathered intially, and keeps them synched at any point with
-			 * the markers of interest in Workspace
-			 */
-			// unfortunately marker operations cannot be locked
-			// so locking between gathering of markers and
-			// marker deltas is not possible
-			size = markerEntries.size();
-			handleRemovedEntries(markerEntries, next.removed);
-			newSize = markerEntries.size();
-			removedCount += size - newSize;
-
-			handleChangedEntries(markerEntries, next.changed);
-			changedCount += next.changed.size();
-
-			size = newSize;
-			handleAddedEntries(markerEntries, next.added);
-			newSize = markerEntries.size();
-			removedCount += newSize - size;
-		} while (next != null);
-		boolean[] changeFlags = new boolean[] { addCount > 0, removedCount > 0,
-				changedCount > 0 };
-		for (boolean changeFlag : changeFlags) {
-			if (changeFlag) {
-				builder.updateChangeFlags(changeFlags);
-				return true;
-			}
+		synchronized (queue) {
+			updates = new ArrayList<>(queue);
+			queue.clear();
 		}
-		return false;
-	}
-
-	private void handleAddedEntries(Collection<MarkerEntry> markerEntries, Collection<MarkerEntry> added) {
 		MarkerContentGenerator generator = builder.getGenerator();
-		Iterator<MarkerEntry> iterator = added.iterator();
-		while (iterator.hasNext()) {
-			MarkerEntry entry = iterator.next();
-			if (generator.select(entry)) {
-				markerEntries.add(entry);
+		Map<IMarker, MarkerEntry> changes = new LinkedHashMap<>();
+		for (MarkerUpdate update : updates) {
+			for (MarkerEntry entry : update.removed) {
+				changes.put(entry.getMarker(), null);
+				changeFlags[1] = true;
 			}
-		}
-	}
-
-	private void handleChangedEntries(Collection<MarkerEntry> markerEntries,
-			Collection<MarkerEntry> changed) {
-		MarkerContentGenerator generator = builder.getGenerator();
-		Iterator<MarkerEntry> iterator = changed.iterator();
-		while (iterator.hasNext()) {
-			MarkerEntry entry = iterator.next();
-			Iterator<MarkerEntry> iterator2 = markerEntries.iterator();
-			while (iterator2.hasNext()) {
-				MarkerEntry oldEntry = iterator2.next();
-				if (oldEntry.getMarker().equals(entry.getMarker())) {
-					iterator2.remove();
-				}
+			for (MarkerEntry entry : update.added) {
+				changes.put(entry.getMarker(), select(generator, entry));
+				changeFlags[0] = true;
 			}
-			if (!generator.select(entry)) {
-				iterator.remove();
+			for (MarkerEntry entry : update.changed) {
+				changes.put(entry.getMarker(), select(generator, entry));
+				changeFlags[2] = true;
 			}
 		}
-		markerEntries.addAll(changed);
+		return changes;
 	}
 
-	private void handleRemovedEntries(Collection<MarkerEntry> markerEntries,
-			Collection<MarkerEntry> removed) {
-		boolean found = false;
-		Iterator<MarkerEntry> iterator = markerEntries.iterator();
-		while (iterator.hasNext()) {
-			MarkerEntry entry = iterator.next();
-			found = entry.getStaleState();
-			if (found) {
-				iterator.remove();
-			}
-			if (removed.isEmpty()) {
-				continue;
-			}
-			Iterator<MarkerEntry> iterator2 = removed.iterator();
-			while (iterator2.hasNext()) {
-				MarkerEntry stale = iterator2.next();
-				if (stale.getMarker().equals(entry.getMarker())) {
-					iterator2.remove();
-					if (!found) {
-						iterator.remove();
-					}
-					break;
-				}
-			}
-		}
-		if (removed.isEmpty()) {
-			// TODO: do we check for residuals?
-			return;
-		}
-		// TODO: do we check for residuals?
-		iterator = markerEntries.iterator();
-		while (iterator.hasNext()) {
-			MarkerEntry entry = iterator.next();
-			if (entry.getMarker() != null && !entry.getMarker().exists()) {
-				iterator.remove();
-			}
+	private static MarkerEntry select(MarkerContentGenerator generator, MarkerEntry entry) {
+		if (generator == null || entry.checkIfMarkerStale() || !generator.select(entry)) {
+			return null;
 		}
+		return entry;
 	}
 
 	/**
-	 * Clean
+	 * Drop the queued updates
 	 */
 	void clearEntries() {
-		incrementEntryList = new LinkedList<>();
+		LinkedList<MarkerUpdate> queue = getUpdatesQueue();
+		synchronized (queue) {
+			queue.clear();
+		}
 	}
 
 	/**
-	 * @return Returns the incrementEntryies.
+	 * Drop the oldest queued updates
+	 *
+	 * @param count
+	 *            the number of updates to drop
 	 */
-	Collection<MarkerEntry> incrementalEntries() {
-		return incrementEntryList;
+	private void removeEntries(int count) {
+		LinkedList<MarkerUpdate> queue = getUpdatesQueue();
+		synchronized (queue) {
+			for (int i = 0; i < count && !queue.isEmpty(); i++) {
+				queue.removeFirst();
+			}
+		}
 	}
 
 	/**
@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.views.markers;
+
+import java.text.CollationKey;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.ui.views.markers.MarkerItem;
+
+/**
+ * The MarkerAttributeTable holds the attributes the marker fields sort by for
+ * an array of {@link MarkerEntry}s, one column per attribute. Numeric
+ * attributes are kept in primitive arrays, locations are shared between the
+ * entries that have equal ones and descriptions are kept as collation keys, so
+ * that comparing two entries neither boxes values nor looks them up in the per
+ * entry caches.
+ * <p>
+ * A table is attached to the entries for the duration of a sort; columns are
+ * filled for all the entries the first time they are compared by the
+ * attribute. Entries without a table are compared by reading their attributes
+ * as usual. The entries are shared with the clones used by the UI, so other
+ * threads may read through a table while it is attached or being detached: a
+ * column, once filled, is never released and each getter reads it only once.
+ * </p>
+ */
+public final class MarkerAttributeTable {
+
+	private final MarkerEntry[] entries;
+
+	private volatile int[] severities;
+	private volatile int[] priorities;
+	private volatile int[] lineNumbers;
+	private volatile long[] creationTimes;
+	private volatile String[] paths;
+	private volatile String[] locations;
+	private volatile CollationKey[] descriptionKeys;
+
+	private MarkerAttributeTable(MarkerEntry[] entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Attach a new table to entries[from..to].
+	 *
+	 * @return the table, to be detached once the entries have been sorted
+	 */
+	public static MarkerAttributeTable attach(MarkerEntry[] entries, int from, int to) {
+		MarkerEntry[] tableEntries = new MarkerEntry[Math.max(0, to - from + 1)];
+		System.arraycopy(entries, from, tableEntries, 0, tableEntries.length);
+		MarkerAttributeTable table = new MarkerAttributeTable(tableEntries);
+		for (int i = 0; i < tableEntries.length; i++) {
+			tableEntries[i].attachTo(table, i);
+		}
+		return table;
+	}
+
+	/**
+	 * Detach the receiver from its entries. The columns are kept, a concurrent
+	 * reader may still be using them; the table becomes garbage together with
+	 * the last reference to it.
+	 */
+	public void detach() {
+		for (MarkerEntry entry : entries) {
+			entry.detachFrom(this);
+		}
+	}
+
+	private static MarkerAttributeTable getTable(MarkerItem item) {
+		if (item instanceof MarkerEntry entry) {
+			return entry.getAttributeTable();
+		}
+		return null;
+	}
+
+	/**
+	 * @return the row of item in table, -1 if there is no table or item was
+	 *         attached to another table meanwhile
+	 */
+	private static int getRow(MarkerAttributeTable table, MarkerItem item) {
+		if (table == null) {
+			return -1;
+		}
+		int row = ((MarkerEntry) item).getAttributeIndex();
+		return row < table.entries.length && table.entries[row] == item ? row : -1;
+	}
+
+	/**
+	 * @return the severity of item, -1 if not set
+	 */
+	public static int getSeverity(MarkerItem item) {
+		MarkerAttributeTable table = getTable(item);
+		int row = getRow(table, item);
+		if (row < 0) {
+			return MarkerSupportInternalUtilities.getSeverity(item);
+		}
+		int[] column = table.severities;
+		if (column == null) {
+			column = table.readInts(IMarker.SEVERITY, -1);
+			table.severities = column;
+		}
+		return column[row];
+	}
+
+	/**
+	 * @return the priority of item, {@link IMarker#PRIORITY_NORMAL} if not set
+	 */
+	public static int getPriority(MarkerItem item) {
+		MarkerAttributeTable table = getTable(item);
+		int row = getRow(table, item);
+		if (row < 0) {
+			return item.getAttributeValue(IMarker.PRIORITY, IMarker.PRIORITY_NORMAL);
+		}
+		int[] column = table.priorities;
+		if (column == null) {
+			column = table.readInts(IMarker.PRIORITY, IMarker.PRIORITY_NORMAL);
+			table.priorities = column;
+		}
+		return column[row];
+	}
+
+	/**
+	 * @return the line number of item, -1 if not set
+	 */
+	public static int getLineNumber(MarkerItem item) {
+		MarkerAttributeTable table = getTable(item);
+		int row = getRow(table, item);
+		if (row < 0) {
+			return item.getAttributeValue(IMarker.LINE_NUMBER, -1);
+		}
+		int[] column = table.lineNumbers;
+		if (column == null) {
+			column = table.readInts(IMarker.LINE_NUMBER, -1);
+			table.lineNumbers = column;
+		}
+		return column[row];
+	}
+
+	/**
+	 * @return the creation time of item
+	 */
+	public static long getCreationTime(MarkerItem item) {
+		MarkerAttributeTable table = getTable(item);
+		int row = getRow(table, item);
+		if (row < 0) {
+			return ((MarkerSupportItem) item).getCreationTime();
+		}
+		long[] column = table.creationTimes;
+		if (column == null) {
+			column = new long[table.entries.length];
+			for (int i = 0; i < column.length; i++) {
+				column[i] = table.entries[i].getCreationTime();
+			}
+			table.creationTimes = column;
+		}
+		return column[row];
+	}
+
+	/**
+	 * @return the path of item
+	 */
+	public static String getPath(MarkerItem item) {
+		MarkerAttributeTable table = getTable(item);
+		int row = getRow(table, item);
+		if (row < 0) {
+			return item.getPath();
+		}
+		String[] column = table.paths;
+		if (column == null) {
+			column = new String[table.entries.length];
+			for (int i = 0; i < column.length; i++) {
+				column[i] = table.entries[i].getPath();
+			}
+			table.paths = column;
+		}
+		return column[row];
+	}
+
+	/**
+	 * @return the location attribute of item; equal locations of the entries
+	 *         of a table are the same instance
+	 */
+	public static String getLocation(MarkerItem item) {
+		MarkerAttributeTable table = getTable(item);
+		int row = getRow(table, item);
+		if (row < 0) {
+			return item.getAttributeValue(IMarker.LOCATION, MarkerItemDefaults.LOCATION_DEFAULT);
+		}
+		String[] column = table.locations;
+		if (column == null) {
+			Map<String, String> pool = new HashMap<>();
+			column = new String[table.entries.length];
+			for (int i = 0; i < column.length; i++) {
+				String location = table.entries[i].getAttributeValue(IMarker.LOCATION,
+						MarkerItemDefaults.LOCATION_DEFAULT);
+				column[i] = pool.computeIfAbsent(location, l -> l);
+			}
+			table.locations = column;
+		}
+		return column[row];
+	}
+
+	/**
+	 * @return the collation key of the description of item
+	 */
+	public static CollationKey getDescriptionKey(MarkerItem item) {
+		MarkerAttributeTable table = getTable(item);
+		int row = getRow(table, item);
+		if (row < 0) {
+			if (item instanceof MarkerEntry entry) {
+				return entry.getCollationKey(IMarker.MESSAGE,
+						MarkerSupportInternalUtilities.UNKNOWN_ATRRIBTE_VALUE_STRING);
+			}
+			return MarkerSupportInternalUtilities.EMPTY_COLLATION_KEY;
+		}
+		CollationKey[] column = table.descriptionKeys;
+		if (column == null) {
+			column = new CollationKey[table.entries.length];
+			for (int i = 0; i < column.length; i++) {
+				column[i] = table.entries[i].getCollationKey(IMarker.MESSAGE,
+						MarkerSupportInternalUtilities.UNKNOWN_ATRRIBTE_VALUE_STRING);
+			}
+			table.descriptionKeys = column;
+		}
+		return column[row];
+	}
+
+	private int[] readInts(String attribute, int defaultValue) {
+		int[] column = new int[entries.length];
+		for (int i = 0; i < column.length; i++) {
+			MarkerEntry entry = entries[i];
+			IMarker marker = entry.getMarker();
+			// read the marker directly, caching the boxed value is what we avoid
+			column[i] = marker == null || entry.getStaleState() ? defaultValue
+					: marker.getAttribute(attribute, defaultValue);
+		}
+		return column;
+	}
+}
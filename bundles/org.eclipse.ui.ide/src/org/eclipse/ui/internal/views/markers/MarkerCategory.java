@@ -19,6 +19,7 @@ import java.util.Objects;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.ui.views.markers.MarkerItem;
+import org.eclipse.ui.views.markers.internal.MarkerGroupingEntry;
 import org.eclipse.ui.views.markers.internal.MarkerMessages;
 
 class MarkerCategory extends MarkerSupportItem {
@@ -35,19 +36,24 @@ class MarkerCategory extends MarkerSupportItem {
 
 	private final Markers markers;
 
+	private final MarkerGroupingEntry groupingEntry;
+
 	/**
 	 * Create a new instance of the receiver that has the markers between
 	 * startIndex and endIndex showing.
 	 *
 	 * @param endIndex
 	 *            the builder used to generate the children lazily.
+	 * @param groupingEntry
+	 *            the grouping entry the markers of the receiver belong to
 	 */
 	MarkerCategory(Markers markers, int startIndex,
-			int endIndex, String categoryName) {
+			int endIndex, String categoryName, MarkerGroupingEntry groupingEntry) {
 		this.markers = markers;
 		start = startIndex;
 		end = endIndex;
 		name = categoryName;
+		this.groupingEntry = groupingEntry;
 	}
 
 	@Override
@@ -133,6 +139,13 @@ class MarkerCategory extends MarkerSupportItem {
 		return severity;
 	}
 
+	/**
+	 * @return the grouping entry the markers of the receiver belong to
+	 */
+	MarkerGroupingEntry getGroupingEntry() {
+		return groupingEntry;
+	}
+
 	/**
 	 * Return the name of the receiver.
 	 *
@@ -40,8 +40,8 @@ public class MarkerCreationTimeField extends MarkerField {
 
 	@Override
 	public int compare(MarkerItem item1, MarkerItem item2) {
-		long time1 = ((MarkerSupportItem) item1).getCreationTime();
-		long time2 = ((MarkerSupportItem) item2).getCreationTime();
+		long time1 = MarkerAttributeTable.getCreationTime(item1);
+		long time2 = MarkerAttributeTable.getCreationTime(item2);
 		return Long.compare(time1, time2);
 	}
 
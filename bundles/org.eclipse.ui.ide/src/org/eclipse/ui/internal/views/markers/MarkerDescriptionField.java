@@ -111,11 +111,8 @@ public class MarkerDescriptionField extends MarkerField {
 	 *
 	 * @return CollationKey
 	 */
-	private CollationKey getDescriptionKey(Object element) {
-		if (element instanceof MarkerEntry)
-			return ((MarkerEntry) element).getCollationKey(IMarker.MESSAGE,
-					MarkerSupportInternalUtilities.UNKNOWN_ATRRIBTE_VALUE_STRING);
-		return MarkerSupportInternalUtilities.EMPTY_COLLATION_KEY;
+	private CollationKey getDescriptionKey(MarkerItem element) {
+		return MarkerAttributeTable.getDescriptionKey(element);
 	}
 
 	@Override
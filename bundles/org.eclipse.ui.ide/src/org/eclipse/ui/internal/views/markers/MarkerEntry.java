@@ -85,6 +85,10 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 	/** cached value **/
 	private String markerTypeName;
 
+	/** the table holding the sort attributes while sorting **/
+	private volatile MarkerAttributeTable attributeTable;
+	private int attributeIndex;
+
 	/**
 	 * Important: access to these fields must be via methods, they must be in sync
 	 * and their values should reflect correctly the state of the other
@@ -339,6 +343,39 @@ class MarkerEntry extends MarkerSupportItem implements IAdaptable {
 		return true;
 	}
 
+	/**
+	 * Attach the receiver to the row index of the table.
+	 */
+	void attachTo(MarkerAttributeTable table, int index) {
+		// the index is published by the volatile write of the table
+		attributeIndex = index;
+		attributeTable = table;
+	}
+
+	/**
+	 * Detach the receiver from the table, if attached to it.
+	 */
+	void detachFrom(MarkerAttributeTable table) {
+		if (attributeTable == table) {
+			attributeTable = null;
+		}
+	}
+
+	/**
+	 * @return the table holding the sort attributes of the receiver, or
+	 *         <code>null</code> if not being sorted
+	 */
+	MarkerAttributeTable getAttributeTable() {
+		return attributeTable;
+	}
+
+	/**
+	 * @return the row of the receiver in its attribute table
+	 */
+	int getAttributeIndex() {
+		return attributeIndex;
+	}
+
 	/**
 	 * Set the category to markerCategory.
 	 */
@@ -14,7 +14,6 @@
 
 package org.eclipse.ui.internal.views.markers;
 
-import org.eclipse.core.resources.IMarker;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.ui.views.markers.MarkerField;
 import org.eclipse.ui.views.markers.MarkerItem;
@@ -47,17 +46,16 @@ public class MarkerLocationField extends MarkerField {
 	public int compare(MarkerItem item1, MarkerItem item2) {
 
 		//See if location got overridden
-		String location1 = item1.getAttributeValue(IMarker.LOCATION, MarkerItemDefaults.LOCATION_DEFAULT);
-		String location2 = item2.getAttributeValue(IMarker.LOCATION, MarkerItemDefaults.LOCATION_DEFAULT);
+		String location1 = MarkerAttributeTable.getLocation(item1);
+		String location2 = MarkerAttributeTable.getLocation(item2);
 		int c = Boolean.compare(location1.isEmpty(), location2.isEmpty());
 		if (c != 0) {
 			return c;
 		}
-		c = location1.compareTo(location2);
+		c = location1 == location2 ? 0 : location1.compareTo(location2);
 		if (c != 0) {
 			return c;
 		}
-		return Integer.compare(item1.getAttributeValue(IMarker.LINE_NUMBER, -1),
-				item2.getAttributeValue(IMarker.LINE_NUMBER, -1));
+		return Integer.compare(MarkerAttributeTable.getLineNumber(item1), MarkerAttributeTable.getLineNumber(item2));
 	}
 }
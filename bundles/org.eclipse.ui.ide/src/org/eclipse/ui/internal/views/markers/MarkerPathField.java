@@ -32,7 +32,9 @@ public class MarkerPathField extends MarkerField {
 		if (value != 0) {
 			return value;
 		}
-		return item1.getPath().compareTo(item2.getPath());
+		String path1 = MarkerAttributeTable.getPath(item1);
+		String path2 = MarkerAttributeTable.getPath(item2);
+		return path1 == path2 ? 0 : path1.compareTo(path2);
 	}
 
 	@Override
@@ -100,8 +100,7 @@ public class MarkerPriorityField extends MarkerField {
 
 	@Override
 	public int compare(MarkerItem item1, MarkerItem item2) {
-		return Integer.compare(item1.getAttributeValue(IMarker.PRIORITY, IMarker.PRIORITY_NORMAL),
-				item2.getAttributeValue(IMarker.PRIORITY, IMarker.PRIORITY_NORMAL));
+		return Integer.compare(MarkerAttributeTable.getPriority(item1), MarkerAttributeTable.getPriority(item2));
 	}
 
 	@Override
@@ -31,8 +31,7 @@ public class MarkerProblemSeverityAndMessageField extends
 
 	@Override
 	public int compare(MarkerItem item1, MarkerItem item2) {
-		int c = Integer.compare(MarkerSupportInternalUtilities.getSeverity(item1),
-				MarkerSupportInternalUtilities.getSeverity(item2));
+		int c = Integer.compare(MarkerAttributeTable.getSeverity(item1), MarkerAttributeTable.getSeverity(item2));
 		if (c != 0) {
 			return c;
 		}
@@ -35,8 +35,7 @@ public class MarkerSeverityAndDescriptionField extends MarkerDescriptionField {
 
 	@Override
 	public int compare(MarkerItem item1, MarkerItem item2) {
-		int c = Integer.compare(MarkerSupportInternalUtilities.getSeverity(item1),
-				MarkerSupportInternalUtilities.getSeverity(item2));
+		int c = Integer.compare(MarkerAttributeTable.getSeverity(item1), MarkerAttributeTable.getSeverity(item2));
 		if (c != 0) {
 			return c;
 		}
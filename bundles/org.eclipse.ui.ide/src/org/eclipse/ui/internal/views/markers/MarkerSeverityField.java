@@ -46,7 +46,6 @@ public class MarkerSeverityField extends MarkerField {
 
 	@Override
 	public int compare(MarkerItem item1, MarkerItem item2) {
-		return Integer.compare(MarkerSupportInternalUtilities.getSeverity(item1),
-				MarkerSupportInternalUtilities.getSeverity(item2));
+		return Integer.compare(MarkerAttributeTable.getSeverity(item1), MarkerAttributeTable.getSeverity(item2));
 	}
 }
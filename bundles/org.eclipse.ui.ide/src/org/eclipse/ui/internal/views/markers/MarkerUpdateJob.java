@@ -36,7 +36,7 @@ import org.osgi.framework.Bundle;
 class MarkerUpdateJob extends Job {
 
 	CachedMarkerBuilder builder;
-	private boolean clean;
+	private volatile boolean clean;
 	private long lastUpdateTime = -1;
 
 	MarkerUpdateJob(CachedMarkerBuilder builder) {
@@ -53,38 +53,47 @@ class MarkerUpdateJob extends Job {
 
 	/**
 	 * gather all markers needed by the view.
+	 *
+	 * @return <code>true</code> if the gathered markers have been committed to
+	 *         the {@link Markers}, <code>false</code> if the job got cancelled
+	 *         or the gathering failed before, in which case a clean stays
+	 *         requested
 	 */
-	void buildMarkers(IProgressMonitor monitor) {
+	boolean buildMarkers(IProgressMonitor monitor) {
 		//check for cancellation before we start
 		if (monitor.isCanceled()) {
-			return;
+			return false;
 		}
 		// builder.getUpdateScheduler().cancelQueuedUIUpdates();
 		// builder.getUpdateScheduler().indicateStatus(
 		// MarkerMessages.MarkerView_searching_for_markers, false);
 
 		Collection<MarkerEntry> markerEntries = new LinkedList<>();
-		//this is not incremental clean every time
-		clean = !clean(markerEntries, monitor);
-		if (monitor.isCanceled()) {
-			return;
+		//this is not incremental clean every time; a clean requested
+		//while gathering needs another gather, and the clean stays
+		//requested until the gathered markers are committed
+		clean = false;
+		if (!clean(markerEntries, monitor) || monitor.isCanceled()) {
+			setClean();
+			return false;
 		}
 		// builder.getUpdateScheduler().indicateStatus(
 		// MarkerMessages.MarkerView_processUpdates, false);
 
 		monitor.setTaskName(MarkerMessages.MarkerView_processUpdates);
 		if (!processMarkerEntries(markerEntries, monitor)) {
-			return;
-		}
-		if (monitor.isCanceled()) {
-			return;
+			setClean();
+			return false;
 		}
+		// the markers are committed, the view has to show them even if the
+		// job gets cancelled now
 		builder.getUpdateScheduler().scheduleUIUpdate(MarkerUpdateScheduler.SHORT_DELAY);
 		if (monitor.isCanceled()) {
-			return;
+			return true;
 		}
 		builder.setBuilding(false);
 		updateDone();
+		return true;
 	}
 
 	/**
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+
+package org.eclipse.ui.internal.views.markers;
+
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+
+/**
+ * The lazy ContentProvider to the virtual TreeViewer used in Markers View. Only
+ * the rows the tree asks for are looked up, so the markers do not need to be
+ * limited to keep the view responsive.
+ */
+class MarkerViewerLazyContentProvider implements ILazyTreeContentProvider {
+
+	private TreeViewer viewer;
+	private Object input;
+	private final ExtendedMarkersView markersView;
+
+	public MarkerViewerLazyContentProvider(ExtendedMarkersView extendedMarkersView) {
+		this.markersView = extendedMarkersView;
+	}
+
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		this.viewer = (TreeViewer) viewer;
+		this.input = newInput;
+	}
+
+	@Override
+	public void updateElement(Object parent, int index) {
+		MarkerSupportItem[] children = getChildren(parent);
+		if (index >= getLimitedCount(children.length)) {
+			return;
+		}
+		MarkerSupportItem element = children[index];
+		viewer.replace(parent, index, element);
+		updateChildCount(element, -1);
+	}
+
+	@Override
+	public void updateChildCount(Object element, int currentChildCount) {
+		int count = getLimitedCount(getChildren(element).length);
+		if (count != currentChildCount) {
+			viewer.setChildCount(element, count);
+		}
+	}
+
+	private MarkerSupportItem[] getChildren(Object element) {
+		if (element instanceof MarkerSupportItem markerItem) {
+			return markerItem.getChildren();
+		}
+		if (element instanceof Markers && input instanceof Markers markers) {
+			// use clone
+			return markers.getElements();
+		}
+		return MarkerSupportInternalUtilities.EMPTY_MARKER_ITEM_ARRAY;
+	}
+
+	/**
+	 * Get the number of children shown, limited by the marker limits.
+	 */
+	private int getLimitedCount(int length) {
+		boolean limitsEnabled = markersView.getGenerator().isMarkerLimitsEnabled();
+		int limits = markersView.getGenerator().getMarkerLimits();
+
+		if (!limitsEnabled || limits <= 0 || limits > length)
+			return length;
+		return limits;
+	}
+
+	@Override
+	public Object getParent(Object element) {
+		Object parent = null;
+		if (element instanceof MarkerSupportItem markerItem) {
+			parent = markerItem.getParent();
+		}
+		if (parent == null)
+			return input;
+		return parent;
+	}
+}
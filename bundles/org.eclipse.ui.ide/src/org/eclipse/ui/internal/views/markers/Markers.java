@@ -21,15 +21,18 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
 import org.eclipse.ui.views.markers.MarkerItem;
 import org.eclipse.ui.views.markers.internal.MarkerGroup;
@@ -61,6 +64,11 @@ class Markers {
 	private Map<IMarker, MarkerEntry> markerToEntryMap;
 	private Integer[] markerCounts;
 
+	// whether markerEntryArray has been sorted and grouped, and the group
+	// used for it; incremental changes are only applied to sorted entries
+	private boolean sorted;
+	private MarkerGroup sortedGroup;
+
 	Markers(CachedMarkerBuilder builder) {
 		this.builder = builder;
 	}
@@ -83,9 +91,12 @@ class Markers {
 				markerToEntryMap = null;
 			}
 			markerCounts = null;
+			sorted = false;
 			if (markerEntries.isEmpty()) {
 				categories = EMPTY_CATEGORY_ARRAY;
 				markerEntryArray = EMPTY_ENTRY_ARRAY;
+				sorted = true;
+				sortedGroup = builder.getCategoryGroup();
 				return true;
 			}
 			if (monitor.isCanceled()) {
@@ -119,6 +130,7 @@ class Markers {
 		boolean initialVal = inChange;
 		try {
 			inChange = true;
+			sortedGroup = builder.getCategoryGroup();
 			// Sort by Category first
 			if (builder.isShowingHierarchy()) {
 				MarkerCategory[] markerCategories = groupIntoCategories(monitor, markerEntryArray);
@@ -139,12 +151,15 @@ class Markers {
 	}
 
 	synchronized boolean sortMarkerEntries(IProgressMonitor monitor) {
+		sorted = false;
 		if (monitor.isCanceled()) {
 			return false;
 		}
 		boolean initialVal = inChange;
 		MarkerComparator markerComparator = builder.getComparator();
 		MarkerCategory lastCategory = null;
+		MarkerAttributeTable attributeTable = MarkerAttributeTable.attach(markerEntryArray, 0,
+				markerEntryArray.length - 1);
 		try {
 			inChange = true;
 			if (builder.isShowingHierarchy()) {
@@ -175,6 +190,7 @@ class Markers {
 				return false;
 			}
 			monitor.worked(50);
+			sorted = true;
 			return true;
 		} catch (IllegalArgumentException e) {
 			StringBuilder err = new StringBuilder("Bug 371586: broken comparator. "); //$NON-NLS-1$
@@ -188,6 +204,7 @@ class Markers {
 			IDEWorkbenchPlugin.log(err.toString(), e);
 			return false;
 		} finally {
+			attributeTable.detach();
 			inChange = initialVal;
 		}
 	}
@@ -225,7 +242,7 @@ class Markers {
 			end = entry.getValue();
 			markerCategories[i++] = new MarkerCategory(this, start, end,
 					builder.getCategoryGroup().getMarkerField()
-							.getValue(newMarkers[start]));
+							.getValue(newMarkers[start]), entry.getKey());
 			start = end + 1;
 		}
 		return markerCategories;
@@ -279,6 +296,183 @@ class Markers {
 		return result;
 	}
 
+	/**
+	 * Apply the given marker changes to the sorted and grouped entries, without
+	 * gathering or sorting all the markers again. The changed markers are
+	 * removed from the categories they were in and inserted into their new
+	 * position; categories whose entries are fully sorted use binary insertion,
+	 * categories trimmed by the marker limit only re-select their top entries.
+	 *
+	 * @param changes
+	 *            a map from each changed marker to its new entry, or to
+	 *            <code>null</code> if the marker has been removed or is no
+	 *            longer shown
+	 * @return <code>false</code> if the changes cannot be applied
+	 *         incrementally, for example because the grouping has changed
+	 *         since the last sort; a clean update is required then
+	 */
+	synchronized boolean applyChanges(Map<IMarker, MarkerEntry> changes) {
+		MarkerGroup group = builder.getCategoryGroup();
+		if (!sorted || group != sortedGroup) {
+			return false;
+		}
+		boolean initialVal = inChange;
+		try {
+			inChange = true;
+			Map<IMarker, MarkerEntry> entryMap = getMarkerToEntryMap();
+			Set<MarkerEntry> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+			List<MarkerEntry> added = new ArrayList<>();
+			for (Entry<IMarker, MarkerEntry> change : changes.entrySet()) {
+				MarkerEntry oldEntry = change.getValue() == null ? entryMap.remove(change.getKey())
+						: entryMap.put(change.getKey(), change.getValue());
+				if (oldEntry != null) {
+					removed.add(oldEntry);
+				}
+				if (change.getValue() != null) {
+					added.add(change.getValue());
+				}
+			}
+			if (removed.isEmpty() && added.isEmpty()) {
+				return true;
+			}
+			if (group == null) {
+				MarkerEntry[] kept = removeEntries(markerEntryArray, 0, markerEntryArray.length - 1, removed);
+				markerEntryArray = insertEntries(kept, added, builder.getComparator(), false);
+			} else {
+				applyGroupedChanges(group, removed, added);
+			}
+			for (MarkerEntry entry : added) {
+				entry.clearCache();
+			}
+			MarkerEntry.clearCollationCache();
+			markerCounts = null;
+			return true;
+		} catch (IllegalArgumentException e) {
+			// broken comparator, see sortMarkerEntries
+			IDEWorkbenchPlugin.log("Bug 371586: broken comparator. ", e); //$NON-NLS-1$
+			sorted = false;
+			markerToEntryMap = null;
+			return false;
+		} finally {
+			inChange = initialVal;
+		}
+	}
+
+	private void applyGroupedChanges(MarkerGroup group, Set<MarkerEntry> removed, List<MarkerEntry> added) {
+		TreeMap<MarkerGroupingEntry, MarkerEntry[]> keptByGroup = new TreeMap<>(group.getEntriesComparator());
+		for (MarkerCategory category : categories) {
+			keptByGroup.put(category.getGroupingEntry(),
+					removeEntries(markerEntryArray, category.start, category.end, removed));
+		}
+		TreeMap<MarkerGroupingEntry, List<MarkerEntry>> addedByGroup = new TreeMap<>(group.getEntriesComparator());
+		for (MarkerEntry entry : added) {
+			IMarker marker = entry.getMarker();
+			try {
+				MarkerGroupingEntry groupingEntry = group.findGroupValue(marker.getType(), marker);
+				addedByGroup.computeIfAbsent(groupingEntry, key -> new ArrayList<>()).add(entry);
+				if (!keptByGroup.containsKey(groupingEntry)) {
+					keptByGroup.put(groupingEntry, EMPTY_ENTRY_ARRAY);
+				}
+			} catch (CoreException e) {
+				// skip stale markers, as groupMarkerEntries does
+				entry.checkIfMarkerStale();
+				markerToEntryMap.remove(marker);
+			}
+		}
+		Comparator<MarkerItem> comparator = builder.getComparator().getFieldsComparator();
+		List<MarkerCategory> newCategories = new ArrayList<>(keptByGroup.size());
+		List<MarkerEntry[]> segments = new ArrayList<>(keptByGroup.size());
+		int start = 0;
+		for (Entry<MarkerGroupingEntry, MarkerEntry[]> entry : keptByGroup.entrySet()) {
+			List<MarkerEntry> groupAdded = addedByGroup.get(entry.getKey());
+			MarkerEntry[] segment = groupAdded == null ? entry.getValue()
+					: insertEntries(entry.getValue(), groupAdded, comparator, true);
+			if (segment.length == 0) {
+				continue;
+			}
+			int end = start + segment.length - 1;
+			newCategories.add(new MarkerCategory(this, start, end,
+					group.getMarkerField().getValue(segment[0]), entry.getKey()));
+			segments.add(segment);
+			start = end + 1;
+		}
+		MarkerEntry[] newEntries = new MarkerEntry[start];
+		int offset = 0;
+		for (MarkerEntry[] segment : segments) {
+			System.arraycopy(segment, 0, newEntries, offset, segment.length);
+			offset += segment.length;
+		}
+		markerEntryArray = newEntries;
+		categories = newCategories.toArray(EMPTY_CATEGORY_ARRAY);
+	}
+
+	/**
+	 * @return the entries of entries[from..to] which are not in removed
+	 */
+	private static MarkerEntry[] removeEntries(MarkerEntry[] entries, int from, int to, Set<MarkerEntry> removed) {
+		MarkerEntry[] kept = new MarkerEntry[to - from + 1];
+		int count = 0;
+		for (int i = from; i <= to; i++) {
+			if (!removed.contains(entries[i])) {
+				kept[count++] = entries[i];
+			}
+		}
+		return count == kept.length ? kept : Arrays.copyOf(kept, count);
+	}
+
+	/**
+	 * Insert the added entries into the kept entries, sorted the same way
+	 * {@link #sortMarkerEntries(IProgressMonitor)} sorts a category (or all the
+	 * entries if not grouped).
+	 */
+	private MarkerEntry[] insertEntries(MarkerEntry[] kept, List<MarkerEntry> added, Comparator<MarkerItem> comparator,
+			boolean grouped) {
+		int size = kept.length + added.size();
+		// entries are fully sorted unless the marker limit kept the sort to
+		// the first entries; see sortMarkerEntries for the available counts
+		int keptAvailable = grouped ? kept.length : kept.length - 1;
+		if (getShowingLimit(keptAvailable) < keptAvailable) {
+			MarkerEntry[] result = Arrays.copyOf(kept, size);
+			for (int i = 0; i < added.size(); i++) {
+				result[kept.length + i] = added.get(i);
+			}
+			int available = grouped ? size : size - 1;
+			MarkerAttributeTable attributeTable = MarkerAttributeTable.attach(result, 0, size - 1);
+			try {
+				MarkerSortUtil.sortStartingKElement(result, comparator, 0, size - 1, getShowingLimit(available),
+						new NullProgressMonitor());
+			} finally {
+				attributeTable.detach();
+			}
+			return result;
+		}
+		MarkerEntry[] inserted = added.toArray(EMPTY_ENTRY_ARRAY);
+		Arrays.sort(inserted, comparator);
+		MarkerEntry[] result = new MarkerEntry[size];
+		int copied = 0;
+		int low = 0;
+		int target = 0;
+		for (MarkerEntry entry : inserted) {
+			// insert after equal entries; positions only move forward as the
+			// inserted entries are sorted
+			int high = kept.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (comparator.compare(kept[mid], entry) <= 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			System.arraycopy(kept, copied, result, target, low - copied);
+			target += low - copied;
+			copied = low;
+			result[target++] = entry;
+		}
+		System.arraycopy(kept, copied, result, target, kept.length - copied);
+		return result;
+	}
+
 	/**
 	 * Returns an array of marker counts where getMarkerCounts()[severity] is
 	 * the number of markers in the list with the given severity.
@@ -330,6 +524,10 @@ class Markers {
 	 * @return {@link MarkerItem}
 	 */
 	public synchronized MarkerItem getMarkerItem(IMarker marker) {
+		return getMarkerToEntryMap().get(marker);
+	}
+
+	private Map<IMarker, MarkerEntry> getMarkerToEntryMap() {
 		if (markerToEntryMap == null) {
 			markerToEntryMap = new HashMap<>();
 			for (MarkerEntry markerEntry : markerEntryArray) {
@@ -339,7 +537,7 @@ class Markers {
 				}
 			}
 		}
-		return markerToEntryMap.get(marker);
+		return markerToEntryMap;
 	}
 
 	/**
@@ -172,10 +172,9 @@ class MarkersChangeListener implements IResourceChangeListener {
 	 * of the markers that were gathered initially, and keeps them synched at
 	 * any point with the markers of interest in Workspace. Unfortunately marker
 	 * operations cannot be locked so locking between gathering of markers and
-	 * marker deltas is not possible.
-	 *
-	 * Note : this method of updating is NOT used and tested yet and has holes
-	 * but left out SOLELY for further investigation(*).
+	 * marker deltas is not possible; the {@link IncrementUpdateJob} therefore
+	 * drops the changes queued before it gathers clean, once the gathered
+	 * markers are committed.
 	 */
 	private void handleIncrementalChange(IResourceChangeEvent event) {
 		IMarkerDelta[] markerDeltas = event.findMarkerDeltas(null, true);
@@ -522,6 +521,19 @@ class MarkerUpdateScheduler {
 		// updateTimer.reset();
 	}
 
+	/**
+	 * Schedule marker update, gathering all markers again if clean is
+	 * <code>true</code> or else only applying the queued marker changes.
+	 */
+	void scheduleUpdate(long delay, boolean cancelPrevious, boolean clean) {
+		builder.setBuilding(true);
+		if (cancelPrevious) {
+			cancelQueuedUIUpdates();
+			cancelUpdate();
+		}
+		updateJob = builder.scheduleUpdateJob(delay, clean);
+	}
+
 	/**
 	 * Schedule marker update.
 	 */
@@ -780,7 +792,8 @@ class MarkerUpdateScheduler {
 
 		private void go(long delay, boolean cancelPrevious) {
 			timeB4Update = System.currentTimeMillis() + delay;
-			scheduleUpdate(delay + AFTER_MARGIN, cancelPrevious);
+			// marker changes are queued to the update job when incremental
+			scheduleUpdate(delay + AFTER_MARGIN, cancelPrevious, !builder.isIncremental());
 		}
 	}
 }
@@ -15,12 +15,15 @@
 package org.eclipse.ui.internal.views.markers;
 
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Tree;
 
 /**
  * The MarkersTreeViewer is a viewer that optimizes the expandToLevel method.
+ * It may use a virtual tree, in which case only the rows shown are populated.
  *
  * @since 3.4
  */
@@ -69,4 +72,22 @@ public class MarkersTreeViewer extends TreeViewer {
 		}
 	}
 
+	@Override
+	protected Item[] getSelection(Control widget) {
+		Item[] selection = super.getSelection(widget);
+		if ((widget.getStyle() & SWT.VIRTUAL) != 0) {
+			for (Item item : selection) {
+				if (item.getData() == null) {
+					/*
+					 * The item was selected without ever being shown, e.g. by
+					 * select all. Asking for its text has the tree request its
+					 * element, so that it is part of the selection.
+					 */
+					item.getText();
+				}
+			}
+		}
+		return selection;
+	}
+
 }
@@ -12,6 +12,9 @@
  *     IBM Corporation - initial API and implementation
  *******************************************************************************/
 package org.eclipse.ui.internal.views.markers;
+
+import org.eclipse.core.resources.IMarker;
+
 /**
  * @since 3.4
  *	Mock Class needed for testing Sort
@@ -22,6 +25,10 @@ public class MockMarkerEntry extends MarkerEntry{
 		super(null);
 		this.name=name;
 	}
+	public MockMarkerEntry(IMarker marker) {
+		super(marker);
+		this.name=String.valueOf(marker.getId());
+	}
 	@Override
 	public boolean equals(Object obj) {
 		// TODO Auto-generated method stub
@@ -80,6 +80,10 @@ public class EventLoopMonitorThread extends Thread {
 		public String uiThreadFilter;
 		/** @see org.eclipse.ui.monitoring.PreferenceConstants#NONINTERESTING_THREAD_FILTER */
 		public String noninterestingThreadFilter;
+		/** @see org.eclipse.ui.monitoring.PreferenceConstants#PROFILING_SAMPLE_INTERVAL_MILLIS */
+		public int profilingSampleInterval;
+		/** @see org.eclipse.ui.monitoring.PreferenceConstants#PROFILING_MAX_SAMPLES */
+		public int profilingMaxSamples;
 
 		/**
 		 * Checks if the values of parameters for UI responsiveness monitoring are valid.
@@ -358,6 +362,8 @@ public class EventLoopMonitorThread extends Thread {
 	private final long uiThreadId;
 	private final Object sleepMonitor;
 	private final boolean logToErrorLog;
+	private final long profilingSampleInterval;
+	private final UiThreadProfile profile;
 	private EventHistory eventHistory;
 	private ThreadMXBean threadMXBean;
 	private boolean dumpLockedMonitors;
@@ -395,6 +401,13 @@ public class EventLoopMonitorThread extends Thread {
 		logToErrorLog = args.logToErrorLog;
 		uiThreadFilter = new FilterHandler(args.uiThreadFilter);
 		noninterestingThreadFilter = new FilterHandler(args.noninterestingThreadFilter);
+		if (args.profilingSampleInterval > 0 && args.profilingMaxSamples > 0) {
+			profilingSampleInterval = args.profilingSampleInterval;
+			profile = new UiThreadProfile(args.profilingMaxSamples);
+		} else {
+			profilingSampleInterval = 0;
+			profile = null;
+		}
 		sleepMonitor = new Object();
 	}
 
@@ -488,6 +501,9 @@ public class EventLoopMonitorThread extends Thread {
 
 		boolean dumpAllThreads = false;
 
+		long grabProfileSampleAt = 0;
+		MonitoringPlugin.setUiThreadProfile(profile);
+
 		// Register for events
 		display.asyncExec(this::registerDisplayListeners);
 
@@ -520,6 +536,10 @@ public class EventLoopMonitorThread extends Thread {
 			} else {
 				sleepFor = Math.min(pollingNyquistDelay, Math.max(1, grabStackSampleAt - currTime));
 			}
+			if (profile != null) {
+				// Wake up in time for the next profiling sample.
+				sleepFor = Math.max(1, Math.min(sleepFor, grabProfileSampleAt - currTime));
+			}
 
 			// Allow the discarded stack samples to be garbage collected.
 			for (int i = numSamples; i < stackSamples.length && stackSamples[i] != null; i++) {
@@ -550,6 +570,17 @@ public class EventLoopMonitorThread extends Thread {
 			}
 			boolean starved = starvedAsleepCurrentCycle || starvedAwakeCurrentCycle;
 
+			// Sample the UI thread for the profile while it is processing an event.
+			if (profile != null && currTime >= grabProfileSampleAt) {
+				if (currEventStartOrResumeTime != 0) {
+					ThreadInfo threadInfo = threadMXBean.getThreadInfo(uiThreadId, Integer.MAX_VALUE);
+					if (threadInfo != null) {
+						profile.addSample(threadInfo.getStackTrace());
+					}
+				}
+				grabProfileSampleAt = currTime + profilingSampleInterval;
+			}
+
 			/*
 			 * If after sleeping we see that a new event has been dispatched, mark that we should
 			 * update the stalled event state. Otherwise, check if we have surpassed our threshold
@@ -30,6 +30,7 @@ public class MonitoringPlugin {
 
 	private static ILog logger = ILog.of(MonitoringPlugin.class);
 	private static IPreferenceStore store;
+	private static volatile UiThreadProfile uiThreadProfile;
 
 	public static void logError(String message, Throwable e) {
 		logger.log(new Status(IStatus.ERROR, PreferenceConstants.PLUGIN_ID, message, e));
@@ -39,7 +40,17 @@ public class MonitoringPlugin {
 		logger.log(new Status(IStatus.WARNING, PreferenceConstants.PLUGIN_ID, message));
 	}
 
+	/**
+	 * Returns the profile of the UI thread built by the running monitoring thread, or
+	 * {@code null} if profiling is disabled.
+	 */
+	public static UiThreadProfile getUiThreadProfile() {
+		return uiThreadProfile;
+	}
 
+	static void setUiThreadProfile(UiThreadProfile profile) {
+		uiThreadProfile = profile;
+	}
 
 	public static IPreferenceStore getPreferenceStore() {
 		if (store == null) {
@@ -87,6 +87,9 @@ public class MonitoringStartup implements EventHandler {
 		args.deadlockThreshold =
 				preferences.getInt(PreferenceConstants.DEADLOCK_REPORTING_THRESHOLD_MILLIS);
 		args.maxStackSamples = preferences.getInt(PreferenceConstants.MAX_STACK_SAMPLES);
+		args.profilingSampleInterval =
+				preferences.getInt(PreferenceConstants.PROFILING_SAMPLE_INTERVAL_MILLIS);
+		args.profilingMaxSamples = preferences.getInt(PreferenceConstants.PROFILING_MAX_SAMPLES);
 		args.uiThreadFilter = preferences.getString(PreferenceConstants.UI_THREAD_FILTER);
 		args.noninterestingThreadFilter =
 				preferences.getString(PreferenceConstants.NONINTERESTING_THREAD_FILTER);
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A histogram of the stack traces of the UI thread sampled while it is busy. Only the most recent
+ * samples are kept, in a ring buffer, so the profile describes the recent use of the UI thread in
+ * bounded memory. The profile can be written in the collapsed stack format read by flame graph
+ * tools: one line per distinct stack, with the frames from the root to the leaf separated by
+ * semicolons, followed by a space and the number of samples.
+ */
+public class UiThreadProfile {
+	private static class Entry {
+		final String stack;
+		int count;
+
+		Entry(String stack) {
+			this.stack = stack;
+		}
+	}
+
+	private final Entry[] samples;
+	private final Map<String, Entry> histogram = new HashMap<>();
+	private int start;
+	private int size;
+
+	/**
+	 * Creates an empty profile.
+	 *
+	 * @param maxSamples the number of the most recent samples to keep, must be positive
+	 */
+	public UiThreadProfile(int maxSamples) {
+		samples = new Entry[maxSamples];
+	}
+
+	/**
+	 * Adds a sample of the stack of the UI thread, evicting the oldest sample if the profile is
+	 * full. May be called from any thread.
+	 *
+	 * @param stackTrace the stack trace, with the most recent call first
+	 */
+	public void addSample(StackTraceElement[] stackTrace) {
+		if (stackTrace.length == 0) {
+			return;
+		}
+		String stack = foldStack(stackTrace);
+		synchronized (this) {
+			Entry entry = histogram.computeIfAbsent(stack, Entry::new);
+			entry.count++;
+			if (size < samples.length) {
+				samples[(start + size++) % samples.length] = entry;
+			} else {
+				Entry evicted = samples[start];
+				if (--evicted.count == 0) {
+					histogram.remove(evicted.stack);
+				}
+				samples[start] = entry;
+				start = (start + 1) % samples.length;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of samples currently in the profile.
+	 */
+	public synchronized int getSampleCount() {
+		return size;
+	}
+
+	/**
+	 * Removes all samples from the profile.
+	 */
+	public synchronized void clear() {
+		histogram.clear();
+		for (int i = 0; i < samples.length; i++) {
+			samples[i] = null;
+		}
+		start = 0;
+		size = 0;
+	}
+
+	/**
+	 * Writes the profile in the collapsed stack format, the stacks sorted alphabetically.
+	 *
+	 * @param out the destination of the profile
+	 * @throws IOException if the profile could not be written
+	 */
+	public void writeCollapsedStacks(Appendable out) throws IOException {
+		Map<String, Integer> counts = new TreeMap<>();
+		synchronized (this) {
+			for (Entry entry : histogram.values()) {
+				counts.put(entry.stack, entry.count);
+			}
+		}
+		for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+			out.append(entry.getKey()).append(' ').append(entry.getValue().toString()).append('\n');
+		}
+	}
+
+	/**
+	 * Returns the frames of the given stack trace, from the root to the leaf, separated by
+	 * semicolons.
+	 */
+	static String foldStack(StackTraceElement[] stackTrace) {
+		StringBuilder buf = new StringBuilder(stackTrace.length * 64);
+		for (int i = stackTrace.length; --i >= 0;) {
+			StackTraceElement frame = stackTrace[i];
+			if (buf.length() != 0) {
+				buf.append(';');
+			}
+			buf.append(frame.getClassName()).append('.').append(frame.getMethodName());
+		}
+		return buf.toString();
+	}
+}
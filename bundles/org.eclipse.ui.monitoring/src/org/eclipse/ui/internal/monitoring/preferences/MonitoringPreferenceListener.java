@@ -54,6 +54,8 @@ public class MonitoringPreferenceListener implements IPropertyChangeListener {
 				&& !property.equals(PreferenceConstants.LONG_EVENT_WARNING_THRESHOLD_MILLIS)
 				&& !property.equals(PreferenceConstants.LOG_TO_ERROR_LOG)
 				&& !property.equals(PreferenceConstants.MAX_STACK_SAMPLES)
+				&& !property.equals(PreferenceConstants.PROFILING_SAMPLE_INTERVAL_MILLIS)
+				&& !property.equals(PreferenceConstants.PROFILING_MAX_SAMPLES)
 				&& !property.equals(PreferenceConstants.UI_THREAD_FILTER)
 				&& !property.equals(PreferenceConstants.NONINTERESTING_THREAD_FILTER)) {
 			return;
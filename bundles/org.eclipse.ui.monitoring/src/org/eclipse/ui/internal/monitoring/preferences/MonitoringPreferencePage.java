@@ -15,9 +15,15 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.monitoring.preferences;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.layout.GridLayoutFactory;
 import org.eclipse.jface.layout.LayoutConstants;
@@ -28,12 +34,15 @@ import org.eclipse.jface.preference.FieldEditorPreferencePage;
 import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPreferencePage;
 import org.eclipse.ui.internal.monitoring.MonitoringPlugin;
+import org.eclipse.ui.internal.monitoring.UiThreadProfile;
 import org.eclipse.ui.monitoring.PreferenceConstants;
 
 /**
@@ -146,6 +155,19 @@ public class MonitoringPreferencePage extends FieldEditorPreferencePage
 		createIntegerEditor(
 				PreferenceConstants.MAX_STACK_SAMPLES,
 				Messages.MonitoringPreferencePage_max_stack_samples_label, block, 0, 100);
+		createIntegerEditor(
+				PreferenceConstants.PROFILING_SAMPLE_INTERVAL_MILLIS,
+				Messages.MonitoringPreferencePage_profiling_sample_interval_label, block, 0, 10000);
+		createIntegerEditor(
+				PreferenceConstants.PROFILING_MAX_SAMPLES,
+				Messages.MonitoringPreferencePage_profiling_max_samples_label, block, 1, 1000000);
+
+		UiThreadProfile profile = MonitoringPlugin.getUiThreadProfile();
+		Button exportProfile = new Button(block, SWT.PUSH);
+		exportProfile.setText(Messages.MonitoringPreferencePage_export_profile_button_label);
+		exportProfile.setEnabled(profile != null && profile.getSampleCount() != 0);
+		exportProfile.addListener(SWT.Selection, event -> exportProfile(profile));
+		GridDataFactory.swtDefaults().span(2, 1).applyTo(exportProfile);
 		GridLayoutFactory.fillDefaults()
 				.numColumns(2)
 				.spacing(LayoutConstants.getSpacing())
@@ -181,6 +203,24 @@ public class MonitoringPreferencePage extends FieldEditorPreferencePage
 		return block;
 	}
 
+	private void exportProfile(UiThreadProfile profile) {
+		FileDialog dialog = new FileDialog(getShell(), SWT.SAVE);
+		dialog.setFilterExtensions(new String[] { "*.folded", "*.*" }); //$NON-NLS-1$ //$NON-NLS-2$
+		dialog.setFileName("ui-thread.folded"); //$NON-NLS-1$
+		dialog.setOverwrite(true);
+		String fileName = dialog.open();
+		if (fileName == null) {
+			return;
+		}
+		try (Writer writer = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8)) {
+			profile.writeCollapsedStacks(writer);
+		} catch (IOException e) {
+			MonitoringPlugin.logError(Messages.MonitoringPreferencePage_export_profile_error, e);
+			MessageDialog.openError(getShell(), Messages.MonitoringPreferencePage_export_profile_error_header,
+					Messages.MonitoringPreferencePage_export_profile_error);
+		}
+	}
+
 	private static Control createEmptySpace(Composite parent, int height, int span) {
 		Label label= new Label(parent, SWT.LEFT);
 		GridDataFactory.fillDefaults().span(span, 1).hint(0, height).applyTo(label);
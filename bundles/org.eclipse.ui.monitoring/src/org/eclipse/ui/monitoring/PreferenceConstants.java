@@ -58,6 +58,15 @@ public class PreferenceConstants {
 	 * message if all stack frames of the thread match the filter.
 	 */
 	public static final String NONINTERESTING_THREAD_FILTER = "noninteresting_thread_filter"; //$NON-NLS-1$
+	/**
+	 * Interval in milliseconds at which the stack of the UI thread is sampled while it is busy,
+	 * to build a profile of the recent use of the UI thread. Zero disables the profiling.
+	 */
+	public static final String PROFILING_SAMPLE_INTERVAL_MILLIS = "profiling_sample_interval"; //$NON-NLS-1$
+	/**
+	 * Maximum number of the most recent UI thread samples kept in the profile.
+	 */
+	public static final String PROFILING_MAX_SAMPLES = "profiling_max_samples"; //$NON-NLS-1$
 
 	private PreferenceConstants() {}
 }
@@ -41,6 +41,19 @@ import org.eclipse.ui.model.WorkbenchContentProvider;
 public class ResourceExtensionContentProvider extends WorkbenchContentProvider {
 
 	private static final Object[] NO_CHILDREN = new Object[0];
+
+	/**
+	 * Above this number of added and removed resources in a delta, the parents
+	 * of the resources are refreshed rather than updated individually.
+	 */
+	private static final int MAX_INDIVIDUAL_CHANGES = 1000;
+
+	/**
+	 * Above this number of resources to refresh, the refreshes are collapsed
+	 * to their ancestors.
+	 */
+	private static final int MAX_REFRESHED_RESOURCES = 100;
+
 	private Viewer viewer;
 
 	public ResourceExtensionContentProvider() {
@@ -95,7 +108,7 @@ public class ResourceExtensionContentProvider extends WorkbenchContentProvider {
 			return;
 		}
 
-		final Collection<Runnable> runnables = new ArrayList<>();
+		final Collection<StructuralChange> changes = new ArrayList<>();
 		final SortedSet<IResource> resourcesToRefresh = new TreeSet<>(new Comparator<IResource>() {
 			private PathComparator pathComparator = new PathComparator();
 			@Override
@@ -103,19 +116,49 @@ public class ResourceExtensionContentProvider extends WorkbenchContentProvider {
 				return pathComparator.compare(arg0.getFullPath(), arg1.getFullPath());
 			}
 		});
-		processDelta(delta, runnables, resourcesToRefresh);
+		processDelta(delta, changes, resourcesToRefresh);
 
-		IResource currentTopLevelResource = null;
-		for (IResource resource : resourcesToRefresh) {
-			if (resource == null) {
-				// paranoia, see bug 509821
-				continue;
+		final Collection<Runnable> runnables = new ArrayList<>();
+		int changedResources = 0;
+		for (StructuralChange change : changes) {
+			changedResources += change.addedObjects.length + change.removedObjects.length;
+		}
+		if (changedResources > MAX_INDIVIDUAL_CHANGES) {
+			// Too many additions and removals to apply them one by one, refresh
+			// their parents instead
+			for (StructuralChange change : changes) {
+				resourcesToRefresh.add(change.parent);
 			}
-			if (currentTopLevelResource == null
-					|| !currentTopLevelResource.getFullPath().isPrefixOf(resource.getFullPath())) {
-				currentTopLevelResource = resource;
-				runnables.add(getRefreshRunnable(resource));
+		} else {
+			for (StructuralChange change : changes) {
+				runnables.add(getAddAndRemoveRunnable(change));
+			}
+		}
+
+		Collection<IResource> topLevelResources = getTopLevelResources(resourcesToRefresh);
+		while (topLevelResources.size() > MAX_REFRESHED_RESOURCES) {
+			// Collapse the refreshes to the changed ancestors
+			Collection<IResource> parents = new ArrayList<>(topLevelResources.size());
+			boolean collapsed = false;
+			for (IResource resource : topLevelResources) {
+				IContainer parent = resource.getParent();
+				if (parent != null && parent.getType() != IResource.ROOT) {
+					parents.add(parent);
+					collapsed = true;
+				} else {
+					parents.add(resource);
+				}
 			}
+			if (!collapsed) {
+				// Only projects are left
+				break;
+			}
+			resourcesToRefresh.clear();
+			resourcesToRefresh.addAll(parents);
+			topLevelResources = getTopLevelResources(resourcesToRefresh);
+		}
+		for (IResource resource : topLevelResources) {
+			runnables.add(getRefreshRunnable(resource));
 		}
 
 		if (runnables.isEmpty()) {
@@ -140,10 +183,31 @@ public class ResourceExtensionContentProvider extends WorkbenchContentProvider {
 	}
 
 	/**
-	 * Process a resource delta. Add runnables for addAndRemove and
-	 * resourceToUpdate.
+	 * Returns the resources to refresh which are not contained in another one,
+	 * in path order.
+	 */
+	private static Collection<IResource> getTopLevelResources(SortedSet<IResource> resourcesToRefresh) {
+		Collection<IResource> topLevelResources = new ArrayList<>();
+		IResource currentTopLevelResource = null;
+		for (IResource resource : resourcesToRefresh) {
+			if (resource == null) {
+				// paranoia, see bug 509821
+				continue;
+			}
+			if (currentTopLevelResource == null
+					|| !currentTopLevelResource.getFullPath().isPrefixOf(resource.getFullPath())) {
+				currentTopLevelResource = resource;
+				topLevelResources.add(resource);
+			}
+		}
+		return topLevelResources;
+	}
+
+	/**
+	 * Process a resource delta. Add the additions and removals of children to
+	 * changes, and the resources to refresh to toRefresh.
 	 */
-	private void processDelta(IResourceDelta delta, Collection<Runnable> addAndRemoveRunnables,
+	private void processDelta(IResourceDelta delta, Collection<StructuralChange> changes,
 			Set<IResource> toRefresh) {
 		//he widget may have been destroyed
 		// by the time this is run. Check for this and do nothing if so.
@@ -193,7 +257,7 @@ public class ResourceExtensionContentProvider extends WorkbenchContentProvider {
 
 		// Handle changed children .
 		for (IResourceDelta affectedChild : affectedChildren) {
-			processDelta(affectedChild, addAndRemoveRunnables, toRefresh);
+			processDelta(affectedChild, changes, toRefresh);
 		}
 
 		// @issue several problems here:
@@ -254,7 +318,14 @@ public class ResourceExtensionContentProvider extends WorkbenchContentProvider {
 		// heuristic test for items moving within same folder (i.e. renames)
 		final boolean hasRename = numMovedFrom > 0 && numMovedTo > 0;
 
-		Runnable addAndRemove = () -> {
+		changes.add(new StructuralChange(resource, addedObjects, removedObjects, hasRename));
+	}
+
+	/**
+	 * Return a runnable for adding and removing the children of a resource.
+	 */
+	private Runnable getAddAndRemoveRunnable(StructuralChange change) {
+		return () -> {
 			if (viewer instanceof AbstractTreeViewer) {
 				AbstractTreeViewer treeViewer = (AbstractTreeViewer) viewer;
 				// Disable redraw until the operation is finished so we don't
@@ -262,26 +333,25 @@ public class ResourceExtensionContentProvider extends WorkbenchContentProvider {
 				// rename)
 				// Only do this if we're both adding and removing files (the
 				// rename case)
-				if (hasRename) {
+				if (change.hasRename) {
 					treeViewer.getControl().setRedraw(false);
 				}
 				try {
-					if (addedObjects.length > 0) {
-						treeViewer.add(resource, addedObjects);
+					if (change.addedObjects.length > 0) {
+						treeViewer.add(change.parent, change.addedObjects);
 					}
-					if (removedObjects.length > 0) {
-						treeViewer.remove(removedObjects);
+					if (change.removedObjects.length > 0) {
+						treeViewer.remove(change.removedObjects);
 					}
 				} finally {
-					if (hasRename) {
+					if (change.hasRename) {
 						treeViewer.getControl().setRedraw(true);
 					}
 				}
 			} else {
-				((StructuredViewer) viewer).refresh(resource);
+				((StructuredViewer) viewer).refresh(change.parent);
 			}
 		};
-		addAndRemoveRunnables.add(addAndRemove);
 	}
 
 	/**
@@ -296,10 +366,37 @@ public class ResourceExtensionContentProvider extends WorkbenchContentProvider {
 	 * Run all of the runnables that are the widget updates
 	 */
 	private void runUpdates(Collection<Runnable> runnables) {
-		for (Runnable runnable : runnables) {
-			runnable.run();
+		if (runnables.size() == 1) {
+			runnables.iterator().next().run();
+			return;
+		}
+		// Apply all updates in a single redraw
+		Control ctrl = viewer.getControl();
+		ctrl.setRedraw(false);
+		try {
+			for (Runnable runnable : runnables) {
+				runnable.run();
+			}
+		} finally {
+			ctrl.setRedraw(true);
 		}
+	}
 
+	/**
+	 * The children added to and removed from a resource.
+	 */
+	private static final class StructuralChange {
+		final IResource parent;
+		final Object[] addedObjects;
+		final Object[] removedObjects;
+		final boolean hasRename;
+
+		StructuralChange(IResource parent, Object[] addedObjects, Object[] removedObjects, boolean hasRename) {
+			this.parent = parent;
+			this.addedObjects = addedObjects;
+			this.removedObjects = removedObjects;
+			this.hasRename = hasRename;
+		}
 	}
 
 }
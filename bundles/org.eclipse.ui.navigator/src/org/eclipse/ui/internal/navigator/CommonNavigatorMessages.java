@@ -152,6 +152,9 @@ public class CommonNavigatorMessages extends NLS {
 	/** */
 	public static String LoggingJob;
 
+	/** */
+	public static String CommonViewer_Computing_children_of_0_;
+
 
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, CommonNavigatorMessages.class);
@@ -42,6 +42,7 @@ import org.eclipse.ui.internal.navigator.extensions.NavigatorContentExtension;
 import org.eclipse.ui.navigator.CommonViewer;
 import org.eclipse.ui.navigator.ICommonLabelProvider;
 import org.eclipse.ui.navigator.INavigatorContentService;
+import org.eclipse.ui.progress.PendingUpdateAdapter;
 
 /**
  * <p>
@@ -106,6 +107,9 @@ public class NavigatorContentServiceLabelProvider extends EventManager
 
 	@Override
 	public Image getColumnImage(Object element, int columnIndex) {
+		if (element instanceof PendingUpdateAdapter) {
+			return null;
+		}
 		Collection contentExtensions = contentService.findPossibleLabelExtensions(element);
 		Image image = null;
 		for (Iterator itr = contentExtensions.iterator(); itr.hasNext() && image == null; ) {
@@ -132,6 +136,10 @@ public class NavigatorContentServiceLabelProvider extends EventManager
 
 	@Override
 	public String getColumnText(Object anElement, int aColumn) {
+		if (anElement instanceof PendingUpdateAdapter pending) {
+			// The placeholder shown while a CommonViewer computes children asynchronously
+			return pending.getLabel(pending);
+		}
 		ILabelProvider[] labelProviders = contentService.findRelevantLabelProviders(anElement);
 		if (labelProviders.length == 0)
 			return NLS.bind(CommonNavigatorMessages.NavigatorContentServiceLabelProvider_Error_no_label_provider_for_0_, makeSmallString(anElement));
@@ -149,6 +157,9 @@ public class NavigatorContentServiceLabelProvider extends EventManager
 
 	@Override
 	public StyledString getStyledText(Object anElement) {
+		if (anElement instanceof PendingUpdateAdapter pending) {
+			return new StyledString(pending.getLabel(pending), StyledString.QUALIFIER_STYLER);
+		}
 		Collection extensions = contentService.findPossibleLabelExtensions(anElement);
 		if (extensions.isEmpty())
 			return new StyledString(NLS.bind(CommonNavigatorMessages.NavigatorContentServiceLabelProvider_Error_no_label_provider_for_0_, makeSmallString(anElement)));
@@ -362,6 +373,11 @@ public class NavigatorContentServiceLabelProvider extends EventManager
 
 	@Override
 	public void updateLabel(ViewerLabel label, TreePath elementPath) {
+		if (elementPath.getLastSegment() instanceof PendingUpdateAdapter pending) {
+			label.setText(pending.getLabel(pending));
+			label.setImage(null);
+			return;
+		}
 
 		Collection contentExtensions = contentService.findPossibleLabelExtensions(elementPath.getLastSegment());
 		reusableLabel.reset(label);
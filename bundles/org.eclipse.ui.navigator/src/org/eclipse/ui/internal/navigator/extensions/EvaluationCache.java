@@ -25,6 +25,10 @@ import org.eclipse.ui.internal.navigator.VisibilityAssistant.VisibilityListener;
 
 /**
  * A cache for evaluated {@link NavigatorContentDescriptor}.
+ * <p>
+ * Access is synchronized on the cache, as viewers computing their children in
+ * the background may look up descriptors outside of the UI thread.
+ * </p>
  */
 public class EvaluationCache implements VisibilityListener {
 	// TODO Have an LRU cache with max size as well as SoftReferences, to help
@@ -58,7 +62,7 @@ public class EvaluationCache implements VisibilityListener {
 		// TODO Periodic task to run this every now and then, ala org.eclipse.core.runtime.jobs.Job?
 		// If this is done, will need to make this class thread safe.
 
-		// Not thread safe, but this whole class isn't, so that is fine.
+		// Only called from synchronized methods.
 		Reference<?> r;
 		// Reference#poll thankfully does not block if there is nothing available.
 		while ((r = evaluationsQueue.poll()) != null) {
@@ -118,7 +122,7 @@ public class EvaluationCache implements VisibilityListener {
 	 * @return the cached descriptors for the given key, or {@code null} if not
 	 *         currently in the cache
 	 */
-	public final NavigatorContentDescriptor[] getDescriptors(Object anElement, boolean toComputeOverrides) {
+	public final synchronized NavigatorContentDescriptor[] getDescriptors(Object anElement, boolean toComputeOverrides) {
 		cleanUpStaleEntries();
 		if (anElement == null)
 			return null;
@@ -161,7 +165,7 @@ public class EvaluationCache implements VisibilityListener {
 	 *            whether overrides were considered in the computation of the
 	 *            given descriptors
 	 */
-	public final void setDescriptors(Object anElement, NavigatorContentDescriptor[] theDescriptors,
+	public final synchronized void setDescriptors(Object anElement, NavigatorContentDescriptor[] theDescriptors,
 			boolean toComputeOverrides) {
 		cleanUpStaleEntries();
 		if (anElement != null) {
@@ -186,7 +190,7 @@ public class EvaluationCache implements VisibilityListener {
 	/**
 	 * Clears the cache.
 	 */
-	public void clear() {
+	public synchronized void clear() {
 		// Dump everything in the reference queues.
 		// Don't bother removing from the map based on references, we are about to clear everything anyways.
 		// This might lead to some premature removals because yet to be collected values are not clearing
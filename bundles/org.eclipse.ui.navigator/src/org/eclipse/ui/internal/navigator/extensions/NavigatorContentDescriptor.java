@@ -74,6 +74,10 @@ public final class NavigatorContentDescriptor implements
 
 	private Expression possibleChildren;
 
+	private TypeEvaluationCache enablementByType;
+
+	private TypeEvaluationCache possibleChildrenByType;
+
 	private Expression initialActivation;
 
 	private String icon;
@@ -252,6 +256,7 @@ public final class NavigatorContentDescriptor implements
 			children = configElement.getChildren(TAG_TRIGGER_POINTS);
 			if (children.length == 1) {
 				enablement = new CustomAndExpression(children[0]);
+				enablementByType = TypeEvaluationCache.forExpression(children[0]);
 			} else {
 				throw new WorkbenchException(NLS.bind(
 						CommonNavigatorMessages.Attribute_Missing_Warning,
@@ -265,6 +270,7 @@ public final class NavigatorContentDescriptor implements
 			children = configElement.getChildren(TAG_POSSIBLE_CHILDREN);
 			if (children.length == 1) {
 				possibleChildren = new CustomAndExpression(children[0]);
+				possibleChildrenByType = TypeEvaluationCache.forExpression(children[0]);
 			} else if(children.length > 1){
 				throw new WorkbenchException(NLS.bind(
 						CommonNavigatorMessages.Attribute_Missing_Warning,
@@ -278,6 +284,9 @@ public final class NavigatorContentDescriptor implements
 			try {
 				enablement = ElementHandler.getDefault().create(
 						ExpressionConverter.getDefault(), children[0]);
+				if (enablement != null) {
+					enablementByType = TypeEvaluationCache.forExpression(children[0]);
+				}
 			} catch (CoreException e) {
 				NavigatorPlugin.log(IStatus.ERROR, 0, e.getMessage(), e);
 			}
@@ -407,6 +416,9 @@ public final class NavigatorContentDescriptor implements
 		if (enablement == null || anElement == null) {
 			return false;
 		}
+		if (enablementByType != null) {
+			return enablementByType.evaluate(enablement, anElement);
+		}
 
 		IEvaluationContext context = NavigatorPlugin.getEvalContext(anElement);
 		return NavigatorPlugin.safeEvaluate(enablement, context) == EvaluationResult.TRUE;
@@ -436,6 +448,14 @@ public final class NavigatorContentDescriptor implements
 			return arePossibleChildren((IStructuredSelection) anElement);
 		}
 
+		if (possibleChildren != null) {
+			if (possibleChildrenByType != null) {
+				return possibleChildrenByType.evaluate(possibleChildren, anElement);
+			}
+		} else if (enablementByType != null) {
+			return enablementByType.evaluate(enablement, anElement);
+		}
+
 		IEvaluationContext context = NavigatorPlugin.getEvalContext(anElement);
 		if (possibleChildren != null) {
 			return NavigatorPlugin.safeEvaluate(possibleChildren, context) == EvaluationResult.TRUE;
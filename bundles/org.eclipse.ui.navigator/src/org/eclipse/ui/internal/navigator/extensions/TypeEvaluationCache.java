@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.internal.navigator.extensions;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionTagNames;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.ui.internal.navigator.NavigatorPlugin;
+
+/**
+ * Remembers the result of a <b>triggerPoints</b>, <b>possibleChildren</b> or
+ * <b>enablement</b> expression per type of element. This is only done for
+ * expressions which are made of <code>instanceof</code> tests combined with
+ * <code>and</code>, <code>or</code> and <code>not</code>, whose result can not
+ * differ between elements of the same type. Expressions testing anything else
+ * are evaluated for every element.
+ * <p>
+ * Unlike the {@link EvaluationCache}, the results do not depend on the
+ * activation or visibility of the extension and are never invalidated. The
+ * types are only weakly referenced.
+ * </p>
+ */
+public final class TypeEvaluationCache {
+
+	private static final Set<String> TYPE_ONLY_TAGS = Set.of(ExpressionTagNames.AND, ExpressionTagNames.OR,
+			ExpressionTagNames.NOT, ExpressionTagNames.INSTANCEOF);
+
+	private final Map<Class<?>, Boolean> results = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private TypeEvaluationCache() {
+	}
+
+	/**
+	 * Return a cache for the expression declared by the given element, or
+	 * <code>null</code> if the result of the expression may depend on more than
+	 * the type of the element it is evaluated for.
+	 *
+	 * @param anExpressionElement
+	 *            the element declaring the expression, such as
+	 *            <b>triggerPoints</b>
+	 * @return a new cache or <code>null</code>
+	 */
+	public static TypeEvaluationCache forExpression(IConfigurationElement anExpressionElement) {
+		return dependsOnTypeOnly(anExpressionElement.getChildren()) ? new TypeEvaluationCache() : null;
+	}
+
+	private static boolean dependsOnTypeOnly(IConfigurationElement[] theChildren) {
+		for (IConfigurationElement child : theChildren) {
+			if (!TYPE_ONLY_TAGS.contains(child.getName()) || !dependsOnTypeOnly(child.getChildren())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Evaluate the expression for the element, unless it was already evaluated
+	 * for another element of the same type.
+	 *
+	 * @param anExpression
+	 *            the expression this cache was created for
+	 * @param anElement
+	 *            a non-null element
+	 * @return True if and only if the expression evaluates to true for the
+	 *         element
+	 */
+	public boolean evaluate(Expression anExpression, Object anElement) {
+		Class<?> type = anElement.getClass();
+		Boolean result = results.get(type);
+		if (result == null) {
+			result = Boolean.valueOf(NavigatorPlugin.safeEvaluate(anExpression,
+					NavigatorPlugin.getEvalContext(anElement)) == EvaluationResult.TRUE);
+			results.put(type, result);
+		}
+		return result.booleanValue();
+	}
+
+	/**
+	 * Used only for the tests
+	 *
+	 * @return the number of types with a remembered result
+	 */
+	public int size() {
+		return results.size();
+	}
+}
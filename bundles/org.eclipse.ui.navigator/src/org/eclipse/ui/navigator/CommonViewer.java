@@ -16,33 +16,51 @@
 package org.eclipse.ui.navigator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.viewers.IBaseLabelProvider;
+import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.ITreePathContentProvider;
 import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.jface.viewers.TreePath;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.ViewerSorter;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.dnd.DND;
 import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.MouseAdapter;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.events.TreeEvent;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Widget;
 import org.eclipse.ui.internal.navigator.CommonNavigatorFrameSource;
+import org.eclipse.ui.internal.navigator.CommonNavigatorMessages;
 import org.eclipse.ui.internal.navigator.ContributorTrackingSet;
 import org.eclipse.ui.internal.navigator.NavigatorContentService;
 import org.eclipse.ui.internal.navigator.NavigatorDecoratingLabelProvider;
 import org.eclipse.ui.internal.navigator.NavigatorPipelineService;
+import org.eclipse.ui.internal.navigator.NavigatorPlugin;
 import org.eclipse.ui.internal.navigator.dnd.NavigatorDnDService;
 import org.eclipse.ui.internal.navigator.extensions.NavigatorContentDescriptorManager;
+import org.eclipse.ui.internal.navigator.extensions.NavigatorViewerDescriptor;
 import org.eclipse.ui.internal.navigator.framelist.FrameList;
+import org.eclipse.ui.progress.PendingUpdateAdapter;
 
 /**
  *
@@ -61,10 +79,27 @@ import org.eclipse.ui.internal.navigator.framelist.FrameList;
  * Clients must not set the selection of the viewer's tree control directly.
  * </p>
  *
+ * <p>
+ * When the viewer is configured with the
+ * <code>org.eclipse.ui.navigator.asyncChildren</code> property, the children
+ * of elements expanded by the user are computed in the background. A pending
+ * placeholder is shown until they are available, large results are added to
+ * the tree in chunks, and the computation is canceled when the element is
+ * collapsed again. Programmatic expansion, such as
+ * {@link #expandToLevel(Object, int)} or {@link #reveal(Object)}, stays
+ * synchronous.
+ * </p>
+ *
  * @since 3.2
  */
 public class CommonViewer extends TreeViewer {
 
+	/**
+	 * The number of children added to the tree at a time when the children of
+	 * an element are computed in the background.
+	 */
+	private static final int ASYNC_CHUNK_SIZE = 500;
+
 	private final NavigatorContentService contentService;
 
 	private ISelection cachedSelection;
@@ -75,6 +110,29 @@ public class CommonViewer extends TreeViewer {
 
 	private ICommonViewerMapper _mapper;
 
+	private boolean asyncChildren;
+
+	/**
+	 * The item being expanded by the user, whose children are to be computed
+	 * in the background.
+	 */
+	private Item asyncExpandingItem;
+
+	/**
+	 * The element being refreshed whose children are to be computed in the
+	 * background if it is expanded. Its descendants are refreshed
+	 * synchronously.
+	 */
+	private Object asyncRefreshElement;
+
+	private final Map<Object, FetchChildrenJob> childrenFetches = new HashMap<>();
+
+	/**
+	 * The children computed in the background, while they are put into the
+	 * tree.
+	 */
+	private final Map<Object, Object[]> fetchedChildren = new HashMap<>();
+
 	/**
 	 * <p>
 	 * Constructs the Tree Viewer for the Common Navigator and the corresponding
@@ -112,6 +170,8 @@ public class CommonViewer extends TreeViewer {
 		setUseHashlookup(true);
 		setContentProvider(contentService.createCommonContentProvider());
 		setLabelProvider(new NavigatorDecoratingLabelProvider(contentService.createCommonLabelProvider()));
+		asyncChildren = contentService.getViewerDescriptor()
+				.getBooleanConfigProperty(NavigatorViewerDescriptor.PROP_ASYNC_CHILDREN);
 		initDragAndDrop();
 	}
 
@@ -253,6 +313,7 @@ public class CommonViewer extends TreeViewer {
 	 * </p>
 	 */
 	public void dispose() {
+		cancelChildrenFetches();
 		if (contentService != null) {
 			contentService.dispose();
 		}
@@ -526,7 +587,233 @@ public class CommonViewer extends TreeViewer {
 		if (element == null && getRoot() == null) {
 			return;
 		}
-		super.internalRefresh(element, updateLabels);
+		Object oldRefreshElement = asyncRefreshElement;
+		if (asyncChildren) {
+			asyncRefreshElement = element;
+		}
+		try {
+			super.internalRefresh(element, updateLabels);
+		} finally {
+			asyncRefreshElement = oldRefreshElement;
+		}
+	}
+
+	@Override
+	protected void handleTreeExpand(TreeEvent event) {
+		Item oldExpandingItem = asyncExpandingItem;
+		if (asyncChildren && event.item instanceof Item item) {
+			asyncExpandingItem = item;
+		}
+		try {
+			super.handleTreeExpand(event);
+		} finally {
+			asyncExpandingItem = oldExpandingItem;
+		}
+	}
+
+	@Override
+	protected void handleTreeCollapse(TreeEvent event) {
+		Object element = event.item.getData();
+		if (element != null && event.item instanceof Item item) {
+			FetchChildrenJob fetch = childrenFetches.get(element);
+			if (fetch != null && fetch.placeholder != null) {
+				// The children are incomplete, compute them again on the next
+				// expansion
+				childrenFetches.remove(element);
+				fetch.cancel();
+				for (Item child : getItems(item)) {
+					if (child.getData() != null) {
+						disassociate(child);
+					}
+					child.dispose();
+				}
+				newItem(item, SWT.NULL, -1);
+			}
+		}
+		super.handleTreeCollapse(event);
+	}
+
+	@Override
+	protected void inputChanged(Object input, Object oldInput) {
+		cancelChildrenFetches();
+		super.inputChanged(input, oldInput);
+	}
+
+	/**
+	 * Computes the children of the element expanded by the user, or of the
+	 * expanded element being refreshed, in the background when the viewer is
+	 * configured to do so. Until they are available, the children currently
+	 * in the tree, or a pending placeholder, are answered. The children of all
+	 * other elements are computed synchronously.
+	 */
+	@Override
+	protected Object[] getRawChildren(Object parentElementOrTreePath) {
+		if (asyncExpandingItem == null && asyncRefreshElement == null && fetchedChildren.isEmpty()) {
+			return super.getRawChildren(parentElementOrTreePath);
+		}
+		TreePath path = parentElementOrTreePath instanceof TreePath treePath ? treePath : null;
+		Object parent = path != null ? path.getLastSegment() : parentElementOrTreePath;
+		if (parent == null || equals(parent, getRoot())) {
+			return super.getRawChildren(parentElementOrTreePath);
+		}
+		Object[] fetched = fetchedChildren.get(parent);
+		if (fetched != null) {
+			return fetched;
+		}
+		boolean refreshing = asyncRefreshElement != null && equals(parent, asyncRefreshElement);
+		if (!refreshing && asyncExpandingItem == null) {
+			// A descendant of the element being refreshed
+			return super.getRawChildren(parentElementOrTreePath);
+		}
+
+		Widget[] items = internalFindItems(parentElementOrTreePath);
+		if (items.length == 0 || !(items[0] instanceof Item item)) {
+			return super.getRawChildren(parentElementOrTreePath);
+		}
+		FetchChildrenJob previous = childrenFetches.get(parent);
+		PendingUpdateAdapter placeholder;
+		Object[] current;
+		if (item == asyncExpandingItem) {
+			placeholder = new PendingUpdateAdapter();
+			current = new Object[] { placeholder };
+		} else if (refreshing && getExpanded(item)) {
+			// Keep streaming if the element is still being expanded
+			placeholder = previous != null ? previous.placeholder : null;
+			Item[] children = getItems(item);
+			current = new Object[children.length];
+			for (int i = 0; i < children.length; i++) {
+				current[i] = children[i].getData();
+				if (current[i] == null) {
+					return super.getRawChildren(parentElementOrTreePath);
+				}
+			}
+		} else {
+			// Expandability checks of other elements
+			return super.getRawChildren(parentElementOrTreePath);
+		}
+
+		if (previous != null) {
+			previous.cancel();
+		}
+		FetchChildrenJob fetch = new FetchChildrenJob(parent, path != null ? path : getTreePathFromItem(item),
+				item.getText(), placeholder);
+		childrenFetches.put(parent, fetch);
+		fetch.schedule();
+		return current;
+	}
+
+	private void cancelChildrenFetches() {
+		for (FetchChildrenJob fetch : childrenFetches.values()) {
+			fetch.cancel();
+		}
+		childrenFetches.clear();
+	}
+
+	private void childrenFetched(FetchChildrenJob fetch, Object[] children) {
+		if (childrenFetches.get(fetch.parent) != fetch || getControl().isDisposed()) {
+			return;
+		}
+		if (fetch.placeholder == null || children.length <= ASYNC_CHUNK_SIZE) {
+			childrenFetches.remove(fetch.parent);
+			refreshFetchedChildren(fetch.parent, children);
+			return;
+		}
+		// Replace the placeholder by the first chunk, and stream in the rest
+		refreshFetchedChildren(fetch.parent, Arrays.copyOf(children, ASYNC_CHUNK_SIZE));
+		addFetchedChildren(fetch, children, ASYNC_CHUNK_SIZE);
+	}
+
+	private void refreshFetchedChildren(Object parent, Object[] children) {
+		fetchedChildren.put(parent, children);
+		Object oldRefreshElement = asyncRefreshElement;
+		boolean oldAsyncChildren = asyncChildren;
+		// Only the children of parent have been fetched, refresh the expanded
+		// descendants synchronously rather than fetching them again
+		asyncChildren = false;
+		asyncRefreshElement = null;
+		try {
+			// The children have already been pipelined, bypass the
+			// interception of the refresh
+			super.refresh(parent, false);
+		} finally {
+			asyncChildren = oldAsyncChildren;
+			asyncRefreshElement = oldRefreshElement;
+			fetchedChildren.remove(parent);
+		}
+	}
+
+	private void addFetchedChildren(FetchChildrenJob fetch, Object[] children, int from) {
+		getControl().getDisplay().asyncExec(() -> {
+			if (childrenFetches.get(fetch.parent) != fetch || getControl().isDisposed()) {
+				return;
+			}
+			int to = Math.min(from + ASYNC_CHUNK_SIZE, children.length);
+			// The children have already been pipelined, bypass the
+			// interception of the addition
+			super.add(fetch.parent, Arrays.copyOfRange(children, from, to));
+			if (to < children.length) {
+				addFetchedChildren(fetch, children, to);
+			} else {
+				childrenFetches.remove(fetch.parent);
+			}
+		});
+	}
+
+	/**
+	 * Computes the children of an element through the content provider of the
+	 * viewer, outside of the UI thread.
+	 */
+	private final class FetchChildrenJob extends Job {
+
+		private final Object parent;
+
+		private final TreePath parentPath;
+
+		/**
+		 * The placeholder shown while the children of a newly expanded element
+		 * are computed, or <code>null</code> when refreshing.
+		 */
+		private final PendingUpdateAdapter placeholder;
+
+		FetchChildrenJob(Object parent, TreePath parentPath, String label, PendingUpdateAdapter placeholder) {
+			super(NLS.bind(CommonNavigatorMessages.CommonViewer_Computing_children_of_0_, label));
+			this.parent = parent;
+			this.parentPath = parentPath;
+			this.placeholder = placeholder;
+			setSystem(placeholder == null);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			Object[] children = null;
+			IStatus status = Status.OK_STATUS;
+			try {
+				IContentProvider provider = getContentProvider();
+				if (provider instanceof ITreePathContentProvider treePathProvider) {
+					children = treePathProvider.getChildren(parentPath);
+				} else if (provider instanceof ITreeContentProvider treeProvider) {
+					children = treeProvider.getChildren(parent);
+				}
+			} catch (RuntimeException e) {
+				// Still remove the placeholder
+				status = new Status(IStatus.ERROR, NavigatorPlugin.PLUGIN_ID, getName(), e);
+			}
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			Control control = getControl();
+			if (control.isDisposed()) {
+				return Status.CANCEL_STATUS;
+			}
+			Object[] result = children != null ? children : new Object[0];
+			control.getDisplay().asyncExec(() -> childrenFetched(this, result));
+			return status;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == CommonViewer.this;
+		}
 	}
 
 	/**
@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An index of the offsets of the <code>!SESSION</code> and <code>!ENTRY</code>
+ * records of a log file, along with the severity of the entries. The file is
+ * read with positional reads into a reused buffer, without keeping it open or
+ * mapped, and the index is brought up to date incrementally as the log grows,
+ * so that only the records which are to be shown have to be parsed.
+ */
+public class LogIndex {
+
+	/**
+	 * The size of the buffer the file is scanned through.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The number of bytes at the start of the file compared to detect that it
+	 * has been replaced.
+	 */
+	private static final int HEAD_LENGTH = 256;
+
+	private static final byte[] SESSION = LogSession.SESSION.getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] ENTRY = "!ENTRY".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+
+	/**
+	 * The severity recorded for sessions.
+	 */
+	static final int SESSION_RECORD = -1;
+
+	private final File file;
+
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+	private long[] offsets = new long[256];
+
+	private int[] severities = new int[256];
+
+	private int size;
+
+	/**
+	 * The length of the indexed part of the file, which ends with a complete
+	 * line.
+	 */
+	private long indexedLength;
+
+	private long lastModified;
+
+	/**
+	 * The key of the indexed file, or <code>null</code> if the file system
+	 * does not provide one.
+	 */
+	private Object fileKey;
+
+	/**
+	 * The first bytes of the indexed file.
+	 */
+	private byte[] head = new byte[0];
+
+	/**
+	 * Whether the indexed part of the file ends in the middle of a line
+	 * longer than the buffer.
+	 */
+	private boolean inLongLine;
+
+	public LogIndex(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Indexes the part of the file which has been written since the last
+	 * update. The index is rebuilt if the file has been truncated or replaced.
+	 */
+	public synchronized void update() throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		long length = attributes.size();
+		long modified = attributes.lastModifiedTime().toMillis();
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			if (length < indexedLength || (length == indexedLength && modified != lastModified)
+					|| !Objects.equals(attributes.fileKey(), fileKey) || !hasHead(channel)) {
+				size = 0;
+				indexedLength = 0;
+				inLongLine = false;
+				head = new byte[0];
+			}
+			lastModified = modified;
+			fileKey = attributes.fileKey();
+			if (length == indexedLength) {
+				return;
+			}
+			if (head.length < HEAD_LENGTH) {
+				head = readHead(channel, (int) Math.min(HEAD_LENGTH, length));
+			}
+			long position = indexedLength;
+			while (position < length) {
+				buffer.clear();
+				buffer.limit((int) Math.min(BUFFER_SIZE, length - position));
+				int read = readFully(channel, buffer, position);
+				if (read <= 0) {
+					break;
+				}
+				int lineStart = 0;
+				for (int i = 0; i < read; i++) {
+					if (buffer.get(i) == '\n') {
+						if (inLongLine) {
+							// The end of a line longer than the buffer, it
+							// cannot be a record
+							inLongLine = false;
+						} else {
+							indexLine(buffer, lineStart, position);
+						}
+						lineStart = i + 1;
+					}
+				}
+				if (lineStart == 0 && read == BUFFER_SIZE) {
+					inLongLine = true;
+					position += read;
+					continue;
+				}
+				position += lineStart;
+				if (read < BUFFER_SIZE) {
+					// Any rest is a line still being written
+					break;
+				}
+			}
+			indexedLength = position;
+		}
+	}
+
+	/**
+	 * @return whether the file still starts with the bytes read when it was
+	 *         indexed
+	 */
+	private boolean hasHead(FileChannel channel) throws IOException {
+		return head.length == 0 || Arrays.equals(head, readHead(channel, head.length));
+	}
+
+	private static byte[] readHead(FileChannel channel, int length) throws IOException {
+		ByteBuffer bytes = ByteBuffer.allocate(length);
+		int read = readFully(channel, bytes, 0);
+		return Arrays.copyOf(bytes.array(), Math.max(read, 0));
+	}
+
+	/**
+	 * Reads from the given position until the buffer is full or the end of the
+	 * file is reached.
+	 *
+	 * @return the number of bytes read
+	 */
+	private static int readFully(FileChannel channel, ByteBuffer bytes, long position) throws IOException {
+		int total = 0;
+		while (bytes.hasRemaining()) {
+			int read = channel.read(bytes, position + total);
+			if (read < 0) {
+				break;
+			}
+			total += read;
+		}
+		return total;
+	}
+
+	private void indexLine(ByteBuffer bytes, int lineStart, long bufferPosition) {
+		if (startsWith(bytes, lineStart, SESSION)) {
+			add(bufferPosition + lineStart, SESSION_RECORD);
+		} else if (startsWith(bytes, lineStart, ENTRY)) {
+			add(bufferPosition + lineStart, parseSeverity(bytes, lineStart + ENTRY.length));
+		}
+	}
+
+	private static boolean startsWith(ByteBuffer bytes, int start, byte[] prefix) {
+		if (start + prefix.length > bytes.limit()) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (bytes.get(start + i) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Parses the severity from <code>!ENTRY &lt;pluginID&gt; &lt;severity&gt; ...</code>
+	 * the way {@link LogEntry#processEntry(String)} does: an entry without a
+	 * numeric severity is OK.
+	 */
+	private static int parseSeverity(ByteBuffer bytes, int start) {
+		int i = skipSpaces(bytes, start);
+		// plug-in id
+		while (i < bytes.limit() && !isSeparator(bytes.get(i))) {
+			i++;
+		}
+		i = skipSpaces(bytes, i);
+		int severity = 0;
+		int digits = 0;
+		while (i < bytes.limit() && !isSeparator(bytes.get(i))) {
+			byte b = bytes.get(i++);
+			if (b < '0' || b > '9' || digits++ > 8) {
+				return 0;
+			}
+			severity = severity * 10 + (b - '0');
+		}
+		return severity;
+	}
+
+	private static int skipSpaces(ByteBuffer bytes, int i) {
+		while (i < bytes.limit() && bytes.get(i) == ' ') {
+			i++;
+		}
+		return i;
+	}
+
+	private static boolean isSeparator(byte b) {
+		return b == ' ' || b == '\r' || b == '\n';
+	}
+
+	private void add(long offset, int severity) {
+		if (size == offsets.length) {
+			offsets = Arrays.copyOf(offsets, size * 2);
+			severities = Arrays.copyOf(severities, size * 2);
+		}
+		offsets[size] = offset;
+		severities[size] = severity;
+		size++;
+	}
+
+	/**
+	 * @return the number of records in the index
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	public synchronized boolean isSession(int record) {
+		return severities[record] == SESSION_RECORD;
+	}
+
+	/**
+	 * @return the severity of the entry record, as in {@link LogEntry#getSeverity()}
+	 */
+	public synchronized int getSeverity(int record) {
+		return severities[record];
+	}
+
+	public synchronized long getOffset(int record) {
+		return offsets[record];
+	}
+
+	/**
+	 * @return the length of the record in bytes
+	 */
+	public synchronized long getLength(int record) {
+		long end = record + 1 < size ? offsets[record + 1] : indexedLength;
+		return end - offsets[record];
+	}
+
+	/**
+	 * Opens the indexed file for reading records.
+	 *
+	 * @return a reader that has to be closed
+	 */
+	public RecordReader openRecords() throws IOException {
+		return new RecordReader(FileChannel.open(file.toPath(), StandardOpenOption.READ));
+	}
+
+	/**
+	 * Reads the text of records into a buffer reused for all records.
+	 */
+	public class RecordReader implements Closeable {
+
+		private final FileChannel channel;
+
+		private ByteBuffer recordBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+		RecordReader(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		/**
+		 * @return a reader on the lines of the given record
+		 */
+		public BufferedReader read(int record) throws IOException {
+			long offset = getOffset(record);
+			int length = (int) Math.min(getLength(record), Integer.MAX_VALUE - 8);
+			if (recordBuffer.capacity() < length) {
+				recordBuffer = ByteBuffer.allocate(length);
+			}
+			recordBuffer.clear();
+			recordBuffer.limit(length);
+			readFully(channel, recordBuffer, offset);
+			recordBuffer.flip();
+			return new BufferedReader(new StringReader(StandardCharsets.UTF_8.decode(recordBuffer).toString()));
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
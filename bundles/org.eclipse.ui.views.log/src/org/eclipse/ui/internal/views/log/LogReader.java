@@ -24,9 +24,10 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.ui.IMemento;
 
-class LogReader {
+public class LogReader {
 	private static final int SESSION_STATE = 10;
 	public static final long MAX_FILE_LENGTH = 1024 * 1024;
+	private static final int MAX_INDEXES = 4;
 	private static final int ONE_MEGA_BYTE_IN_BYTES = 1024 * 1024;
 	private static final int ENTRY_STATE = 20;
 	private static final int SUBENTRY_STATE = 30;
@@ -35,6 +36,25 @@ class LogReader {
 	private static final int TEXT_STATE = 60;
 	private static final int UNKNOWN_STATE = 70;
 
+	/**
+	 * The indexes of the log files read recently, kept to index them
+	 * incrementally as they grow.
+	 */
+	private static final Map<File, LogIndex> indexes = new LinkedHashMap<>(MAX_INDEXES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<File, LogIndex> eldest) {
+			return size() > MAX_INDEXES;
+		}
+	};
+
+	/**
+	 * Parses the entries of the log file to show. The records of the file are
+	 * indexed first, so that the entries can be selected by session and
+	 * severity without parsing them, and only the most recent selected entries
+	 * are parsed, up to the count limit and the given size.
+	 */
 	public static LogSession parseLogFile(File file, long maxLogTailSizeInMegaByte, List<LogEntry> entries,
 			IMemento memento) {
 		if (!file.exists())
@@ -44,18 +64,120 @@ class LogReader {
 				&& memento.getInteger(LogView.P_LOG_LIMIT).intValue() == 0)
 			return null;
 
+		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
+				: ONE_MEGA_BYTE_IN_BYTES;
+		int limit = memento.getString(LogView.P_USE_LIMIT).equals("true") //$NON-NLS-1$
+				? memento.getInteger(LogView.P_LOG_LIMIT).intValue()
+				: Integer.MAX_VALUE;
+		boolean showAllSessions = memento.getString(LogView.P_SHOW_ALL_SESSIONS).equals("true"); //$NON-NLS-1$
+
+		LogIndex index = getIndex(file);
+		LogSession currentSession = null;
+		boolean truncated = false;
+		try (LogIndex.RecordReader records = index.openRecords()) {
+			index.update();
+			int size = index.size();
+
+			// Parse the sessions, they are few
+			List<Integer> sessionRecords = new ArrayList<>();
+			List<LogSession> sessions = new ArrayList<>();
+			List<LogSession> currentSessions = new ArrayList<>();
+			int firstShownRecord = 0;
+			for (int record = 0; record < size; record++) {
+				if (!index.isSession(record)) {
+					continue;
+				}
+				LogSession session = parseRecords(records.read(record), new ArrayList<>(), memento, null, null);
+				if (session == null) {
+					continue;
+				}
+				currentSession = updateCurrentSession(currentSession, session);
+				if (currentSession == session && !showAllSessions) {
+					firstShownRecord = record;
+				}
+				sessionRecords.add(Integer.valueOf(record));
+				sessions.add(session);
+				currentSessions.add(currentSession);
+			}
+
+			// Select the most recent entries to show
+			List<Integer> selected = new ArrayList<>();
+			long selectedLength = 0;
+			for (int record = size - 1; record >= firstShownRecord && selected.size() < limit; record--) {
+				if (index.isSession(record) || !isLogged(index.getSeverity(record), memento)) {
+					continue;
+				}
+				selectedLength += index.getLength(record);
+				if (selectedLength > maxTailSizeInBytes) {
+					truncated = true;
+					break;
+				}
+				selected.add(Integer.valueOf(record));
+			}
+
+			// Parse them in the order of the file
+			LogSession fakeSession = null;
+			int sessionIndex = -1;
+			for (int i = selected.size() - 1; i >= 0; i--) {
+				int record = selected.get(i).intValue();
+				while (sessionIndex + 1 < sessionRecords.size() && sessionRecords.get(sessionIndex + 1).intValue() < record) {
+					sessionIndex++;
+				}
+				LogSession entrySession;
+				LogSession session;
+				if (sessionIndex >= 0) {
+					entrySession = currentSessions.get(sessionIndex);
+					session = sessions.get(sessionIndex);
+				} else {
+					// create fake session if there was no any
+					if (fakeSession == null) {
+						fakeSession = new LogSession();
+					}
+					entrySession = fakeSession;
+					session = null;
+				}
+				parseRecords(records.read(record), entries, memento, entrySession, session);
+			}
+			if (currentSession == null) {
+				currentSession = fakeSession;
+			}
+		} catch (IOException e) { // do nothing
+		} finally {
+			if (truncated && entries.isEmpty()) {
+				LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
+						Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
+				entry.setSession(currentSession == null ? new LogSession() : currentSession);
+				entries.add(entry);
+			}
+		}
+
+		return currentSession;
+	}
+
+	private static synchronized LogIndex getIndex(File file) {
+		return indexes.computeIfAbsent(file.getAbsoluteFile(), LogIndex::new);
+	}
+
+	/**
+	 * Parses the lines of log records.
+	 *
+	 * @param initialCurrentSession
+	 *            the session of the entries, until a session is read
+	 * @param initialSession
+	 *            the session of the sub-entries, until a session is read
+	 * @return the most recent session read, or the given current session
+	 */
+	private static LogSession parseRecords(BufferedReader reader, List<LogEntry> entries, IMemento memento,
+			LogSession initialCurrentSession, LogSession initialSession) throws IOException {
 		ArrayList<LogEntry> parents = new ArrayList<>();
 		LogEntry current = null;
-		LogSession session = null;
+		LogSession session = initialSession;
 		int writerState = UNKNOWN_STATE;
 		StringWriter swriter = null;
 		PrintWriter writer = null;
 		int state = UNKNOWN_STATE;
-		LogSession currentSession = null;
-		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
-				: ONE_MEGA_BYTE_IN_BYTES;
-		try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(new TailInputStream(file, maxTailSizeInBytes), StandardCharsets.UTF_8))) {
+		LogSession currentSession = initialCurrentSession;
+		try (reader) {
 			for (;;) {
 				String line0 = reader.readLine();
 				if (line0 == null)
@@ -158,14 +280,7 @@ class LogReader {
 				writerState = UNKNOWN_STATE;
 				current.setStack(swriter.toString());
 			}
-		} catch (IOException e) { // do nothing
 		} finally {
-			if (file.length() > maxLogTailSizeInMegaByte && entries.isEmpty()) {
-				LogEntry entry = new LogEntry(new Status(IStatus.WARNING, Activator.PLUGIN_ID, NLS.bind(
-						Messages.LogReader_warn_noEntryWithinMaxLogTailSize, Long.valueOf(maxLogTailSizeInMegaByte))));
-				entry.setSession(currentSession == null ? new LogSession() : currentSession);
-				entries.add(entry);
-			}
 			if (writer != null) {
 				setData(current, session, writerState, swriter);
 				writer.close();
@@ -238,7 +353,10 @@ class LogReader {
 	 * @return is entry logged or filtered
 	 */
 	public static boolean isLogged(LogEntry entry, IMemento memento) {
-		int severity = entry.getSeverity();
+		return isLogged(entry.getSeverity(), memento);
+	}
+
+	private static boolean isLogged(int severity, IMemento memento) {
 		switch (severity) {
 			case IStatus.INFO :
 				return memento.getString(LogView.P_LOG_INFO).equals("true"); //$NON-NLS-1$
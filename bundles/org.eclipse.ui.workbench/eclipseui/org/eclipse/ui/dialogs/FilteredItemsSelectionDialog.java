@@ -30,6 +30,7 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -213,9 +214,15 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 	private ItemsFilter currentlyCompletingFilter;
 
-	private List<Object> lastCompletedResult;
+	/**
+	 * The results of the last completed filterings, from the broadest to the most
+	 * specific filter. Each filter is a sub-filter of the one before it, so a
+	 * pattern can be refined or widened again without a new search as long as it
+	 * stays within the broadest filter.
+	 */
+	private final List<CompletedResult> completedResults = new ArrayList<>();
 
-	private ItemsFilter lastCompletedFilter;
+	private static final int MAX_COMPLETED_RESULTS = 8;
 
 	private String initialPatternText;
 
@@ -1834,7 +1841,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 			contentProvider.addHistoryItems(itemsFilter);
 
-			if (!(lastCompletedFilter != null && lastCompletedFilter.isSubFilter(this.itemsFilter)))
+			if (findCompletedResult(this.itemsFilter) == null)
 				contentProvider.refresh();
 
 			filterJob.schedule();
@@ -1926,27 +1933,41 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		 */
 		protected void filterContent(GranualProgressMonitor monitor) throws CoreException {
 
-			if (lastCompletedFilter != null && lastCompletedFilter.isSubFilter(this.itemsFilter)) {
+			CompletedResult completedResult = findCompletedResult(this.itemsFilter);
+			if (completedResult != null) {
 
-				int length = lastCompletedResult.size() / 500;
+				List<Object> candidates = completedResult.items;
+				int length = candidates.size() / 500;
 				monitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_cacheSearchJob_taskName, length);
 
-				for (int pos = 0; pos < lastCompletedResult.size(); pos++) {
+				if (completedResult.filter.equalsFilter(itemsFilter)) {
+					// The pattern was widened back to one already completed
+					contentProvider.addAll(candidates, itemsFilter);
+					return;
+				}
+
+				List<Object> matches = new ArrayList<>();
+				for (int pos = 0; pos < candidates.size(); pos++) {
 
-					Object item = lastCompletedResult.get(pos);
+					Object item = candidates.get(pos);
 					if (monitor.isCanceled())
-						break;
-					contentProvider.add(item, itemsFilter);
+						return;
+					if (itemsFilter.matchItem(item)) {
+						matches.add(item);
+					}
 
 					if ((pos % 500) == 0) {
 						monitor.worked(1);
 					}
 				}
+				contentProvider.addAll(matches, itemsFilter);
+				contentProvider.rememberResult(itemsFilter, completedResult);
 
 			} else {
 
-				lastCompletedFilter = null;
-				lastCompletedResult = null;
+				synchronized (completedResults) {
+					completedResults.clear();
+				}
 
 				SubMonitor subMonitor = SubMonitor.convert(monitor,
 						WorkbenchMessages.FilteredItemsSelectionDialog_searchJob_taskName, 100);
@@ -1955,7 +1976,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 				if (monitor != null && !monitor.isCanceled()) {
 					subMonitor.worked(2);
-					contentProvider.rememberResult(itemsFilter);
+					contentProvider.rememberResult(itemsFilter, null);
 					subMonitor.worked(3);
 				}
 			}
@@ -1964,6 +1985,39 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 	}
 
+	/**
+	 * Returns the result of the most specific completed filtering that the given
+	 * filter refines.
+	 *
+	 * @param itemsFilter the filter
+	 * @return the completed result, or <code>null</code> if the items have to be
+	 *         searched
+	 */
+	private CompletedResult findCompletedResult(ItemsFilter itemsFilter) {
+		synchronized (completedResults) {
+			for (int i = completedResults.size(); --i >= 0;) {
+				CompletedResult completedResult = completedResults.get(i);
+				if (completedResult.filter.isSubFilter(itemsFilter)) {
+					return completedResult;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * The items matched by a completed filtering.
+	 */
+	private static class CompletedResult {
+		final ItemsFilter filter;
+		final List<Object> items;
+
+		CompletedResult(ItemsFilter filter, List<Object> items) {
+			this.filter = filter;
+			this.items = items;
+		}
+	}
+
 	/**
 	 * History stores a list of key, object pairs. The list is bounded at a certain
 	 * size. If the list exceeds this size the oldest element is removed from the
@@ -2434,6 +2488,18 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			}
 		}
 
+		/**
+		 * Adds items which are already known to match the filter.
+		 *
+		 * @param matchingItems the items to add
+		 * @param itemsFilter   the filter the items match
+		 */
+		public void addAll(Collection<Object> matchingItems, ItemsFilter itemsFilter) {
+			if (itemsFilter == filter) {
+				this.items.addAll(matchingItems);
+			}
+		}
+
 		/**
 		 * Add all history items to <code>contentProvider</code>.
 		 *
@@ -2584,14 +2650,24 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		/**
 		 * Remember result of filtering.
 		 *
-		 * @param itemsFilter the filter
+		 * @param itemsFilter   the filter
+		 * @param refinedResult the completed result the filter was applied to, or
+		 *                      <code>null</code> if the items were searched
 		 */
-		public void rememberResult(ItemsFilter itemsFilter) {
-			List<Object> itemsList = Collections.synchronizedList(Arrays.asList(getSortedItems()));
+		public void rememberResult(ItemsFilter itemsFilter, CompletedResult refinedResult) {
+			// The result is only searched, it is sorted when the cache is reloaded
+			List<Object> itemsList = Arrays.asList(items.toArray());
 			// synchronization
 			if (itemsFilter == filter) {
-				lastCompletedFilter = itemsFilter;
-				lastCompletedResult = itemsList;
+				synchronized (completedResults) {
+					int index = completedResults.indexOf(refinedResult);
+					completedResults.subList(index + 1, completedResults.size()).clear();
+					completedResults.add(new CompletedResult(itemsFilter, itemsList));
+					if (completedResults.size() > MAX_COMPLETED_RESULTS) {
+						// Keep the broadest result
+						completedResults.remove(1);
+					}
+				}
 			}
 
 		}
@@ -173,4 +173,24 @@ public class DecorationResult {
 	Color getForegroundColor() {
 		return foregroundColor;
 	}
+
+	/**
+	 * Return a rough estimate of the memory held by the receiver in bytes. The
+	 * colors and font are shared resources and not counted.
+	 *
+	 * @return int
+	 */
+	int getWeight() {
+		int weight = 64;
+		for (Object prefix : prefixes) {
+			weight += 40 + 2 * String.valueOf(prefix).length();
+		}
+		for (Object suffix : suffixes) {
+			weight += 40 + 2 * String.valueOf(suffix).length();
+		}
+		if (descriptors != null) {
+			weight += 16 + 8 * descriptors.length;
+		}
+		return weight;
+	}
 }
@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.internal.decorators;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.core.commands.internal.util.Tracing;
+import org.eclipse.jface.viewers.IDecorationContext;
+import org.eclipse.ui.internal.misc.Policy;
+
+/**
+ * The DecorationResultCache holds the decoration results computed by the
+ * {@link DecorationScheduler} until they are invalidated. The cache is bounded
+ * by the estimated size of the results it holds and evicts the least recently
+ * used elements first. An evicted element is simply decorated again when it is
+ * asked for.
+ * <p>
+ * All methods may be called from any thread.
+ * </p>
+ */
+public class DecorationResultCache {
+
+	/**
+	 * The default bound of the estimated size of the cached results in bytes.
+	 */
+	static final long DEFAULT_MAX_WEIGHT = 8L * 1024 * 1024;
+
+	private static final String TRACING_COMPONENT = "DECORATORS"; //$NON-NLS-1$
+
+	/**
+	 * The results of one element in all contexts it was decorated for.
+	 */
+	private static final class ElementResults {
+		final Map<IDecorationContext, DecorationResult> results = new HashMap<>(2);
+		int weight;
+	}
+
+	/** manually synchronized on DecorationResultCache.this, in access order **/
+	private final LinkedHashMap<Object, ElementResults> elements = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final long maxWeight;
+
+	private long weight;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	/**
+	 * Create a new cache holding results of about <code>maxWeight</code> bytes at
+	 * most.
+	 *
+	 * @param maxWeight the bound of the estimated size of the cached results
+	 */
+	public DecorationResultCache(long maxWeight) {
+		this.maxWeight = maxWeight;
+	}
+
+	/**
+	 * Return the result of the element in the context, or <code>null</code> if
+	 * there is none.
+	 *
+	 * @param element the decorated element
+	 * @param context the decoration context
+	 * @return DecorationResult or <code>null</code>
+	 */
+	public synchronized DecorationResult get(Object element, IDecorationContext context) {
+		ElementResults entry = elements.get(element);
+		DecorationResult result = entry == null ? null : entry.results.get(context);
+		if (result == null) {
+			misses++;
+		} else {
+			hits++;
+		}
+		return result;
+	}
+
+	/**
+	 * Store the result of the element in the context, evicting the least recently
+	 * used elements if the cache grows too large.
+	 *
+	 * @param element the decorated element
+	 * @param context the decoration context
+	 * @param result  the decoration result
+	 */
+	public synchronized void put(Object element, IDecorationContext context, DecorationResult result) {
+		ElementResults entry = elements.computeIfAbsent(element, e -> new ElementResults());
+		DecorationResult previous = entry.results.put(context, result);
+		int delta = result.getWeight() - (previous == null ? 0 : previous.getWeight());
+		entry.weight += delta;
+		weight += delta;
+
+		Iterator<Map.Entry<Object, ElementResults>> iterator = elements.entrySet().iterator();
+		while (weight > maxWeight && iterator.hasNext()) {
+			Map.Entry<Object, ElementResults> eldest = iterator.next();
+			if (eldest.getValue() == entry) {
+				// Never evict what was just computed
+				break;
+			}
+			weight -= eldest.getValue().weight;
+			iterator.remove();
+			evictions++;
+		}
+	}
+
+	/**
+	 * Remove the results of the element in all contexts so that it is decorated
+	 * again the next time it is asked for.
+	 *
+	 * @param element the element whose decorations are stale
+	 */
+	public synchronized void invalidate(Object element) {
+		ElementResults entry = elements.remove(element);
+		if (entry != null) {
+			weight -= entry.weight;
+		}
+	}
+
+	/**
+	 * Remove all results.
+	 */
+	public synchronized void clear() {
+		elements.clear();
+		weight = 0;
+	}
+
+	/**
+	 * @return the number of elements with cached results
+	 */
+	public synchronized int size() {
+		return elements.size();
+	}
+
+	/**
+	 * @return the estimated size of the cached results in bytes
+	 */
+	public synchronized long getWeight() {
+		return weight;
+	}
+
+	/**
+	 * @return the number of look-ups which found a result
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of look-ups which found no result
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the number of elements evicted to stay within the bound
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Report the hits, misses and evictions since the last report when decorator
+	 * tracing is enabled.
+	 */
+	void traceStatistics() {
+		if (!Policy.DEBUG_DECORATORS) {
+			return;
+		}
+		String message;
+		synchronized (this) {
+			if (hits == 0 && misses == 0 && evictions == 0) {
+				return;
+			}
+			message = "result cache: " + hits + " hits, " + misses + " misses, " + evictions //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " evictions, " + elements.size() + " elements of " + weight / 1024 + "KB"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			hits = 0;
+			misses = 0;
+			evictions = 0;
+		}
+		Tracing.printTrace(TRACING_COMPONENT, message);
+	}
+}
@@ -22,10 +22,9 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -66,7 +65,10 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * <code>decorationJob</code> to be executed asynchonously.</li>
  *
  * <li>The <code>decorationJob</code> processes the list of elements in
- * <code>awaitingDecoration</code> one by one. For each element, it calls
+ * <code>awaitingDecoration</code> one by one, starting with the elements a
+ * viewer asked for while rendering its labels. When the queue grows, up to
+ * {@link #MAX_DECORATION_WORKERS} further decoration jobs help draining it.
+ * For each element, it calls
  * <code>ensureResultCached</code>, which in turn calls the actual lightweight
  * decorator(s) for the element and stores the decoration result in the
  * <code>resultCache</code> and adds the element to the
@@ -75,7 +77,9 @@ import org.eclipse.ui.progress.WorkbenchJob;
  *
  * <li>When the <code>decorationJob</code> has finished processing all elements
  * in <code>awaitingDecoration</code>, it finally schedules the
- * <code>updateJob</code>.</li>
+ * <code>updateJob</code>. On long queues it also schedules it every
+ * {@link #UPDATE_DELAY} ms so that decorations show up in batches while the
+ * remaining elements are decorated.</li>
  *
  * <li>
  * <p>
@@ -115,7 +119,8 @@ public class DecorationScheduler {
 
 	// When decorations are computed they are added to this cache via
 	// scheduleUpdateJob() method
-	private final Map<IDecorationContext, Map<Object, DecorationResult>> resultCache = new ConcurrentHashMap<>();
+	private final DecorationResultCache resultCache = new DecorationResultCache(
+			DecorationResultCache.DEFAULT_MAX_WEIGHT);
 
 	/**
 	 * Objects that are awaiting a label update. manually synchronized on
@@ -126,12 +131,29 @@ public class DecorationScheduler {
 	/** manually synchronized on DecorationScheduler.this **/
 	private final LinkedHashMap<Object, DecorationReference> awaitingDecoration = new LinkedHashMap<>();
 
+	/**
+	 * The keys of <code>awaitingDecoration</code> which a viewer asked for while
+	 * rendering, and which are therefore likely to be visible. These are
+	 * decorated first. manually synchronized on DecorationScheduler.this
+	 **/
+	private final LinkedHashSet<Object> awaitingVisibleDecoration = new LinkedHashSet<>();
+
+	/**
+	 * The number of references taken off <code>awaitingDecoration</code> whose
+	 * results are not cached yet.
+	 */
+	private final AtomicInteger decorationsInProgress = new AtomicInteger();
+
 	/** manually synchronized on DecorationScheduler.this **/
 	private boolean shutdown = false;
 
 	private final DecoratorManager decoratorManager;
 
-	private final Job decorationJob;
+	/**
+	 * The decoration jobs. The first one is scheduled for every queued element,
+	 * the others only when there is enough work to share.
+	 */
+	private final Job[] decorationJobs;
 
 	// Notifies about updateJob or clearJob finishing
 	private final class JobChangeListener extends JobChangeAdapter {
@@ -169,6 +191,16 @@ public class DecorationScheduler {
 	/** Amount of time to delay the update notification when max reached. */
 	private static final int UPDATE_DELAY = 100;
 
+	/**
+	 * The maximum number of jobs decorating in parallel. Each lightweight
+	 * decorator is still only called by one job at a time.
+	 */
+	static final int MAX_DECORATION_WORKERS = Math.max(1,
+			Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+	/** The number of queued elements which justify one more decoration job. */
+	private static final int ELEMENTS_PER_WORKER = 32;
+
 	/**
 	 * Flag which is used to indicate that the update job is running in the UI
 	 * thread
@@ -181,7 +213,10 @@ public class DecorationScheduler {
 	 */
 	DecorationScheduler(DecoratorManager manager) {
 		decoratorManager = manager;
-		decorationJob = createDecorationJob();
+		decorationJobs = new Job[MAX_DECORATION_WORKERS];
+		for (int i = 0; i < decorationJobs.length; i++) {
+			decorationJobs[i] = createDecorationJob();
+		}
 	}
 
 	/**
@@ -213,10 +248,13 @@ public class DecorationScheduler {
 	 *                        decoration occurred or not.
 	 * @param undecoratedText The original text for the element if it is known.
 	 * @param context         The decoration context
+	 * @param visible         Whether a viewer asked for the element while
+	 *                        rendering it, in which case it is decorated before
+	 *                        the elements that were queued otherwise.
 	 */
 
 	synchronized void queueForDecoration(Object element, Object adaptedElement, boolean forceUpdate,
-			String undecoratedText, IDecorationContext context) {
+			String undecoratedText, IDecorationContext context, boolean visible) {
 
 		Assert.isNotNull(context);
 		DecorationReference reference = awaitingDecoration.get(element);
@@ -225,11 +263,17 @@ public class DecorationScheduler {
 				reference.setForceUpdate(forceUpdate);
 			}
 			reference.addContext(context);
+			if (visible) {
+				awaitingVisibleDecoration.add(element);
+			}
 		} else {
 			reference = new DecorationReference(element, adaptedElement, context);
 			reference.setForceUpdate(forceUpdate);
 			reference.setUndecoratedText(undecoratedText);
 			awaitingDecoration.put(element, reference);
+			if (visible) {
+				awaitingVisibleDecoration.add(element);
+			}
 			if (shutdown) {
 				return;
 			}
@@ -242,8 +286,15 @@ public class DecorationScheduler {
 	 * should not be called before constructor finished. Would leak reference to
 	 * incomplete constructed DecorationScheduler.this
 	 */
-	void schedule() {
-		decorationJob.schedule();
+	synchronized void schedule() {
+		decorationJobs[0].schedule();
+		// Let idle workers help once the queue is long enough to share
+		int waiting = awaitingDecoration.size();
+		for (int i = 1; i < decorationJobs.length && waiting > i * ELEMENTS_PER_WORKER; i++) {
+			if (decorationJobs[i].getState() == Job.NONE) {
+				decorationJobs[i].schedule();
+			}
+		}
 	}
 
 	/**
@@ -284,7 +335,7 @@ public class DecorationScheduler {
 		DecorationResult decoration = internalGetResult(element, context);
 
 		if (decoration == null) {
-			queueForDecoration(element, adaptedElement, false, null, context);
+			queueForDecoration(element, adaptedElement, false, null, context, true);
 			return null;
 		}
 		return decoration;
@@ -292,16 +343,11 @@ public class DecorationScheduler {
 	}
 
 	private DecorationResult internalGetResult(Object element, IDecorationContext context) {
-		Map<Object, DecorationResult> results = resultCache.get(context);
-		if (results != null) {
-			return results.get(element);
-		}
-		return null;
+		return resultCache.get(element, context);
 	}
 
 	protected void internalPutResult(Object element, IDecorationContext context, DecorationResult result) {
-		Map<Object, DecorationResult> results = resultCache.computeIfAbsent(context, ctx -> new ConcurrentHashMap<>());
-		results.put(element, result);
+		resultCache.put(element, context, result);
 	}
 
 	/**
@@ -323,6 +369,17 @@ public class DecorationScheduler {
 		updateJob.schedule(UPDATE_DELAY);
 	}
 
+	/**
+	 * Show the decorations computed so far while decoration continues. Unlike
+	 * {@link #scheduleUpdateJob()} this does not postpone an update which is
+	 * already on its way.
+	 */
+	synchronized void flushUpdates() {
+		if (updateJob == null || updateJob.getState() == Job.NONE) {
+			scheduleUpdateJob();
+		}
+	}
+
 	/**
 	 * Shutdown the decoration.
 	 */
@@ -336,13 +393,20 @@ public class DecorationScheduler {
 	 * @return IResource
 	 */
 	synchronized DecorationReference removeNextReference() {
-		Iterator<Entry<Object, DecorationReference>> iterator = awaitingDecoration.entrySet().iterator();
-		if (shutdown || !iterator.hasNext()) {
+		if (shutdown || awaitingDecoration.isEmpty()) {
 			return null;
 		}
-		Entry<Object, DecorationReference> entry = iterator.next();
-		iterator.remove();
-		DecorationReference reference = entry.getValue();
+		DecorationReference reference;
+		Iterator<Object> visible = awaitingVisibleDecoration.iterator();
+		if (visible.hasNext()) {
+			reference = awaitingDecoration.remove(visible.next());
+			visible.remove();
+		} else {
+			Iterator<Entry<Object, DecorationReference>> iterator = awaitingDecoration.entrySet().iterator();
+			reference = iterator.next().getValue();
+			iterator.remove();
+		}
+		decorationsInProgress.incrementAndGet();
 		return reference;
 	}
 
@@ -377,23 +441,35 @@ public class DecorationScheduler {
 				DecorationReference reference;
 
 				boolean queued = false;
+				long batchStart = System.currentTimeMillis();
 				// for each in awaitingDecorationValues, but not locking the map during the whole iteration:
 				while ((reference = removeNextReference()) != null) {
-					subMonitor.split(1);
-					queued = true;
-					Object element = reference.getElement();
-					boolean force = reference.shouldForceUpdate();
-					Collection<IDecorationContext> contexts = reference.getContexts();
-					for (IDecorationContext context : contexts) {
-						queued |= queue(element, force, context);
+					try {
+						subMonitor.split(1);
+						queued = true;
+						Object element = reference.getElement();
+						boolean force = reference.shouldForceUpdate();
+						Collection<IDecorationContext> contexts = reference.getContexts();
+						for (IDecorationContext context : contexts) {
+							queued |= queue(element, force, context);
+						}
+					} finally {
+						decorationsInProgress.decrementAndGet();
 					}
 					subMonitor.setWorkRemaining(awaitingDecoration.size() + 1); // may grow asynchronously
-					// Only notify listeners when we have exhausted the
-					// queue of decoration requests.
+					// Notify listeners when we have exhausted the queue of
+					// decoration requests, or in batches if that takes long.
+					if (queued && System.currentTimeMillis() - batchStart >= UPDATE_DELAY) {
+						flushUpdates();
+						queued = false;
+						batchStart = System.currentTimeMillis();
+					}
 				}
 				if (queued) {
 					scheduleUpdateJob();
 				}
+				decoratorManager.getLightweightManager().traceStatistics();
+				resultCache.traceStatistics();
 				return Status.OK_STATUS;
 			}
 
@@ -478,6 +554,16 @@ public class DecorationScheduler {
 		clearJob.schedule();
 	}
 
+	/**
+	 * The decorations of the given elements are stale. Drop their results while
+	 * keeping those of all other elements.
+	 */
+	void invalidateResults(Object[] elements) {
+		for (Object element : elements) {
+			resultCache.invalidate(element);
+		}
+	}
+
 	private Job getClearJob() {
 		Job clear = new Job(WorkbenchMessages.DecorationScheduler_ClearResultsJob) {
 
@@ -579,17 +665,12 @@ public class DecorationScheduler {
 			}
 
 			/**
-			 * Clear any cached information.
+			 * Reset the state of the update round. The results stay cached until
+			 * they are invalidated or evicted.
 			 */
 			private void resetState() {
 				currentIndex = NEEDS_INIT;// Reset
 				removedListeners.clear();
-				// Other decoration requests may have occurred due to
-				// updates or we may have timed out updating listeners.
-				// Only clear the results if there are none pending.
-				if (awaitingDecoration.isEmpty()) {
-					resultCache.clear();
-				}
 			}
 
 			private void setUpUpdates() {
@@ -647,18 +647,20 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 	@Override
 	public void labelProviderChanged(LabelProviderChangedEvent event) {
 		Object[] elements = event.getElements();
-		scheduler.clearResults();
 		// If the elements are not specified send out a general update
 		if (elements == null) {
+			scheduler.clearResults();
 			fireListeners(event);
 		} else {
+			// Only the decorations of the given elements are stale
+			scheduler.invalidateResults(elements);
 			// Assume that someone is going to care about the
 			// decoration result and just start it right away
 			for (Object element : elements) {
 				Object adapted = getResourceAdapter(element);
 				// Force an update in case full decorators are the only ones
 				// enabled
-				scheduler.queueForDecoration(element, adapted, true, null, DecorationContext.DEFAULT_CONTEXT);
+				scheduler.queueForDecoration(element, adapted, true, null, DecorationContext.DEFAULT_CONTEXT, false);
 			}
 		}
 	}
@@ -955,7 +957,7 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 		}
 
 		// Queue the decoration.
-		scheduler.queueForDecoration(element, getResourceAdapter(element), force, originalText, context);
+		scheduler.queueForDecoration(element, getResourceAdapter(element), force, originalText, context, true);
 
 		// If we are going to force an update just let that happen later.
 		return !force;
@@ -92,6 +92,14 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 
 	private String[] objectClasses;
 
+	/**
+	 * Decorators are not required to be thread safe, but the decoration workers
+	 * of the {@link DecorationScheduler} may ask for decorations of different
+	 * elements at the same time. Calls into the decorator are serialized on this
+	 * lock.
+	 */
+	private final Object decorationLock = new Object();
+
 	LightweightDecoratorDefinition(String identifier, IConfigurationElement element) {
 		super(identifier, element);
 	}
@@ -232,29 +240,31 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 	 * Decorate the element using the decoration to store the result.
 	 */
 	public void decorate(Object element, IDecoration decoration) {
-		try {
-			if (!isEnabled()) {
-				return;
-			}
-			// Internal decorator might be null so be prepared
-			ILightweightLabelDecorator currentDecorator = internalGetDecorator();
-			if (currentDecorator == null) {
-				return;
-			}
+		synchronized (decorationLock) {
+			try {
+				if (!isEnabled()) {
+					return;
+				}
+				// Internal decorator might be null so be prepared
+				ILightweightLabelDecorator currentDecorator = internalGetDecorator();
+				if (currentDecorator == null) {
+					return;
+				}
 
-			if (isAdaptable()) {
-				String[] classes = getObjectClasses();
-				for (String className : classes) {
-					Object adapted = LegacyResourceSupport.getAdapter(element, className);
-					if (adapted != null) {
-						currentDecorator.decorate(adapted, decoration);
+				if (isAdaptable()) {
+					String[] classes = getObjectClasses();
+					for (String className : classes) {
+						Object adapted = LegacyResourceSupport.getAdapter(element, className);
+						if (adapted != null) {
+							currentDecorator.decorate(adapted, decoration);
+						}
 					}
+				} else if (element != null) {
+					currentDecorator.decorate(element, decoration);
 				}
-			} else if (element != null) {
-				currentDecorator.decorate(element, decoration);
+			} catch (CoreException exception) {
+				handleCoreException(exception);
 			}
-		} catch (CoreException exception) {
-			handleCoreException(exception);
 		}
 
 	}
@@ -16,6 +16,11 @@ package org.eclipse.ui.internal.decorators;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.core.commands.internal.util.Tracing;
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
@@ -25,6 +30,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.ui.internal.ObjectContributorManager;
 import org.eclipse.ui.internal.WorkbenchMessages;
 import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.misc.Policy;
 import org.eclipse.ui.internal.misc.StatusUtil;
 import org.eclipse.ui.internal.util.Util;
 
@@ -117,7 +123,18 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		}
 	}
 
-	private LightweightRunnable runnable = new LightweightRunnable();
+	/**
+	 * Decorations computed and time spent by a decorator since the statistics
+	 * were last reported.
+	 */
+	private static class DecoratorStatistics {
+		final LongAdder decorations = new LongAdder();
+		final LongAdder nanos = new LongAdder();
+	}
+
+	private static final String TRACING_COMPONENT = "DECORATORS"; //$NON-NLS-1$
+
+	private final Map<String, DecoratorStatistics> statistics = new ConcurrentHashMap<>();
 
 	// The lightweight definitions read from the registry
 	private LightweightDecoratorDefinition[] lightweightDefinitions;
@@ -274,7 +291,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * Reset any cached values.
 	 */
 	void reset() {
-		runnable.clearReferences();
+		statistics.clear();
 	}
 
 	/**
@@ -354,9 +371,40 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * @param decorator  The decorator being applied.
 	 */
 	private void decorate(Object element, DecorationBuilder decoration, LightweightDecoratorDefinition decorator) {
-
+		// Several decoration workers may get here at once, so each call gets
+		// its own runnable
+		LightweightRunnable runnable = new LightweightRunnable();
 		runnable.setValues(element, decoration, decorator);
+		if (!Policy.DEBUG_DECORATORS) {
+			SafeRunner.run(runnable);
+			return;
+		}
+		long start = System.nanoTime();
 		SafeRunner.run(runnable);
+		DecoratorStatistics stats = statistics.computeIfAbsent(decorator.getId(), id -> new DecoratorStatistics());
+		stats.decorations.increment();
+		stats.nanos.add(System.nanoTime() - start);
+	}
+
+	/**
+	 * Report the decorations per second of each decorator since the last report
+	 * when decorator tracing is enabled.
+	 */
+	void traceStatistics() {
+		if (!Policy.DEBUG_DECORATORS) {
+			return;
+		}
+		for (Map.Entry<String, DecoratorStatistics> entry : statistics.entrySet()) {
+			DecoratorStatistics stats = entry.getValue();
+			long decorations = stats.decorations.sumThenReset();
+			long nanos = stats.nanos.sumThenReset();
+			if (decorations == 0) {
+				continue;
+			}
+			long rate = nanos == 0 ? decorations : decorations * TimeUnit.SECONDS.toNanos(1) / nanos;
+			Tracing.printTrace(TRACING_COMPONENT, entry.getKey() + ": " + decorations + " decorations in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ TimeUnit.NANOSECONDS.toMillis(nanos) + "ms (" + rate + "/s)"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
 	}
 
 	/**
@@ -104,6 +104,13 @@ public abstract class QuickAccessContents {
 	private QuickAccessProvider[] providers;
 	private Map<String, QuickAccessProvider> providerMap = new HashMap<>();
 	private Map<QuickAccessElement, QuickAccessProvider> elementsToProviders = new HashMap<>();
+	/**
+	 * The matchers of the elements seen so far. They keep the lower case and camel
+	 * case forms of the labels, which are then computed only once per element
+	 * rather than on every key stroke.
+	 */
+	private final Map<QuickAccessElement, QuickAccessMatcher> matchers = Collections
+			.synchronizedMap(new HashMap<>());
 
 	protected Table table;
 	protected Label infoLabel;
@@ -417,21 +424,22 @@ public abstract class QuickAccessContents {
 				if (!filter.isEmpty() && !sortedElements.isEmpty()) {
 					sortedElements = putPrefixMatchFirst(sortedElements, filter);
 				}
-				elementsForProviders.put(provider, new ArrayList<>(sortedElements));
+				elementsForProviders.put(provider, new LinkedList<>(sortedElements));
 			}
 		}
 
 		// Sort out the Previous Pick
-		List<String> prevPickIds = new ArrayList<>();
+		Set<String> prevPickIds = new HashSet<>();
 		for (Entry<QuickAccessProvider, List<QuickAccessElement>> entry : elementsForProviders.entrySet()) {
 			if (entry.getKey() instanceof PreviousPicksProvider) {
-				prevPickIds
-						.addAll(entry.getValue().stream().map(QuickAccessElement::getId).collect(Collectors.toList()));
+				for (QuickAccessElement element : entry.getValue()) {
+					prevPickIds.add(element.getId());
+				}
 			}
 		}
 		for (Entry<QuickAccessProvider, List<QuickAccessElement>> entry : elementsForProviders.entrySet()) {
 			if (!(entry.getKey() instanceof PreviousPicksProvider)) {
-				List<QuickAccessElement> filteredElements = new ArrayList<>(entry.getValue());
+				List<QuickAccessElement> filteredElements = new LinkedList<>(entry.getValue());
 				filteredElements.removeIf(element -> prevPickIds.contains(element.getId()));
 				entry.setValue(filteredElements);
 			}
@@ -441,7 +449,7 @@ public abstract class QuickAccessContents {
 		if (perfectMatch != null) {
 			for (Entry<QuickAccessProvider, List<QuickAccessElement>> entry : elementsForProviders.entrySet()) {
 				if (perfectMatchProvider != null) {
-					List<QuickAccessElement> filteredElements = new ArrayList<>(entry.getValue());
+					List<QuickAccessElement> filteredElements = new LinkedList<>(entry.getValue());
 					if (filteredElements.removeIf(element -> prevPickIds.contains(element.getId()))) {
 						entry.setValue(filteredElements);
 						perfectMatchProvider = entry.getKey();
@@ -457,7 +465,7 @@ public abstract class QuickAccessContents {
 					.entrySet()) {
 				QuickAccessProvider provider = elementsPerProvider.getKey();
 				List<QuickAccessEntry> entries = elementsPerProvider.getValue().stream() //
-						.map(QuickAccessMatcher::new) //
+						.map(this::getMatcher) //
 						.map(matcher -> matcher.match(finalFilter, provider)) //
 						.filter(Objects::nonNull) //
 						.collect(Collectors.toList());
@@ -477,7 +485,7 @@ public abstract class QuickAccessContents {
 						int toPickEntries = nbEntriesPerProvider;
 						while (toPickEntries > 0 && !elements.isEmpty()) {
 							QuickAccessElement element = elements.remove(0);
-							QuickAccessEntry entry = new QuickAccessMatcher(element).match(filter, provider);
+							QuickAccessEntry entry = getMatcher(element).match(filter, provider);
 							if (entry != null) {
 								numberOfSlotsLeft--;
 								toPickEntries--;
@@ -497,7 +505,7 @@ public abstract class QuickAccessContents {
 							boolean entryPicked = false;
 							while (!entryPicked && !elements.isEmpty()) {
 								QuickAccessElement element = elements.remove(0);
-								QuickAccessEntry entry = new QuickAccessMatcher(element).match(filter, provider);
+								QuickAccessEntry entry = getMatcher(element).match(filter, provider);
 								if (entry != null) {
 									numberOfSlotsLeft--;
 									entryPicked = true;
@@ -530,31 +538,26 @@ public abstract class QuickAccessContents {
 		return (List<QuickAccessEntry>[]) res.toArray(new List<?>[res.size()]);
 	}
 
+	private QuickAccessMatcher getMatcher(QuickAccessElement element) {
+		return matchers.computeIfAbsent(element, QuickAccessMatcher::new);
+	}
+
 	/*
 	 * Consider whether we could directly check the "matchQuality" here, but it
 	 * seems to be a more expensive operation
 	 */
-	private static List<QuickAccessElement> putPrefixMatchFirst(List<QuickAccessElement> elements, String prefix) {
-		List<QuickAccessElement> res = new ArrayList<>(elements);
-		List<Integer> matchingIndexes = new ArrayList<>();
-		for (int i = 0; i < elements.size(); i++) {
-			if (elements.get(i).getLabel().toLowerCase().startsWith(prefix.toLowerCase())) {
-				matchingIndexes.add(Integer.valueOf(i));
-			}
-		}
-		int currentMatchIndex = 0;
-		int currentNonMatchIndex = matchingIndexes.size();
-		for (int i = 0; i < res.size(); i++) {
-			boolean isMatch = !matchingIndexes.isEmpty() && matchingIndexes.iterator().next().intValue() == i;
-			if (isMatch) {
-				matchingIndexes.remove(0);
-				res.set(currentMatchIndex, elements.get(i));
-				currentMatchIndex++;
+	private List<QuickAccessElement> putPrefixMatchFirst(List<QuickAccessElement> elements, String prefix) {
+		String lowerCasePrefix = prefix.toLowerCase();
+		List<QuickAccessElement> res = new ArrayList<>(elements.size());
+		List<QuickAccessElement> nonMatching = new ArrayList<>();
+		for (QuickAccessElement element : elements) {
+			if (getMatcher(element).getLowerCaseLabel().startsWith(lowerCasePrefix)) {
+				res.add(element);
 			} else {
-				res.set(currentNonMatchIndex, elements.get(i));
-				currentNonMatchIndex++;
+				nonMatching.add(element);
 			}
 		}
+		res.addAll(nonMatching);
 		return res;
 	}
 
@@ -27,8 +27,62 @@ import org.eclipse.ui.quickaccess.QuickAccessElement;
  */
 public final class QuickAccessMatcher {
 
+	/**
+	 * The labels of the element in the forms used for matching. Computed on the
+	 * first match and reused for all the filters typed afterwards.
+	 */
+	private static final class Labels {
+		final String label;
+		final String matchLabel;
+		final String lowerLabel;
+		final String lowerMatchLabel;
+		final String camelCase;
+
+		Labels(QuickAccessElement element) {
+			label = element.getLabel();
+			matchLabel = element.getMatchLabel();
+			lowerLabel = label.toLowerCase();
+			lowerMatchLabel = matchLabel.toLowerCase();
+			camelCase = CamelUtil.getCamelCase(label);
+		}
+	}
+
+	/**
+	 * The labels of the element prefixed with the name of a provider.
+	 */
+	private static final class CombinedLabels {
+		final String providerName;
+		final String label;
+		final String lowerLabel;
+		final String lowerMatchLabel;
+
+		CombinedLabels(String providerName, Labels labels) {
+			this.providerName = providerName;
+			label = providerName + " " + labels.label; //$NON-NLS-1$
+			lowerLabel = label.toLowerCase();
+			lowerMatchLabel = (providerName + " " + labels.matchLabel).toLowerCase(); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * A pattern compiled from a filter.
+	 */
+	private static final class CompiledFilter {
+		final String filter;
+		final Pattern pattern;
+
+		CompiledFilter(String filter, Pattern pattern) {
+			this.filter = filter;
+			this.pattern = pattern;
+		}
+	}
+
 	private final QuickAccessElement element;
 
+	private Labels labels;
+
+	private CombinedLabels combinedLabels;
+
 	public QuickAccessMatcher(QuickAccessElement element) {
 		this.element = element;
 	}
@@ -42,39 +96,36 @@ public final class QuickAccessMatcher {
 	private static final String PAR_END = "\\)"; //$NON-NLS-1$
 	private static final String ONE_CHAR = ".?"; //$NON-NLS-1$
 
-	// whitespaces filter and patterns
-	private String wsFilter;
-	private Pattern wsPattern;
+	// The patterns of the last filters, shared by the matchers of all elements
+	private static volatile CompiledFilter whitespacesFilter;
+	private static volatile CompiledFilter wildcardsFilter;
 
 	/**
 	 * Get the existing {@link Pattern} for the given filter, or create a new one.
 	 * The generated pattern will replace whitespace with * to match all.
 	 */
-	private Pattern getWhitespacesPattern(String filter) {
-		if (wsPattern == null || !filter.equals(wsFilter)) {
-			wsFilter = filter;
+	private static Pattern getWhitespacesPattern(String filter) {
+		CompiledFilter compiled = whitespacesFilter;
+		if (compiled == null || !filter.equals(compiled.filter)) {
 			String sFilter = filter.replaceFirst(WS_WILD_START, EMPTY_STR).replaceFirst(WS_WILD_END, EMPTY_STR)
 					.replaceAll(PAR_START, ONE_CHAR).replaceAll(PAR_END, ONE_CHAR);
 			sFilter = String.format(".*(%s).*", sFilter.replaceAll(ANY_WS, ").*(")); //$NON-NLS-1$//$NON-NLS-2$
-			wsPattern = safeCompile(sFilter);
+			compiled = new CompiledFilter(filter, safeCompile(sFilter));
+			whitespacesFilter = compiled;
 		}
-		return wsPattern;
+		return compiled.pattern;
 	}
 
-	// wildcard filter and patterns
-	private String wcFilter;
-	private Pattern wcPattern;
-
 	/**
 	 * Get the existing {@link Pattern} for the given filter, or create a new one.
 	 * The generated pattern will handle '*' and '?' wildcards.
 	 */
-	private Pattern getWildcardsPattern(String filter) {
-		// squash consecutive **** into a single *
-		filter = filter.replaceAll("\\*+", "*"); //$NON-NLS-1$ //$NON-NLS-2$
-		if (wcPattern == null || !filter.equals(wcFilter)) {
-			wcFilter = filter;
-			String sFilter = filter.replaceFirst(WS_WILD_START, EMPTY_STR).replaceFirst(WS_WILD_END, EMPTY_STR)
+	private static Pattern getWildcardsPattern(String filter) {
+		CompiledFilter compiled = wildcardsFilter;
+		if (compiled == null || !filter.equals(compiled.filter)) {
+			// squash consecutive **** into a single *
+			String sFilter = filter.replaceAll("\\*+", "*"); //$NON-NLS-1$ //$NON-NLS-2$
+			sFilter = sFilter.replaceFirst(WS_WILD_START, EMPTY_STR).replaceFirst(WS_WILD_END, EMPTY_STR)
 					.replaceAll(PAR_START, ONE_CHAR).replaceAll(PAR_END, ONE_CHAR);
 			// replace '*' and '?' with their matchers ").*(" and ").?("
 			StringBuilder sb = new StringBuilder();
@@ -99,9 +150,10 @@ public final class QuickAccessMatcher {
 			// remove empty capturing groups
 			sFilter = sFilter.replace("()", EMPTY_STR); //$NON-NLS-1$
 			//
-			wcPattern = safeCompile(sFilter);
+			compiled = new CompiledFilter(filter, safeCompile(sFilter));
+			wildcardsFilter = compiled;
 		}
-		return wcPattern;
+		return compiled.pattern;
 	}
 
 	/**
@@ -133,14 +185,15 @@ public final class QuickAccessMatcher {
 	 * @noreference This method is not intended to be referenced by clients.
 	 */
 	public QuickAccessEntry match(String filter, QuickAccessProvider providerForMatching) {
-		String matchLabel = element.getMatchLabel();
+		Labels l = getLabels();
+		String matchLabel = l.matchLabel;
 		// first occurrence of filter
-		int index = matchLabel.toLowerCase().indexOf(filter);
+		int index = l.lowerMatchLabel.indexOf(filter);
 		if (index != -1) {
-			index = element.getLabel().toLowerCase().indexOf(filter);
+			index = l.lowerLabel.indexOf(filter);
 			if (index != -1) { // match actual label
-				int quality = matchLabel.toLowerCase().equals(filter) ? QuickAccessEntry.MATCH_PERFECT
-						: (matchLabel.toLowerCase().startsWith(filter) ? QuickAccessEntry.MATCH_EXCELLENT
+				int quality = l.lowerMatchLabel.equals(filter) ? QuickAccessEntry.MATCH_PERFECT
+						: (l.lowerMatchLabel.startsWith(filter) ? QuickAccessEntry.MATCH_EXCELLENT
 								: QuickAccessEntry.MATCH_GOOD);
 				return new QuickAccessEntry(element, providerForMatching,
 						new int[][] { { index, index + filter.length() - 1 } }, EMPTY_INDICES, quality);
@@ -161,9 +214,9 @@ public final class QuickAccessMatcher {
 		// if matches, return an entry
 		if (m.matches()) {
 			// and highlight match on the label only
-			String label = element.getLabel();
+			String label = l.label;
 			if (!matchLabel.equals(label)) {
-				m = p.matcher(element.getLabel());
+				m = p.matcher(label);
 				if (!m.matches()) {
 					return new QuickAccessEntry(element, providerForMatching, EMPTY_INDICES, EMPTY_INDICES,
 							QuickAccessEntry.MATCH_GOOD);
@@ -181,13 +234,13 @@ public final class QuickAccessMatcher {
 			return new QuickAccessEntry(element, providerForMatching, indices, EMPTY_INDICES, quality);
 		}
 		//
-		String combinedMatchLabel = (providerForMatching.getName() + " " + element.getMatchLabel()); //$NON-NLS-1$
-		String combinedLabel = (providerForMatching.getName() + " " + element.getLabel()); //$NON-NLS-1$
-		index = combinedMatchLabel.toLowerCase().indexOf(filter);
+		String providerName = providerForMatching.getName();
+		CombinedLabels combined = getCombinedLabels(providerName, l);
+		index = combined.lowerMatchLabel.indexOf(filter);
 		if (index != -1) { // match
-			index = combinedLabel.toLowerCase().indexOf(filter);
+			index = combined.lowerLabel.indexOf(filter);
 			if (index != -1) { // compute highlight on label
-				int lengthOfElementMatch = index + filter.length() - providerForMatching.getName().length() - 1;
+				int lengthOfElementMatch = index + filter.length() - providerName.length() - 1;
 				if (lengthOfElementMatch > 0) {
 					return new QuickAccessEntry(element, providerForMatching,
 							new int[][] { { 0, lengthOfElementMatch - 1 } },
@@ -200,29 +253,53 @@ public final class QuickAccessMatcher {
 					QuickAccessEntry.MATCH_PARTIAL);
 		}
 		//
-		String camelCase = CamelUtil.getCamelCase(element.getLabel()); // use actual label for camelcase
-		index = camelCase.indexOf(filter);
+		index = l.camelCase.indexOf(filter); // use actual label for camelcase
 		if (index != -1) {
 			int[][] indices = CamelUtil.getCamelCaseIndices(matchLabel, index, filter.length());
 			return new QuickAccessEntry(element, providerForMatching, indices, EMPTY_INDICES,
 					QuickAccessEntry.MATCH_GOOD);
 		}
-		String combinedCamelCase = CamelUtil.getCamelCase(combinedLabel);
+		String combinedCamelCase = CamelUtil.getCamelCase(combined.label);
 		index = combinedCamelCase.indexOf(filter);
 		if (index != -1) {
-			String providerCamelCase = CamelUtil.getCamelCase(providerForMatching.getName());
+			String providerCamelCase = CamelUtil.getCamelCase(providerName);
 			int lengthOfElementMatch = index + filter.length() - providerCamelCase.length();
 			if (lengthOfElementMatch > 0) {
 				return new QuickAccessEntry(element, providerForMatching,
 						CamelUtil.getCamelCaseIndices(matchLabel, 0, lengthOfElementMatch),
-						CamelUtil.getCamelCaseIndices(providerForMatching.getName(), index,
+						CamelUtil.getCamelCaseIndices(providerName, index,
 								filter.length() - lengthOfElementMatch),
 						QuickAccessEntry.MATCH_GOOD);
 			}
 			return new QuickAccessEntry(element, providerForMatching, EMPTY_INDICES,
-					CamelUtil.getCamelCaseIndices(providerForMatching.getName(), index, filter.length()),
+					CamelUtil.getCamelCaseIndices(providerName, index, filter.length()),
 					QuickAccessEntry.MATCH_GOOD);
 		}
 		return null;
 	}
+
+	/**
+	 * Returns the label of the element in lower case.
+	 */
+	String getLowerCaseLabel() {
+		return getLabels().lowerLabel;
+	}
+
+	private Labels getLabels() {
+		Labels l = labels;
+		if (l == null) {
+			l = new Labels(element);
+			labels = l;
+		}
+		return l;
+	}
+
+	private CombinedLabels getCombinedLabels(String providerName, Labels l) {
+		CombinedLabels combined = combinedLabels;
+		if (combined == null || !combined.providerName.equals(providerName)) {
+			combined = new CombinedLabels(providerName, l);
+			combinedLabels = combined;
+		}
+		return combined;
+	}
 }
@@ -17,6 +17,8 @@ package org.eclipse.core.filebuffers.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -1316,4 +1318,53 @@ public abstract class FileBufferFunctions {
 		}
 	}
 
+	/*
+	 * Tests connectAll and disconnectAll.
+	 */
+	@Test
+	public void testConnectAll() throws Exception {
+		fManager.connectAll(new IPath[] { fPath, fPath }, LocationKind.NORMALIZE, null);
+		try {
+			ITextFileBuffer buffer= fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE);
+			assertNotNull(buffer);
+			assertTrue(buffer.isShared());
+			assertEquals(1, fManager.getFileBuffers().length);
+
+			fManager.disconnect(fPath, LocationKind.NORMALIZE, null);
+			assertSame(buffer, fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE));
+			assertFalse(buffer.isShared());
+		} finally {
+			fManager.disconnectAll(new IPath[] { fPath }, LocationKind.NORMALIZE, null);
+		}
+		assertNull(fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE));
+	}
+
+	/*
+	 * Tests createReadOnlyTextFileBuffer.
+	 */
+	@Test
+	public void testCreateReadOnlyTextFileBuffer() throws Exception {
+		fManager.connect(fPath, LocationKind.NORMALIZE, null);
+		try {
+			ITextFileBuffer fileBuffer= fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE);
+			IDocument document= fileBuffer.getDocument();
+			String content= document.get();
+			document.replace(document.getLength(), 0, "appendix");
+
+			ITextFileBuffer readOnlyBuffer= fManager.createReadOnlyTextFileBuffer(fPath, LocationKind.NORMALIZE, null);
+			assertNotSame(fileBuffer, readOnlyBuffer);
+			assertEquals(fPath, readOnlyBuffer.getLocation());
+			assertEquals(content, readOnlyBuffer.getDocument().get());
+			assertNull(readOnlyBuffer.getAnnotationModel());
+			assertFalse(readOnlyBuffer.isCommitable());
+
+			readOnlyBuffer.getDocument().replace(0, 0, "prefix");
+			assertFalse(readOnlyBuffer.isDirty());
+			assertSame(fileBuffer, fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE));
+			assertEquals(1, fManager.getFileBuffers().length);
+		} finally {
+			fManager.disconnect(fPath, LocationKind.NORMALIZE, null);
+		}
+	}
+
 }
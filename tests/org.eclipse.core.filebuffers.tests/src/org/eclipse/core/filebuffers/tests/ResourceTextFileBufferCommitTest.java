@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.core.filebuffers.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.content.IContentDescription;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.IFileBufferStatusCodes;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+
+/**
+ * Tests how the document of a workspace file buffer is encoded when it is committed.
+ */
+public class ResourceTextFileBufferCommitTest {
+
+	private static final String PROJECT= "ResourceTextFileBufferCommitTest";
+
+	private IProject fProject;
+	private ITextFileBufferManager fManager;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject(PROJECT);
+		fManager= FileBuffers.getTextFileBufferManager();
+	}
+
+	@After
+	public void tearDown() {
+		ResourceHelper.deleteProject(PROJECT);
+	}
+
+	@Test
+	public void testSurrogatePairsAcrossChunks() throws Exception {
+		IFile file= createFile("surrogates.txt", new byte[0], "UTF-8");
+		// a high surrogate at every third character, pairs straddle every chunk boundary
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 20000; i++)
+			content.append("a\uD83D\uDE00");
+
+		commit(file, content.toString());
+		assertArrayEquals(content.toString().getBytes(StandardCharsets.UTF_8), getContents(file));
+	}
+
+	@Test
+	public void testCharsetMappingFailed() throws Exception {
+		byte[] original= "before".getBytes(StandardCharsets.ISO_8859_1);
+		IFile file= createFile("unmappable.txt", original, "ISO-8859-1");
+
+		try {
+			commit(file, "euro \u20AC");
+			fail("the euro sign cannot be mapped to ISO-8859-1");
+		} catch (CoreException e) {
+			assertEquals(IFileBufferStatusCodes.CHARSET_MAPPING_FAILED, e.getStatus().getCode());
+		}
+		assertArrayEquals(original, getContents(file));
+
+		commit(file, "caf\u00E9");
+		assertArrayEquals("caf\u00E9".getBytes(StandardCharsets.ISO_8859_1), getContents(file));
+	}
+
+	@Test
+	public void testUTF8BOMIsKept() throws Exception {
+		IFile file= createFile("bom8.txt", concat(IContentDescription.BOM_UTF_8, "before".getBytes(StandardCharsets.UTF_8)), null);
+
+		commit(file, "after \u00E9");
+		assertArrayEquals(concat(IContentDescription.BOM_UTF_8, "after \u00E9".getBytes(StandardCharsets.UTF_8)), getContents(file));
+	}
+
+	@Test
+	public void testUTF16LEBOMIsKept() throws Exception {
+		IFile file= createFile("bom16.txt", concat(IContentDescription.BOM_UTF_16LE, "before".getBytes(StandardCharsets.UTF_16LE)), null);
+
+		commit(file, "after \uD83D\uDE00");
+		assertArrayEquals(concat(IContentDescription.BOM_UTF_16LE, "after \uD83D\uDE00".getBytes(StandardCharsets.UTF_16LE)), getContents(file));
+	}
+
+	private IFile createFile(String name, byte[] contents, String charset) throws CoreException {
+		IFile file= fProject.getFile(name);
+		file.create(new ByteArrayInputStream(contents), true, null);
+		if (charset != null)
+			file.setCharset(charset, null);
+		return file;
+	}
+
+	private void commit(IFile file, String content) throws CoreException {
+		fManager.connect(file.getFullPath(), LocationKind.IFILE, null);
+		try {
+			ITextFileBuffer buffer= fManager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+			buffer.getDocument().set(content);
+			buffer.commit(null, true);
+		} finally {
+			fManager.disconnect(file.getFullPath(), LocationKind.IFILE, null);
+		}
+	}
+
+	private static byte[] getContents(IFile file) throws CoreException, IOException {
+		try (InputStream stream= file.getContents(true)) {
+			return stream.readAllBytes();
+		}
+	}
+
+	private static byte[] concat(byte[] first, byte[] second) {
+		ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+		bytes.writeBytes(first);
+		bytes.writeBytes(second);
+		return bytes.toByteArray();
+	}
+}
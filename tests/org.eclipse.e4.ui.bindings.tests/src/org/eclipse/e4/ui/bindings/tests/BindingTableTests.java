@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -33,6 +34,7 @@ import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.commands.contexts.Context;
 import org.eclipse.core.commands.contexts.ContextManager;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.bindings.internal.BindingTable;
 import org.eclipse.e4.ui.bindings.internal.BindingTableManager;
@@ -366,6 +368,37 @@ public class BindingTableTests {
 		assertEquals(about, it.next());
 	}
 
+	@Test
+	public void testManagerUpdatesLookupsAfterTableChanges() throws Exception {
+		BindingTableManager manager = ContextInjectionFactory.make(BindingTableManager.class,
+				EclipseContextFactory.create("testManagerUpdates"));
+		for (int i = 0; i < CONTEXTS.length; i += 3) {
+			manager.addTable(loadTable(CONTEXTS[i]));
+		}
+		ContextSet javaSet = createJavaSet(manager);
+		KeySequence ctrl5 = KeySequence.getInstance("CTRL+5");
+		KeySequence ctrl6 = KeySequence.getInstance("CTRL+6");
+		KeySequence ctrl6B = KeySequence.getInstance("CTRL+6 B");
+		assertTrue(manager.isPartialMatch(javaSet, ctrl5));
+		assertFalse(manager.isPartialMatch(javaSet, ctrl6));
+		assertNull(manager.getPerfectMatch(javaSet, ctrl6B));
+
+		Binding refresh = getTestBinding(REFRESH_ID);
+		Binding multiStroke = new KeyBinding(ctrl6B, refresh.getParameterizedCommand(),
+				"org.eclipse.ui.defaultAcceleratorConfiguration", ID_JAVA, null, null, null, Binding.SYSTEM);
+		BindingTable javaTable = manager.getTable(ID_JAVA);
+		javaTable.addBinding(multiStroke);
+		assertTrue(manager.isPartialMatch(javaSet, ctrl6));
+		assertFalse(manager.isPartialMatch(javaSet, ctrl6B));
+		assertEquals(multiStroke, manager.getPerfectMatch(javaSet, ctrl6B));
+		assertEquals(multiStroke, manager.getPerfectMatch(createJavaSet(manager), ctrl6B));
+
+		javaTable.removeBinding(multiStroke);
+		assertFalse(manager.isPartialMatch(javaSet, ctrl6));
+		assertNull(manager.getPerfectMatch(javaSet, ctrl6B));
+		assertTrue(manager.isPartialMatch(javaSet, ctrl5));
+	}
+
 	private BindingTable loadTable(String contextId) {
 		Context context = contextManager.getContext(contextId);
 		BindingTable table = new BindingTable(context);
@@ -14,11 +14,21 @@
 
 package org.eclipse.e4.ui.tests.workbench;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.eclipse.core.expressions.EvaluationResult;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionInfo;
+import org.eclipse.core.expressions.IEvaluationContext;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.e4.core.commands.ExpressionContext;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.internal.workbench.ContributionsAnalyzer;
+import org.eclipse.e4.ui.internal.workbench.ExpressionResultCache;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.model.application.ui.MImperativeExpression;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
@@ -53,4 +63,124 @@ public class ContributionsAnalyzerTest {
 
 		assertTrue(ContributionsAnalyzer.isVisible(exp, eContext));
 	}
+
+	@Test
+	public void testExpressionResultCacheReusesResultUntilVariableChanges() throws Exception {
+		CountingExpression expression = new CountingExpression("cacheTestVariable", false);
+		ExpressionResultCache cache = new ExpressionResultCache();
+		appContext.set("cacheTestVariable", Boolean.TRUE);
+
+		assertEquals(EvaluationResult.TRUE, cache.evaluate(expression, new ExpressionContext(appContext)));
+		assertEquals(EvaluationResult.TRUE, cache.evaluate(expression, new ExpressionContext(appContext)));
+		assertEquals(1, expression.evaluations);
+
+		appContext.set("cacheTestVariable", Boolean.FALSE);
+		assertEquals(EvaluationResult.FALSE, cache.evaluate(expression, new ExpressionContext(appContext)));
+		assertEquals(2, expression.evaluations);
+	}
+
+	@Test
+	public void testExpressionResultCacheWithPropertyTesterOnlyWithinPass() throws Exception {
+		CountingExpression expression = new CountingExpression("cacheTestVariable", true);
+		ExpressionResultCache cache = new ExpressionResultCache();
+		appContext.set("cacheTestVariable", Boolean.TRUE);
+
+		ExpressionContext pass = new ExpressionContext(appContext);
+		cache.evaluate(expression, pass);
+		cache.evaluate(expression, pass);
+		assertEquals(1, expression.evaluations);
+
+		cache.evaluate(expression, new ExpressionContext(appContext));
+		assertEquals(2, expression.evaluations);
+	}
+
+	@Test
+	public void testExpressionResultCacheDropsUnreferencedExpressions() throws Exception {
+		ExpressionResultCache cache = new ExpressionResultCache();
+		appContext.set("cacheTestVariable", Boolean.TRUE);
+		cache.evaluate(new CountingExpression("cacheTestVariable", false), new ExpressionContext(appContext));
+		assertEquals(1, cache.size());
+
+		for (int i = 0; i < 20 && cache.size() > 0; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testExpressionResultCacheDoesNotKeepNotLoaded() throws Exception {
+		CountingExpression expression = new CountingExpression("cacheTestVariable", false) {
+			@Override
+			public EvaluationResult evaluate(IEvaluationContext context) throws CoreException {
+				super.evaluate(context);
+				return EvaluationResult.NOT_LOADED;
+			}
+		};
+		ExpressionResultCache cache = new ExpressionResultCache();
+		appContext.set("cacheTestVariable", Boolean.TRUE);
+
+		assertEquals(EvaluationResult.NOT_LOADED, cache.evaluate(expression, new ExpressionContext(appContext)));
+		assertEquals(EvaluationResult.NOT_LOADED, cache.evaluate(expression, new ExpressionContext(appContext)));
+		assertEquals(2, expression.evaluations);
+	}
+
+	@Test
+	public void testExpressionResultCacheDoesNotKeepResolvedResults() throws Exception {
+		CountingExpression expression = new CountingExpression("cacheTestVariable", false) {
+			@Override
+			public EvaluationResult evaluate(IEvaluationContext context) throws CoreException {
+				context.resolveVariable("cacheTestResolvedVariable", new Object[0]);
+				return super.evaluate(context);
+			}
+		};
+		ExpressionResultCache cache = new ExpressionResultCache();
+		appContext.set("cacheTestVariable", Boolean.TRUE);
+
+		ExpressionContext pass = new ExpressionContext(appContext);
+		cache.evaluate(expression, pass);
+		cache.evaluate(expression, pass);
+		cache.evaluate(expression, new ExpressionContext(appContext));
+		assertEquals(3, expression.evaluations);
+	}
+
+	@Test
+	public void testExpressionResultCacheKeepsCollectionSizes() throws Exception {
+		CountingExpression expression = new CountingExpression("cacheTestVariable", false);
+		ExpressionResultCache cache = new ExpressionResultCache();
+		// a size outside of the cached Integer values
+		List<Object> elements = Collections.nCopies(1000, new Object());
+
+		appContext.set("cacheTestVariable", new ArrayList<>(elements));
+		cache.evaluate(expression, new ExpressionContext(appContext));
+		System.gc();
+		appContext.set("cacheTestVariable", new ArrayList<>(elements));
+		cache.evaluate(expression, new ExpressionContext(appContext));
+		assertEquals(1, expression.evaluations);
+	}
+
+	private static class CountingExpression extends Expression {
+		private final String variable;
+		private final boolean testsProperty;
+		int evaluations;
+
+		CountingExpression(String variable, boolean testsProperty) {
+			this.variable = variable;
+			this.testsProperty = testsProperty;
+		}
+
+		@Override
+		public EvaluationResult evaluate(IEvaluationContext context) throws CoreException {
+			evaluations++;
+			return EvaluationResult.valueOf(Boolean.TRUE.equals(context.getVariable(variable)));
+		}
+
+		@Override
+		public void collectExpressionInfo(ExpressionInfo info) {
+			info.addVariableNameAccess(variable);
+			if (testsProperty) {
+				info.addAccessedPropertyName("org.eclipse.e4.ui.tests.cacheTestProperty");
+			}
+		}
+	}
 }
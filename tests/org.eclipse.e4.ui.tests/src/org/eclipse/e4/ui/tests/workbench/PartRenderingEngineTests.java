@@ -25,6 +25,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeFalse;
 
 import jakarta.inject.Inject;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
@@ -55,6 +57,7 @@ import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.e4.ui.workbench.modeling.EPartService;
 import org.eclipse.e4.ui.workbench.modeling.EPartService.PartState;
 import org.eclipse.e4.ui.workbench.renderers.swt.StackRenderer;
+import org.eclipse.e4.ui.workbench.renderers.swt.TrimBarRenderer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.CTabFolder;
 import org.eclipse.swt.custom.CTabItem;
@@ -1775,6 +1778,39 @@ public class PartRenderingEngineTests {
 				impl.shellEagerlyDestroyed);
 	}
 
+	@Test
+	public void testDeferredHiddenTrimElementRenderedWhenShown() {
+		appContext.set(TrimBarRenderer.DEFER_HIDDEN_TRIM, Boolean.TRUE);
+
+		MTrimmedWindow window = ems.createModelElement(MTrimmedWindow.class);
+		application.getChildren().add(window);
+		application.setSelectedElement(window);
+
+		MTrimBar trimBar = ems.createModelElement(MTrimBar.class);
+		window.getTrimBars().add(trimBar);
+
+		MToolBar shownToolBar = ems.createModelElement(MToolBar.class);
+		trimBar.getChildren().add(shownToolBar);
+
+		MToolBar hiddenToolBar = ems.createModelElement(MToolBar.class);
+		hiddenToolBar.setVisible(false);
+		trimBar.getChildren().add(hiddenToolBar);
+
+		contextRule.createAndRunWorkbench(window);
+
+		assertNotNull(shownToolBar.getWidget());
+		assertNull("Hidden trim should only exist as model", hiddenToolBar.getWidget());
+
+		hiddenToolBar.setVisible(true);
+		assertNotNull(hiddenToolBar.getWidget());
+		Composite trimComposite = (Composite) trimBar.getWidget();
+		Control shownControl = (Control) shownToolBar.getWidget();
+		Control hiddenControl = (Control) hiddenToolBar.getWidget();
+		assertEquals(trimComposite, hiddenControl.getParent());
+		List<Control> children = Arrays.asList(trimComposite.getChildren());
+		assertTrue(children.indexOf(shownControl) < children.indexOf(hiddenControl));
+	}
+
 	@Test
 	public void testBug330662() {
 		MWindow window = ems.createModelElement(MWindow.class);
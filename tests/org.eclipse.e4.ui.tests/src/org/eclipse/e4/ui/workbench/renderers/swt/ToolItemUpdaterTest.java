@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.workbench.renderers.swt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.e4.ui.model.application.ui.menu.MDirectToolItem;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenuFactory;
+import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ToolItemUpdaterTest {
+
+	private ToolItemUpdater updater;
+	private CountingContributionItem item;
+
+	@Before
+	public void setUp() {
+		MToolBar toolBar = MMenuFactory.INSTANCE.createToolBar();
+		MDirectToolItem toolItem = MMenuFactory.INSTANCE.createDirectToolItem();
+		toolBar.getChildren().add(toolItem);
+
+		updater = new ToolItemUpdater();
+		item = new CountingContributionItem();
+		item.setModel(toolItem);
+		updater.registerItem(item);
+	}
+
+	@Test
+	public void testRequestsAreDebounced() {
+		// requests queued before the pending evaluation ran are evaluated together
+		updater.updateContributionItems(e -> true);
+		updater.updateContributionItems(e -> true);
+		updater.updateContributionItems(e -> true);
+
+		Display display = Display.getDefault();
+		assertTrue(DisplayHelper.waitForCondition(display, 10000, () -> item.evaluations > 0));
+		DisplayHelper.sleep(display, 300);
+		assertEquals(1, item.evaluations);
+	}
+
+	@Test
+	public void testContinuousRequestsAreFlushed() {
+		// requests arriving faster than the delay must not starve the evaluation
+		Display display = Display.getDefault();
+		long start = System.currentTimeMillis();
+		while (item.evaluations == 0 && System.currentTimeMillis() - start < 10000) {
+			updater.updateContributionItems(e -> true);
+			DisplayHelper.sleep(display, 10);
+		}
+		assertEquals(1, item.evaluations);
+	}
+
+	@Test
+	public void testUnselectedItemsAreNotEvaluated() {
+		updater.updateContributionItems(e -> false);
+		DisplayHelper.sleep(Display.getDefault(), 300);
+		assertEquals(0, item.evaluations);
+	}
+
+	private static class CountingContributionItem extends DirectContributionItem {
+		int evaluations;
+
+		@Override
+		protected void updateItemEnablement() {
+			evaluations++;
+		}
+	}
+}
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jface.text.tests.contentassist;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -21,6 +22,7 @@ import static org.junit.Assume.assumeFalse;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -104,6 +106,22 @@ public class AsyncContentAssistTest {
 		assertNull(errorStatus);
 	}
 
+	@Test
+	public void testHideCancelsComputation() throws InterruptedException {
+		SourceViewer viewer= new SourceViewer(shell, null, SWT.NONE);
+		Document document= new Document("a");
+		viewer.setDocument(document);
+		ContentAssistant contentAssistant= new ContentAssistant(true);
+		BlockingContentAssistProcessor processor= new BlockingContentAssistProcessor();
+		contentAssistant.addContentAssistProcessor(processor, IDocument.DEFAULT_CONTENT_TYPE);
+		contentAssistant.install(viewer);
+		contentAssistant.showPossibleCompletions();
+		assertTrue("Computation not started", processor.started.await(5, TimeUnit.SECONDS));
+		contentAssistant.uninstall();
+		assertTrue("Computation not canceled", processor.canceled.await(5, TimeUnit.SECONDS));
+		assertFalse("Computation interrupted", processor.interrupted);
+	}
+
 	@Test
 	public void testCompletePrefix() {
 		shell.setLayout(new FillLayout());
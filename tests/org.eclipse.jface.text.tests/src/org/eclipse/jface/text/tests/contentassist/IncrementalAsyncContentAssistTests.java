@@ -12,8 +12,10 @@ package org.eclipse.jface.text.tests.contentassist;
 
 import static org.junit.Assert.assertEquals;
 
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.After;
@@ -22,6 +24,7 @@ import org.junit.Test;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
 
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
@@ -106,6 +109,71 @@ public class IncrementalAsyncContentAssistTests {
 		assertEquals(Arrays.asList("testA", "testB", "testC"), filteredProposals);
 	}
 
+	@Test
+	public void testIncrementalCompleteManyProposals() throws Exception {
+		String[] templates= createManyTemplates();
+		completeManyProposals(templates);
+
+		List<String> filteredProposals= FilteringAsyncContentAssistTests.getFilteredProposals(ca).stream()
+				.map(ICompletionProposal::getDisplayString)
+				.toList();
+		List<String> sortedTemplates= Arrays.stream(templates).sorted().toList();
+		assertEquals(templates.length, filteredProposals.size());
+		assertEquals(sortedTemplates.subList(0, 20), filteredProposals.subList(0, 20));
+		assertEquals(new HashSet<>(sortedTemplates), new HashSet<>(filteredProposals));
+	}
+
+	@Test
+	public void testShowProposalBeyondFirstSortedPage() throws Exception {
+		String[] templates= createManyTemplates();
+		completeManyProposals(templates);
+
+		// only the first page is sorted up front, showing a later item sorts the rest
+		List<String> sortedTemplates= Arrays.stream(templates).sorted().toList();
+		Table table= getProposalTable(ca);
+		assertEquals(templates.length, table.getItemCount());
+		assertEquals(sortedTemplates.get(500), table.getItem(500).getText());
+
+		List<String> filteredProposals= FilteringAsyncContentAssistTests.getFilteredProposals(ca).stream()
+				.map(ICompletionProposal::getDisplayString)
+				.toList();
+		assertEquals(sortedTemplates, filteredProposals);
+	}
+
+	private static String[] createManyTemplates() {
+		String[] templates= new String[1000];
+		for (int i= 0; i < templates.length; i++) {
+			templates[i]= String.format("test%04d", (i * 7919) % templates.length);
+		}
+		return templates;
+	}
+
+	private void completeManyProposals(String[] templates) {
+		ca.addContentAssistProcessor(new FilteringAsyncContentAssistTests.ImmediateContentAssistProcessor(templates), IDocument.DEFAULT_CONTENT_TYPE);
+
+		viewer.getDocument().set("t");
+
+		ca.install(viewer);
+		viewer.setSelectedRange(1, 0);
+
+		ca.completePrefix();
+
+		DisplayHelper.sleep(shell.getDisplay(), 300);
+	}
+
+	private static Table getProposalTable(ContentAssistant ca) throws Exception {
+		Field popupField= ContentAssistant.class.getDeclaredField("fProposalPopup");
+		popupField.setAccessible(true);
+		Object popup= popupField.get(ca);
+		Class<?> popupClass= popup.getClass();
+		while (!"CompletionProposalPopup".equals(popupClass.getSimpleName())) {
+			popupClass= popupClass.getSuperclass();
+		}
+		Field tableField= popupClass.getDeclaredField("fProposalTable");
+		tableField.setAccessible(true);
+		return (Table) tableField.get(popup);
+	}
+
 	@Test
 	public void testIncrementalCompleteOfSingleProposal() throws Exception {
 		ca.enableAutoInsert(true);
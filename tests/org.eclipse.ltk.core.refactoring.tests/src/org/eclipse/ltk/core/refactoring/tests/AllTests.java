@@ -25,6 +25,7 @@ import org.eclipse.ltk.core.refactoring.tests.scripting.RefactoringScriptingTest
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	RefactoringContextTest.class,
+	CompositeChangeTests.class,
 	ParticipantTests.class,
 	RefactoringHistoryTests.class,
 	RefactoringScriptingTests.class,
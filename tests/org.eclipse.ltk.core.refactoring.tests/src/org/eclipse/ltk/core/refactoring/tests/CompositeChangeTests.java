@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+
+import org.eclipse.text.edits.ReplaceEdit;
+
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+
+public class CompositeChangeTests {
+
+	private static final int FILE_COUNT= 200;
+
+	private SimpleTestProject fProject;
+
+	private IFile[] fFiles;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+		IFolder folder= fProject.createFolder("test");
+		fFiles= new IFile[FILE_COUNT];
+		for (int i= 0; i < FILE_COUNT; i++) {
+			fFiles[i]= fProject.createFile(folder, "file" + i + ".txt", "section one");
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete();
+	}
+
+	private CompositeChange createChange() {
+		CompositeChange change= new CompositeChange("rename");
+		for (IFile file : fFiles) {
+			TextFileChange fileChange= new TextFileChange(file.getName(), file);
+			fileChange.setEdit(new ReplaceEdit(8, 3, "two"));
+			change.add(fileChange);
+		}
+		change.initializeValidationData(new NullProgressMonitor());
+		return change;
+	}
+
+	@Test
+	public void testValidateAndPerform() throws Exception {
+		CompositeChange change= createChange();
+		RefactoringStatus status= change.isValid(new NullProgressMonitor());
+		assertTrue(status.toString(), status.isOK());
+
+		change.perform(new NullProgressMonitor());
+		for (IFile file : fFiles) {
+			assertEquals("section two", fProject.getContent(file));
+		}
+	}
+
+	@Test
+	public void testValidateModifiedFile() throws Exception {
+		CompositeChange change= createChange();
+		fFiles[FILE_COUNT / 2].setContents(new ByteArrayInputStream("section three".getBytes()), true, false, null);
+
+		RefactoringStatus status= change.isValid(new NullProgressMonitor());
+		assertTrue(status.hasFatalError());
+		assertEquals(1, status.getEntries().length);
+	}
+}
@@ -176,9 +176,13 @@ public class RefactoringHistoryServiceTests {
 	}
 
 	private RefactoringDescriptor executeRefactoring(String project, int index, int flags) throws CoreException {
+		return executeRefactoring(project, index, flags, (index + 1) * RefactoringHistoryServiceTests.STAMP_FACTOR);
+	}
+
+	private RefactoringDescriptor executeRefactoring(String project, int index, int flags, long stamp) throws CoreException {
 		RefactoringHistoryService service= RefactoringHistoryService.getInstance();
 		try {
-			service.setOverrideTimeStamp((index + 1) * RefactoringHistoryServiceTests.STAMP_FACTOR);
+			service.setOverrideTimeStamp(stamp);
 			MockRefactoring refactoring= new MockRefactoring(project, "A mock description number " + index, "A mock comment number " + index, Collections.<String, String> emptyMap(), flags);
 			RefactoringDescriptor descriptor= refactoring.createRefactoringDescriptor();
 			PerformRefactoringOperation operation= new PerformRefactoringOperation(refactoring, CheckConditionsOperation.ALL_CONDITIONS);
@@ -582,6 +586,27 @@ public class RefactoringHistoryServiceTests {
 		assertEquals("Refactoring history has wrong size", 0, proxies.length);
 	}
 
+	@Test
+	public void testReadProjectHistory7() throws Exception {
+		final String name= fProject.getProject().getName();
+		final long day= 24L * 60 * 60 * 1000;
+		final long[] stamps= { 400 * day, 420 * day, 800 * day, 830 * day };
+		for (int index= 0; index < stamps.length; index++)
+			executeRefactoring(name, TOTAL_PROJECT_NUMBER + index, RefactoringDescriptor.NONE, stamps[index]);
+		final RefactoringHistoryService service= RefactoringHistoryService.getInstance();
+		RefactoringHistory history= service.getProjectHistory(fProject.getProject(), 0, Long.MAX_VALUE, RefactoringDescriptor.NONE, null);
+		assertEquals("Refactoring history has wrong size", TOTAL_PROJECT_NUMBER + stamps.length, history.getDescriptors().length);
+		history= service.getProjectHistory(fProject.getProject(), 410 * day, 810 * day, RefactoringDescriptor.NONE, null);
+		RefactoringDescriptorProxy[] proxies= history.getDescriptors();
+		assertEquals("Refactoring history has wrong size", 2, proxies.length);
+		history= service.getProjectHistory(fProject.getProject(), 801 * day, 829 * day, RefactoringDescriptor.NONE, null);
+		assertTrue("Refactoring history should  be empty", history.isEmpty());
+
+		service.deleteRefactoringDescriptors(new RefactoringDescriptorProxy[] { proxies[0] }, null);
+		history= service.getProjectHistory(fProject.getProject(), 410 * day, 810 * day, RefactoringDescriptor.NONE, null);
+		assertEquals("Refactoring history has wrong size", 1, history.getDescriptors().length);
+	}
+
 	@Test
 	public void testReadRefactoringHistory0() throws Exception {
 		setUpWorkspaceRefactorings();
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link UiThreadProfile} class.
+ */
+public class UiThreadProfileTests {
+
+	private static StackTraceElement[] stack(String... methods) {
+		StackTraceElement[] stackTrace = new StackTraceElement[methods.length];
+		for (int i = 0; i < methods.length; i++) {
+			stackTrace[i] = new StackTraceElement("Test", methods[i], null, -1);
+		}
+		return stackTrace;
+	}
+
+	private static String write(UiThreadProfile profile) throws IOException {
+		StringBuilder buf = new StringBuilder();
+		profile.writeCollapsedStacks(buf);
+		return buf.toString();
+	}
+
+	@Test
+	public void testCollapsedStacks() throws Exception {
+		UiThreadProfile profile = new UiThreadProfile(10);
+		profile.addSample(stack("leaf", "main"));
+		profile.addSample(stack("other", "main"));
+		profile.addSample(stack("leaf", "main"));
+		assertEquals(3, profile.getSampleCount());
+		assertEquals("Test.main;Test.leaf 2\nTest.main;Test.other 1\n", write(profile));
+	}
+
+	@Test
+	public void testOldestSamplesEvicted() throws Exception {
+		UiThreadProfile profile = new UiThreadProfile(2);
+		profile.addSample(stack("a"));
+		profile.addSample(stack("b"));
+		profile.addSample(stack("b"));
+		assertEquals(2, profile.getSampleCount());
+		assertEquals("Test.b 2\n", write(profile));
+		profile.addSample(stack("c"));
+		assertEquals("Test.b 1\nTest.c 1\n", write(profile));
+	}
+
+	@Test
+	public void testClear() throws Exception {
+		UiThreadProfile profile = new UiThreadProfile(2);
+		profile.addSample(stack("a"));
+		profile.clear();
+		assertEquals(0, profile.getSampleCount());
+		assertEquals("", write(profile));
+		profile.addSample(stack("b"));
+		assertEquals("Test.b 1\n", write(profile));
+	}
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.tests.navigator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.ui.navigator.CommonViewer;
+import org.eclipse.ui.progress.PendingUpdateAdapter;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.tests.navigator.extension.TestAsyncChildrenContentProvider;
+import org.eclipse.ui.tests.navigator.extension.TestAsyncChildrenContentProvider.Node;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the computation of children in the background by a
+ * {@link CommonViewer} configured with the
+ * <code>org.eclipse.ui.navigator.asyncChildren</code> property.
+ */
+public class AsyncChildrenTest {
+
+	private Display display;
+	private Shell shell;
+	private CommonViewer viewer;
+	private Tree tree;
+
+	@Before
+	public void setUp() {
+		TestAsyncChildrenContentProvider.reset();
+		display = Display.getCurrent();
+		shell = new Shell(display);
+		viewer = new CommonViewer(NavigatorTestBase.TEST_VIEWER_ASYNC_CHILDREN, shell, SWT.NONE);
+		tree = viewer.getTree();
+		shell.open();
+		viewer.setInput(new Node("root", null));
+		assertEquals(3, tree.getItemCount());
+	}
+
+	@After
+	public void tearDown() {
+		CountDownLatch gate = TestAsyncChildrenContentProvider.gate;
+		if (gate != null) {
+			gate.countDown();
+		}
+		shell.dispose();
+		Job.getJobManager().cancel(viewer);
+		TestAsyncChildrenContentProvider.reset();
+	}
+
+	@Test
+	public void testPlaceholderUntilChildrenComputed() {
+		CountDownLatch gate = new CountDownLatch(1);
+		TestAsyncChildrenContentProvider.gate = gate;
+		TreeItem item = tree.getItem(0);
+		expand(item);
+
+		assertEquals(1, item.getItemCount());
+		assertTrue(item.getItem(0).getData() instanceof PendingUpdateAdapter);
+		assertNull(TestAsyncChildrenContentProvider.uiFetches.get("root/0"));
+
+		gate.countDown();
+		waitForChildren(item, 3);
+		assertEquals("root/0/0", item.getItem(0).getData().toString());
+		assertEquals(1, TestAsyncChildrenContentProvider.backgroundFetches.get("root/0").get());
+		assertNull(TestAsyncChildrenContentProvider.uiFetches.get("root/0"));
+	}
+
+	@Test
+	public void testManyChildrenDeliveredInChunks() throws Exception {
+		TestAsyncChildrenContentProvider.childCount = 1200;
+		TreeItem item = tree.getItem(0);
+		expand(item);
+
+		Set<Integer> counts = new TreeSet<>();
+		long timeout = System.currentTimeMillis() + 10000;
+		while (!isFetched(item, 1200) && System.currentTimeMillis() < timeout) {
+			// Dispatch one runnable at a time to observe the intermediate
+			// states
+			if (!display.readAndDispatch()) {
+				Thread.sleep(5);
+			}
+			counts.add(item.getItemCount());
+		}
+		assertTrue(isFetched(item, 1200));
+		assertTrue("The children were not delivered in chunks: " + counts,
+				counts.stream().anyMatch(count -> count > 1 && count < 1200));
+		assertEquals("root/0/1199", item.getItem(1199).getData().toString());
+	}
+
+	@Test
+	public void testCollapseCancelsComputation() {
+		CountDownLatch gate = new CountDownLatch(1);
+		TestAsyncChildrenContentProvider.gate = gate;
+		TreeItem item = tree.getItem(0);
+		expand(item);
+		assertTrue(item.getItem(0).getData() instanceof PendingUpdateAdapter);
+
+		collapse(item);
+		assertEquals(1, item.getItemCount());
+		assertNull(item.getItem(0).getData());
+
+		gate.countDown();
+		assertTrue(DisplayHelper.waitForCondition(display, 10000, () -> Job.getJobManager().find(viewer).length == 0));
+		DisplayHelper.runEventLoop(display, 0);
+		assertFalse(item.getExpanded());
+		assertEquals(1, item.getItemCount());
+		assertNull(item.getItem(0).getData());
+
+		// The children are computed again on the next expansion
+		TestAsyncChildrenContentProvider.gate = null;
+		expand(item);
+		waitForChildren(item, 3);
+		assertEquals(2, TestAsyncChildrenContentProvider.backgroundFetches.get("root/0").get());
+	}
+
+	@Test
+	public void testRefreshComputesDescendantsSynchronously() {
+		TreeItem item = tree.getItem(0);
+		expand(item);
+		waitForChildren(item, 3);
+		TreeItem child = item.getItem(0);
+		expand(child);
+		waitForChildren(child, 3);
+		TestAsyncChildrenContentProvider.backgroundFetches.clear();
+		TestAsyncChildrenContentProvider.uiFetches.clear();
+
+		viewer.refresh(item.getData());
+		assertTrue(DisplayHelper.waitForCondition(display, 10000,
+				() -> Job.getJobManager().find(viewer).length == 0
+						&& TestAsyncChildrenContentProvider.backgroundFetches.containsKey("root/0")));
+		DisplayHelper.runEventLoop(display, 0);
+
+		assertEquals(1, TestAsyncChildrenContentProvider.backgroundFetches.get("root/0").get());
+		assertNull(TestAsyncChildrenContentProvider.backgroundFetches.get("root/0/0"));
+		assertTrue(TestAsyncChildrenContentProvider.uiFetches.containsKey("root/0/0"));
+		assertEquals(0, Job.getJobManager().find(viewer).length);
+		assertTrue(child.getExpanded());
+		assertEquals(3, child.getItemCount());
+	}
+
+	private void expand(TreeItem item) {
+		Event event = new Event();
+		event.item = item;
+		tree.notifyListeners(SWT.Expand, event);
+		item.setExpanded(true);
+	}
+
+	private void collapse(TreeItem item) {
+		Event event = new Event();
+		event.item = item;
+		tree.notifyListeners(SWT.Collapse, event);
+		item.setExpanded(false);
+	}
+
+	private void waitForChildren(TreeItem item, int count) {
+		assertTrue(DisplayHelper.waitForCondition(display, 10000, () -> isFetched(item, count)));
+	}
+
+	private boolean isFetched(TreeItem item, int count) {
+		if (Job.getJobManager().find(viewer).length > 0 || item.getItemCount() != count) {
+			return false;
+		}
+		for (TreeItem child : item.getItems()) {
+			if (!(child.getData() instanceof Node)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -76,6 +76,7 @@ public class NavigatorTestBase {
 	public static final String TEST_VIEWER_INITIAL_ACTIVATION = "org.eclipse.ui.tests.navigator.InitialActivationView";
 	public static final String TEST_VIEWER_LINK_HELPER = "org.eclipse.ui.tests.navigator.TestLinkHelperView";
 	public static final String TEST_VIEWER_SHOW_IN = "org.eclipse.ui.tests.navigator.TestShowInView";
+	public static final String TEST_VIEWER_ASYNC_CHILDREN = "org.eclipse.ui.tests.navigator.AsyncChildrenTestViewer";
 
 	public static final String TEST_VIEW_NON_COMMONVIEWER = "org.eclipse.ui.tests.navigator.NonCommonViewerTestView";
 
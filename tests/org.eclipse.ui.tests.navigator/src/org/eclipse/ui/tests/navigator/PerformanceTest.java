@@ -23,6 +23,7 @@ import java.io.ByteArrayInputStream;
 import java.text.DecimalFormat;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -31,6 +32,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.navigator.ICommonViewerMapper;
 import org.eclipse.ui.navigator.resources.ProjectExplorer;
@@ -336,4 +338,36 @@ public class PerformanceTest extends NavigatorTestBase {
 		assertTrue(createMappedTime < createUnMappedTime);
 	}
 
+	// Expanding a large tree evaluates the trigger points of all content
+	// extensions for every resource
+	@Test
+	public void testExpandLargeTree() throws Exception {
+		final int numFolders = 100;
+		final int filesPerFolder = 1000;
+		final IProject p1 = ResourcesPlugin.getWorkspace().getRoot().getProject("large");
+
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			p1.create(null);
+			p1.open(null);
+			for (int i = 0; i < numFolders; i++) {
+				IFolder folder = p1.getFolder("d" + _df.format(i));
+				folder.create(true, true, null);
+				for (int j = 0; j < filesPerFolder; j++) {
+					folder.getFile("f" + j).create(new ByteArrayInputStream(new byte[] {}), true, null);
+				}
+			}
+		}, null);
+		DisplayHelper.runEventLoop(Display.getCurrent(), 10);
+		_viewer.collapseAll();
+
+		long start = System.currentTimeMillis();
+		_viewer.expandAll();
+		System.out.println("Expand " + numFolders * filesPerFolder + " resources Time: "
+				+ (System.currentTimeMillis() - start));
+
+		// The folders and the .project file
+		assertEquals(numFolders + 1, ((TreeItem) _viewer.testFindItem(p1)).getItemCount());
+		p1.delete(true, null);
+	}
+
 }
\ No newline at end of file
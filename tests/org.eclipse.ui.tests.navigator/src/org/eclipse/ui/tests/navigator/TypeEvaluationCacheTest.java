@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.tests.navigator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.expressions.ElementHandler;
+import org.eclipse.core.expressions.Expression;
+import org.eclipse.core.expressions.ExpressionConverter;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.ui.internal.navigator.extensions.NavigatorContentDescriptor;
+import org.eclipse.ui.internal.navigator.extensions.NavigatorContentDescriptorManager;
+import org.eclipse.ui.internal.navigator.extensions.TypeEvaluationCache;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link TypeEvaluationCache} is only used for expressions which
+ * depend on the type of the element alone.
+ */
+public class TypeEvaluationCacheTest extends NavigatorTestBase {
+
+	public TypeEvaluationCacheTest() {
+		_navigatorInstanceId = TEST_VIEWER;
+	}
+
+	private static IConfigurationElement getExpressionElement(String descriptorId, String tag) {
+		NavigatorContentDescriptor descriptor = NavigatorContentDescriptorManager.getInstance()
+				.getContentDescriptor(descriptorId);
+		return descriptor.getConfigElement().getChildren(tag)[0];
+	}
+
+	@Test
+	public void testInstanceofExpressionIsCachedPerType() throws Exception {
+		IConfigurationElement element = getExpressionElement(COMMON_NAVIGATOR_RESOURCE_EXT, "enablement");
+		TypeEvaluationCache cache = TypeEvaluationCache.forExpression(element);
+		assertNotNull(cache);
+
+		Expression expression = ElementHandler.getDefault().create(ExpressionConverter.getDefault(), element);
+		assertTrue(cache.evaluate(expression, _project.getFolder("src")));
+		assertTrue(cache.evaluate(expression, _project.getFolder("bin")));
+		assertTrue(cache.evaluate(expression, _project));
+		assertFalse(cache.evaluate(expression, "src"));
+		assertEquals("One result per type", 3, cache.size());
+	}
+
+	@Test
+	public void testWithExpressionIsNotCached() {
+		assertNull(TypeEvaluationCache.forExpression(getExpressionElement(TEST_CONTENT_WITH, "triggerPoints")));
+	}
+
+	@Test
+	public void testPropertyTestIsNotCached() {
+		assertNull(TypeEvaluationCache
+				.forExpression(getExpressionElement("org.eclipse.ui.tests.navigator.testContentHasChildren",
+						"triggerPoints")));
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.tests.navigator.extension;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Provides a tree of {@link Node}s and records on which thread the children of
+ * each node were computed. Computations outside of the UI thread wait for the
+ * {@link #gate}, if set.
+ */
+public class TestAsyncChildrenContentProvider extends LabelProvider implements ITreeContentProvider {
+
+	public static volatile int childCount = 3;
+
+	public static volatile CountDownLatch gate;
+
+	public static final Map<String, AtomicInteger> backgroundFetches = new ConcurrentHashMap<>();
+
+	public static final Map<String, AtomicInteger> uiFetches = new ConcurrentHashMap<>();
+
+	public static final class Node {
+		public final String name;
+		public final Node parent;
+
+		public Node(String name, Node parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Node node && node.name.equals(name);
+		}
+
+		@Override
+		public int hashCode() {
+			return name.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	public static void reset() {
+		childCount = 3;
+		gate = null;
+		backgroundFetches.clear();
+		uiFetches.clear();
+	}
+
+	@Override
+	public Object[] getElements(Object inputElement) {
+		return getChildren(inputElement);
+	}
+
+	@Override
+	public Object[] getChildren(Object parentElement) {
+		if (!(parentElement instanceof Node parent)) {
+			return new Object[0];
+		}
+		if (Display.getCurrent() != null) {
+			uiFetches.computeIfAbsent(parent.name, n -> new AtomicInteger()).incrementAndGet();
+		} else {
+			backgroundFetches.computeIfAbsent(parent.name, n -> new AtomicInteger()).incrementAndGet();
+			CountDownLatch currentGate = gate;
+			if (currentGate != null) {
+				try {
+					currentGate.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		int count = parent.parent == null ? 3 : childCount;
+		Object[] children = new Object[count];
+		for (int i = 0; i < count; i++) {
+			children[i] = new Node(parent.name + "/" + i, parent);
+		}
+		return children;
+	}
+
+	@Override
+	public Object getParent(Object element) {
+		return element instanceof Node node ? node.parent : null;
+	}
+
+	@Override
+	public boolean hasChildren(Object element) {
+		return element instanceof Node;
+	}
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.tests.navigator.resources;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.internal.navigator.resources.workbench.ResourceExtensionContentProvider;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResourceExtensionContentProviderTest {
+
+	private static final int FOLDERS = 200;
+
+	private final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+	private IProject project;
+	private Shell shell;
+
+	@Before
+	public void setUp() throws CoreException {
+		project = workspace.getRoot().getProject("ResourceExtensionContentProviderTest");
+		project.create(null);
+		project.open(null);
+		workspace.run(monitor -> {
+			for (int i = 0; i < FOLDERS; i++) {
+				project.getFolder("a" + i).create(true, true, monitor);
+				project.getFolder("a" + i + "/b" + i).create(true, true, monitor);
+			}
+		}, null);
+		shell = new Shell(Display.getCurrent());
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		shell.dispose();
+		project.delete(true, true, null);
+	}
+
+	@Test
+	public void testManyRefreshesCollapsedToProject() throws CoreException {
+		List<Object> refreshed = new ArrayList<>();
+		TreeViewer viewer = new TreeViewer(shell) {
+			@Override
+			public void refresh(Object element) {
+				refreshed.add(element);
+				super.refresh(element);
+			}
+		};
+		viewer.setContentProvider(new ResourceExtensionContentProvider());
+		viewer.setInput(workspace.getRoot());
+
+		// More additions than are applied one by one, in 200 distinct folders
+		workspace.run(monitor -> {
+			for (int i = 0; i < FOLDERS; i++) {
+				for (int j = 0; j < 6; j++) {
+					project.getFile("a" + i + "/b" + i + "/f" + j).create(new ByteArrayInputStream(new byte[0]), true,
+							monitor);
+				}
+			}
+		}, null);
+		assertTrue(DisplayHelper.waitForCondition(shell.getDisplay(), 2000, () -> !refreshed.isEmpty()));
+
+		assertEquals(List.of(project), refreshed);
+	}
+}
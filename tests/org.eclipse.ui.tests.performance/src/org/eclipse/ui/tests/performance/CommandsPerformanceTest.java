@@ -455,6 +455,47 @@ public final class CommandsPerformanceTest extends BasicPerformanceTest {
 		assertPerformance();
 	}
 
+	/**
+	 * <p>
+	 * Tests how long it takes to switch between sets of active contexts which
+	 * are not in the cache, as happens when switching between parts. Each
+	 * switch deactivates the deepest remaining context of the tree, so every
+	 * look-up is a cache miss which is solved incrementally from the previous
+	 * solution.
+	 * </p>
+	 *
+	 * @throws ParseException
+	 *             If "CTRL+F" can't be parsed for some strange reason.
+	 */
+	public final void testBindingCacheMissIncremental() throws ParseException {
+		// Constants
+		final KeySequence keySequence = KeySequence.getInstance("CTRL+F");
+
+		// Compute once for the full context tree.
+		final int contextCount = contextManager.getActiveContextIds().size();
+		bindingManager.getPartialMatches(keySequence);
+
+		// Build the context sets, from the deepest to the shallowest tree.
+		final List<Set<?>> contextSets = new ArrayList<>();
+		final List<String> contextIds = new ArrayList<>();
+		for (int i = 0; i < contextCount; i++) {
+			contextIds.add("context" + i);
+		}
+		for (int i = contextIds.size() - 1; i > 0; i--) {
+			contextSets.add(new HashSet<>(contextIds.subList(0, i)));
+		}
+
+		// Time how long it takes to solve each new context set.
+		startMeasuring();
+		for (final Set<?> contextSet : contextSets) {
+			contextManager.setActiveContextIds(contextSet);
+			bindingManager.getPartialMatches(keySequence);
+		}
+		stopMeasuring();
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	/**
 	 * <p>
 	 * Tests how long it takes to do a full computation (i.e., a cache miss) on
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.DecorationContext;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.decorators.DecorationResult;
+import org.eclipse.ui.internal.decorators.DecorationResultCache;
+import org.eclipse.ui.internal.decorators.DecoratorManager;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.Test;
+
+/**
+ * Tests the bounds, invalidation and counters of the decoration result cache,
+ * and that the decoration scheduler keeps results until they are invalidated.
+ */
+public class DecorationResultCacheTest {
+
+	private final DecorationContext otherContext = new DecorationContext();
+
+	private DecorationResult newResult(Object element) {
+		return WorkbenchPlugin.getDefault().getDecoratorManager().getLightweightManager()
+				.getDecorationResult(element);
+	}
+
+	private long weightOfOne() {
+		DecorationResultCache cache = new DecorationResultCache(Long.MAX_VALUE);
+		cache.put("a", DecorationContext.DEFAULT_CONTEXT, newResult("a"));
+		return cache.getWeight();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedElementIsEvicted() {
+		DecorationResultCache cache = new DecorationResultCache(2 * weightOfOne());
+		cache.put("a", DecorationContext.DEFAULT_CONTEXT, newResult("a"));
+		cache.put("b", DecorationContext.DEFAULT_CONTEXT, newResult("b"));
+		assertNotNull(cache.get("a", DecorationContext.DEFAULT_CONTEXT));
+		cache.put("c", DecorationContext.DEFAULT_CONTEXT, newResult("c"));
+
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertNull("b was used least recently", cache.get("b", DecorationContext.DEFAULT_CONTEXT));
+		assertNotNull(cache.get("a", DecorationContext.DEFAULT_CONTEXT));
+		assertNotNull(cache.get("c", DecorationContext.DEFAULT_CONTEXT));
+	}
+
+	@Test
+	public void testResultLargerThanBoundIsKept() {
+		DecorationResultCache cache = new DecorationResultCache(1);
+		DecorationResult result = newResult("a");
+		cache.put("a", DecorationContext.DEFAULT_CONTEXT, result);
+		assertSame(result, cache.get("a", DecorationContext.DEFAULT_CONTEXT));
+	}
+
+	@Test
+	public void testInvalidateRemovesAllContextsOfElement() {
+		DecorationResultCache cache = new DecorationResultCache(Long.MAX_VALUE);
+		cache.put("a", DecorationContext.DEFAULT_CONTEXT, newResult("a"));
+		cache.put("a", otherContext, newResult("a"));
+		cache.put("b", DecorationContext.DEFAULT_CONTEXT, newResult("b"));
+		long weightOfB = weightOfOne();
+
+		cache.invalidate("a");
+
+		assertNull(cache.get("a", DecorationContext.DEFAULT_CONTEXT));
+		assertNull(cache.get("a", otherContext));
+		assertNotNull(cache.get("b", DecorationContext.DEFAULT_CONTEXT));
+		assertEquals(weightOfB, cache.getWeight());
+	}
+
+	@Test
+	public void testHitsAndMissesAreCounted() {
+		DecorationResultCache cache = new DecorationResultCache(Long.MAX_VALUE);
+		cache.put("a", DecorationContext.DEFAULT_CONTEXT, newResult("a"));
+		cache.get("a", DecorationContext.DEFAULT_CONTEXT);
+		cache.get("a", otherContext);
+		cache.get("b", DecorationContext.DEFAULT_CONTEXT);
+
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	public void testResultSurvivesUpdateRoundUntilInvalidated() throws Exception {
+		DecoratorManager manager = WorkbenchPlugin.getDefault().getDecoratorManager();
+		Object scheduler = getField(manager, "scheduler");
+		DecorationResultCache cache = (DecorationResultCache) getField(scheduler, "resultCache");
+		Object element = new Object();
+
+		// a forced decoration caches a result even if no decorator applies
+		manager.labelProviderChanged(new LabelProviderChangedEvent(manager, element));
+		assertTrue("Decoration update round not finished",
+				DisplayHelper.waitForCondition(Display.getCurrent(), 30_000,
+						() -> cache.get(element, DecorationContext.DEFAULT_CONTEXT) != null
+								&& Job.getJobManager().find(DecoratorManager.FAMILY_DECORATE).length == 0));
+		assertNotNull("Result dropped by the update round", cache.get(element, DecorationContext.DEFAULT_CONTEXT));
+
+		Method invalidate = scheduler.getClass().getDeclaredMethod("invalidateResults", Object[].class);
+		invalidate.setAccessible(true);
+		invalidate.invoke(scheduler, (Object) new Object[] { element });
+		assertNull("Result kept after invalidation", cache.get(element, DecorationContext.DEFAULT_CONTEXT));
+	}
+
+	private static Object getField(Object object, String name) throws ReflectiveOperationException {
+		Field field = object.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(object);
+	}
+}
@@ -12,6 +12,8 @@ package org.eclipse.ui.tests.dialogs;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.lang.reflect.Field;
+import java.util.List;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -19,10 +21,15 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.dialogs.FilteredItemsSelectionDialog;
 import org.eclipse.ui.dialogs.FilteredResourcesSelectionDialog;
+import org.eclipse.ui.internal.ide.dialogs.ResourceNameIndex;
 import org.eclipse.ui.tests.harness.util.DisplayHelper;
 import org.junit.After;
 import org.junit.Assert;
@@ -69,6 +76,119 @@ public class ResourceSelectionFilteringDialogTest {
 		}
 	}
 
+	@Test
+	public void testMatchAfterRename() throws CoreException {
+		IFile file = project.getFile("before.txt");
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		SeeThroughFilteredResourcesSelectionDialog dialog = createDialog();
+		try {
+			dialog.setInitialPattern("before.txt");
+			dialog.open();
+			dialog.refresh();
+			Assert.assertTrue(DisplayHelper.waitForCondition(dialog.getShell().getDisplay(), 3000,
+					() -> file.equals(dialog.getSelectedItems().getFirstElement())));
+		} finally {
+			dialog.close();
+		}
+
+		IFile renamed = project.getFile("after.txt");
+		file.move(renamed.getFullPath(), true, null);
+		SeeThroughFilteredResourcesSelectionDialog renamedDialog = createDialog();
+		try {
+			renamedDialog.setInitialPattern("after.txt");
+			renamedDialog.open();
+			renamedDialog.refresh();
+			Assert.assertTrue(DisplayHelper.waitForCondition(renamedDialog.getShell().getDisplay(), 3000,
+					() -> renamed.equals(renamedDialog.getSelectedItems().getFirstElement())));
+		} finally {
+			renamedDialog.close();
+		}
+	}
+
+	@Test
+	public void testRefineAndChangePattern() throws CoreException {
+		IFile first = project.getFile("refineA.txt");
+		first.create(new ByteArrayInputStream(new byte[0]), true, null);
+		IFile second = project.getFile("refineB.txt");
+		second.create(new ByteArrayInputStream(new byte[0]), true, null);
+		SeeThroughFilteredResourcesSelectionDialog dialog = createDialog();
+		try {
+			dialog.setInitialPattern("refine");
+			dialog.open();
+			dialog.refresh();
+			Display display = dialog.getShell().getDisplay();
+			Assert.assertTrue(DisplayHelper.waitForCondition(display, 3000,
+					() -> dialog.getSelectedItems().getFirstElement() != null));
+
+			Text pattern = (Text) dialog.getPatternControl();
+			pattern.setText("refineB");
+			Assert.assertTrue(DisplayHelper.waitForCondition(display, 3000,
+					() -> second.equals(dialog.getSelectedItems().getFirstElement())));
+			pattern.setText("refineA");
+			Assert.assertTrue(DisplayHelper.waitForCondition(display, 3000,
+					() -> first.equals(dialog.getSelectedItems().getFirstElement())));
+		} finally {
+			dialog.close();
+		}
+	}
+
+	@Test
+	public void testWidenToCompletedPattern() throws Exception {
+		IFile first = project.getFile("widenA.txt");
+		first.create(new ByteArrayInputStream(new byte[0]), true, null);
+		IFile second = project.getFile("widenB.txt");
+		second.create(new ByteArrayInputStream(new byte[0]), true, null);
+		SeeThroughFilteredResourcesSelectionDialog dialog = createDialog();
+		try {
+			dialog.setInitialPattern("widen");
+			dialog.open();
+			dialog.refresh();
+			Display display = dialog.getShell().getDisplay();
+			Assert.assertTrue(DisplayHelper.waitForCondition(display, 3000,
+					() -> first.equals(dialog.getSelectedItems().getFirstElement())));
+
+			Text pattern = (Text) dialog.getPatternControl();
+			pattern.setText("widenB");
+			Assert.assertTrue(DisplayHelper.waitForCondition(display, 3000,
+					() -> second.equals(dialog.getSelectedItems().getFirstElement())));
+			pattern.setText("widen");
+			Assert.assertTrue(DisplayHelper.waitForCondition(display, 3000,
+					() -> first.equals(dialog.getSelectedItems().getFirstElement())));
+			pattern.setText("widenB");
+			Assert.assertTrue(DisplayHelper.waitForCondition(display, 3000,
+					() -> second.equals(dialog.getSelectedItems().getFirstElement())));
+
+			// Widening back to a completed pattern must not add it to the chain again
+			Field field = FilteredItemsSelectionDialog.class.getDeclaredField("completedResults");
+			field.setAccessible(true);
+			List<?> completedResults = (List<?>) field.get(dialog);
+			synchronized (completedResults) {
+				Assert.assertEquals(2, completedResults.size());
+			}
+		} finally {
+			dialog.close();
+		}
+	}
+
+	@Test
+	public void testClosedProjectNotFound() throws CoreException {
+		IFile file = project.getFile("closed.txt");
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		ResourceNameIndex index = ResourceNameIndex.getDefault();
+		IContainer workspaceRoot = ResourcesPlugin.getWorkspace().getRoot();
+		int types = IResource.PROJECT | IResource.FILE;
+		Assert.assertEquals(List.of(file), index.find(workspaceRoot, types,
+				"closed.txt"::equals, new NullProgressMonitor()));
+
+		project.close(null);
+		Assert.assertEquals(List.of(), index.find(workspaceRoot, types,
+				name -> name.equals(project.getName()) || name.equals("closed.txt"), new NullProgressMonitor()));
+
+		project.open(null);
+		Assert.assertEquals(List.of(file), index.find(workspaceRoot, types,
+				"closed.txt"::equals, new NullProgressMonitor()));
+	}
+
 	@After
 	public void doTearDown() throws Exception {
 		project.delete(true, null);
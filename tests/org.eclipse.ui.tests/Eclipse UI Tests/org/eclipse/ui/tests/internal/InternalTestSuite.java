@@ -21,6 +21,7 @@ import org.eclipse.ui.tests.markers.DeclarativeFilterDeclarationTest;
 import org.eclipse.ui.tests.markers.MarkerHelpRegistryReaderTest;
 import org.eclipse.ui.tests.markers.MarkerHelpRegistryTest;
 import org.eclipse.ui.tests.markers.MarkerQueryTest;
+import org.eclipse.ui.tests.markers.MarkerAttributeTableTest;
 import org.eclipse.ui.tests.markers.MarkerSortUtilTest;
 import org.eclipse.ui.tests.markers.MarkerSupportRegistryTests;
 import org.eclipse.ui.tests.markers.MarkerSupportViewTest;
@@ -46,6 +47,7 @@ import org.junit.runners.Suite;
 	ResourceMappingMarkersTest.class,
 	MarkerSupportRegistryTests.class,
 	MarkerSupportViewTest.class,
+	MarkerAttributeTableTest.class,
 	MarkerSortUtilTest.class,
 	MarkerViewTests.class,
 	MarkerViewUtilTest.class,
@@ -56,6 +58,7 @@ import org.junit.runners.Suite;
 	WorkbenchWindowSubordinateSourcesTests.class,
 	ReopenMenuTest.class,
 	UtilTest.class,
+	LogIndexTest.class,
 	MarkerTesterTest.class,
 	TextHandlerTest.class,
 	PerspectiveSwitcherTest.class,
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.ui.XMLMemento;
+import org.eclipse.ui.internal.views.log.LogEntry;
+import org.eclipse.ui.internal.views.log.LogIndex;
+import org.eclipse.ui.internal.views.log.LogReader;
+import org.eclipse.ui.internal.views.log.LogView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the indexing of the records of a log file and the selection of the
+ * entries to show from it.
+ */
+public class LogIndexTest {
+
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = tempFolder.newFile(".log");
+	}
+
+	@Test
+	public void testIndexesAppendedRecords() throws IOException {
+		append(session("10:00:00.000") + entry(IStatus.ERROR, "e1") + entry(IStatus.WARNING, "w1"));
+		LogIndex index = new LogIndex(file);
+		index.update();
+		assertEquals(3, index.size());
+		assertTrue(index.isSession(0));
+		assertEquals(IStatus.ERROR, index.getSeverity(1));
+		assertEquals(IStatus.WARNING, index.getSeverity(2));
+		long offset = index.getOffset(2);
+		long length = file.length();
+
+		// A line still being written is not indexed
+		String entry = entry(IStatus.INFO, "i1");
+		append(entry.substring(0, 10));
+		index.update();
+		assertEquals(3, index.size());
+		assertEquals(length - offset, index.getLength(2));
+
+		append(entry.substring(10));
+		index.update();
+		assertEquals(4, index.size());
+		assertEquals(offset, index.getOffset(2));
+		assertEquals(length, index.getOffset(3));
+		assertEquals(IStatus.INFO, index.getSeverity(3));
+		assertEquals(file.length() - length, index.getLength(3));
+	}
+
+	@Test
+	public void testRebuildsTruncatedFile() throws IOException {
+		append(session("10:00:00.000") + entry(IStatus.ERROR, "e1") + entry(IStatus.ERROR, "e2"));
+		LogIndex index = new LogIndex(file);
+		index.update();
+		assertEquals(3, index.size());
+
+		write(session("11:00:00.000") + entry(IStatus.WARNING, "w"));
+		index.update();
+		assertEquals(2, index.size());
+		assertTrue(index.isSession(0));
+		assertEquals(IStatus.WARNING, index.getSeverity(1));
+	}
+
+	@Test
+	public void testRebuildsReplacedFile() throws IOException {
+		append(session("10:00:00.000") + entry(IStatus.ERROR, "e1"));
+		LogIndex index = new LogIndex(file);
+		index.update();
+		assertEquals(2, index.size());
+
+		// A longer log written in place of the indexed one
+		write(entry(IStatus.INFO, "first") + session("11:00:00.000") + entry(IStatus.WARNING, "w1")
+				+ entry(IStatus.WARNING, "w2"));
+		index.update();
+		assertEquals(4, index.size());
+		assertEquals(0, index.getOffset(0));
+		assertEquals(IStatus.INFO, index.getSeverity(0));
+		assertTrue(index.isSession(1));
+		assertEquals(IStatus.WARNING, index.getSeverity(3));
+	}
+
+	@Test
+	public void testSelectsMostRecentEntriesBySeverity() throws IOException {
+		append(session("10:00:00.000") + entry(IStatus.ERROR, "e1") + entry(IStatus.WARNING, "w1")
+				+ entry(IStatus.ERROR, "e2") + entry(IStatus.INFO, "i1") + entry(IStatus.ERROR, "e3")
+				+ entry(IStatus.WARNING, "w2"));
+		XMLMemento memento = createMemento(true);
+		memento.putString(LogView.P_USE_LIMIT, "true");
+		memento.putInteger(LogView.P_LOG_LIMIT, 2);
+
+		List<LogEntry> entries = new ArrayList<>();
+		LogReader.parseLogFile(file, entries, memento);
+		assertEquals(List.of("e2", "e3"), getMessages(entries));
+
+		// The index is brought up to date on the next read
+		append(entry(IStatus.ERROR, "e4"));
+		entries.clear();
+		LogReader.parseLogFile(file, entries, memento);
+		assertEquals(List.of("e3", "e4"), getMessages(entries));
+	}
+
+	@Test
+	public void testSelectsEntriesOfCurrentSession() throws IOException {
+		append(session("10:00:00.000") + entry(IStatus.ERROR, "e1") + session("11:00:00.000")
+				+ entry(IStatus.ERROR, "e2") + entry(IStatus.ERROR, "e3"));
+
+		List<LogEntry> entries = new ArrayList<>();
+		LogReader.parseLogFile(file, entries, createMemento(false));
+		assertEquals(List.of("e2", "e3"), getMessages(entries));
+
+		entries.clear();
+		LogReader.parseLogFile(file, entries, createMemento(true));
+		assertEquals(List.of("e1", "e2", "e3"), getMessages(entries));
+	}
+
+	private static XMLMemento createMemento(boolean allSessions) {
+		XMLMemento memento = XMLMemento.createWriteRoot("logView");
+		memento.putString(LogView.P_USE_LIMIT, "false");
+		memento.putInteger(LogView.P_LOG_LIMIT, 50);
+		memento.putString(LogView.P_SHOW_ALL_SESSIONS, Boolean.toString(allSessions));
+		memento.putString(LogView.P_LOG_ERROR, "true");
+		memento.putString(LogView.P_LOG_WARNING, "false");
+		memento.putString(LogView.P_LOG_INFO, "false");
+		memento.putString(LogView.P_LOG_OK, "false");
+		return memento;
+	}
+
+	private static List<String> getMessages(List<LogEntry> entries) {
+		List<String> messages = new ArrayList<>();
+		for (LogEntry entry : entries) {
+			messages.add(entry.getMessage());
+		}
+		return messages;
+	}
+
+	private static String session(String time) {
+		return "!SESSION 2026-01-01 " + time + " -----------------------------------------------\n"
+				+ "eclipse.buildId=unknown\n";
+	}
+
+	private static String entry(int severity, String message) {
+		return "!ENTRY org.eclipse.ui.tests " + severity + " 0 2026-01-01 12:00:00.000\n!MESSAGE " + message
+				+ "\n";
+	}
+
+	private void append(String text) throws IOException {
+		Files.writeString(file.toPath(), text, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+	}
+
+	private void write(String text) throws IOException {
+		Files.writeString(file.toPath(), text, StandardCharsets.UTF_8);
+	}
+}
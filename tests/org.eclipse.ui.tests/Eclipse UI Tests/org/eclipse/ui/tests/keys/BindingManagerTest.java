@@ -689,6 +689,89 @@ public final class BindingManagerTest {
 						.getParameterizedCommand()));
 	}
 
+	/**
+	 * Verifies that the solution stays correct when it is updated
+	 * incrementally, i.e., when contexts are activated and deactivated, and
+	 * bindings are added and removed after a solution has been computed.
+	 *
+	 * @throws NotDefinedException
+	 *             If the scheme we try to activate is not defined.
+	 * @throws ParseException
+	 *             If the key sequences cannot be parsed.
+	 */
+	@Test
+	public void testIncrementalRecomputation() throws NotDefinedException,
+			ParseException {
+		// GENERAL SET-UP
+		contextManager.getContext("parent").define("parent", "parent", null);
+		contextManager.getContext("child").define("child", "child", "parent");
+		final Scheme scheme = bindingManager.getScheme("na");
+		scheme.define("name", "description", null);
+		bindingManager.setActiveScheme(scheme);
+		final Set<String> parentOnly = new HashSet<>();
+		parentOnly.add("parent");
+		final Set<String> parentAndChild = new HashSet<>(parentOnly);
+		parentAndChild.add("child");
+
+		final KeySequence ctrlA = KeySequence.getInstance("CTRL+A");
+		final KeySequence ctrlB = KeySequence.getInstance("CTRL+B");
+		final KeySequence ctrlD = KeySequence.getInstance("CTRL+D");
+		final Binding parentBinding = new KeyBinding(ctrlA,
+				new ParameterizedCommand(commandManager.getCommand("command1"), null),
+				"na", "parent", null, null, null, Binding.SYSTEM);
+		final Binding childBinding = new KeyBinding(ctrlA,
+				new ParameterizedCommand(commandManager.getCommand("command2"), null),
+				"na", "child", null, null, null, Binding.SYSTEM);
+		final Binding multiStrokeBinding = new KeyBinding(
+				KeySequence.getInstance("CTRL+B CTRL+C"),
+				new ParameterizedCommand(commandManager.getCommand("command3"), null),
+				"na", "child", null, null, null, Binding.SYSTEM);
+		bindingManager.setBindings(new Binding[] { parentBinding, childBinding,
+				multiStrokeBinding });
+
+		// ACTIVATE AND DEACTIVATE THE CHILD CONTEXT
+		contextManager.setActiveContextIds(parentOnly);
+		assertSame(parentBinding, bindingManager.getPerfectMatch(ctrlA));
+		assertFalse(bindingManager.isPartialMatch(ctrlB));
+		contextManager.setActiveContextIds(parentAndChild);
+		assertSame("The child context should win", childBinding,
+				bindingManager.getPerfectMatch(ctrlA));
+		assertTrue(bindingManager.isPartialMatch(ctrlB));
+		assertEquals(1, bindingManager.getActiveBindingsFor(
+				childBinding.getParameterizedCommand()).length);
+		assertEquals(0, bindingManager.getActiveBindingsFor(
+				parentBinding.getParameterizedCommand()).length);
+
+		// ADD A BINDING, THEN ACTIVATE A NEW SET OF CONTEXTS
+		contextManager.setActiveContextIds(parentOnly);
+		final Binding addedBinding = new KeyBinding(ctrlD,
+				new ParameterizedCommand(commandManager.getCommand("command4"), null),
+				"na", "parent", null, null, null, Binding.SYSTEM);
+		bindingManager.addBinding(addedBinding);
+		assertSame(addedBinding, bindingManager.getPerfectMatch(ctrlD));
+		assertSame(parentBinding, bindingManager.getPerfectMatch(ctrlA));
+		assertFalse(bindingManager.isPartialMatch(ctrlB));
+		contextManager.setActiveContextIds(parentAndChild);
+		assertSame(childBinding, bindingManager.getPerfectMatch(ctrlA));
+		assertSame(addedBinding, bindingManager.getPerfectMatch(ctrlD));
+		assertTrue(bindingManager.isPartialMatch(ctrlB));
+
+		// REMOVE A BINDING
+		bindingManager.removeBinding(childBinding);
+		assertSame(parentBinding, bindingManager.getPerfectMatch(ctrlA));
+		assertEquals(0, bindingManager.getActiveBindingsFor(
+				childBinding.getParameterizedCommand()).length);
+		assertEquals(1, bindingManager.getActiveBindingsFor(
+				parentBinding.getParameterizedCommand()).length);
+
+		// A DELETION MARKER ONLY AFFECTS ITS OWN TRIGGER SEQUENCE
+		bindingManager.addBinding(new KeyBinding(ctrlD, null, "na", "parent",
+				null, null, null, Binding.USER));
+		assertNull(bindingManager.getPerfectMatch(ctrlD));
+		assertSame(parentBinding, bindingManager.getPerfectMatch(ctrlA));
+		assertTrue(bindingManager.isPartialMatch(ctrlB));
+	}
+
 	/**
 	 * Verifies that selecting an undefimned scheme doesn't work. Verifies that
 	 * selecting a scheme works. Verifies that undefining scheme removes it as
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.markers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ui.internal.views.markers.MarkerAttributeTable;
+import org.eclipse.ui.internal.views.markers.MockMarkerEntry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MarkerAttributeTableTest {
+
+	private static final int[] SEVERITIES = { IMarker.SEVERITY_WARNING, IMarker.SEVERITY_ERROR,
+			IMarker.SEVERITY_INFO };
+
+	private IProject project;
+	private MockMarkerEntry[] entries;
+
+	@Before
+	public void setUp() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("MarkerAttributeTableTest");
+		project.create(null);
+		project.open(null);
+		entries = new MockMarkerEntry[SEVERITIES.length];
+		for (int i = 0; i < SEVERITIES.length; i++) {
+			IFile file = project.getFile("file" + i + ".txt");
+			file.create(new ByteArrayInputStream(new byte[0]), true, null);
+			IMarker marker = file.createMarker(IMarker.PROBLEM);
+			marker.setAttribute(IMarker.SEVERITY, SEVERITIES[i]);
+			marker.setAttribute(IMarker.LINE_NUMBER, 10 - i);
+			marker.setAttribute(IMarker.LOCATION, "line " + (10 - i));
+			entries[i] = new MockMarkerEntry(marker);
+		}
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testReadThroughAttachedTable() {
+		MarkerAttributeTable table = MarkerAttributeTable.attach(entries, 0, entries.length - 1);
+		try {
+			assertAttributes();
+		} finally {
+			table.detach();
+		}
+	}
+
+	@Test
+	public void testReadAfterDetach() {
+		MarkerAttributeTable table = MarkerAttributeTable.attach(entries, 0, entries.length - 1);
+		assertAttributes();
+		table.detach();
+		// the entries read their attributes again
+		assertAttributes();
+	}
+
+	@Test
+	public void testReadPartiallyAttachedEntries() {
+		MarkerAttributeTable table = MarkerAttributeTable.attach(entries, 1, entries.length - 1);
+		try {
+			assertAttributes();
+		} finally {
+			table.detach();
+		}
+	}
+
+	@Test
+	public void testReadEntryAttachedToAnotherTable() {
+		MarkerAttributeTable first = MarkerAttributeTable.attach(entries, 0, entries.length - 1);
+		MockMarkerEntry[] reversed = { entries[2], entries[1], entries[0] };
+		MarkerAttributeTable second = MarkerAttributeTable.attach(reversed, 0, reversed.length - 1);
+		try {
+			assertAttributes();
+			// detaching the first table must leave the entries attached to the second
+			first.detach();
+			assertAttributes();
+		} finally {
+			second.detach();
+		}
+		assertAttributes();
+	}
+
+	@Test
+	public void testConcurrentReadWhileAttachingAndDetaching() throws InterruptedException {
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread reader = new Thread(() -> {
+			try {
+				while (!done.get()) {
+					assertAttributes();
+				}
+			} catch (Throwable e) {
+				failure.set(e);
+			}
+		});
+		reader.start();
+		try {
+			for (int i = 0; i < 10_000 && failure.get() == null; i++) {
+				MarkerAttributeTable table = MarkerAttributeTable.attach(entries, 0, entries.length - 1);
+				assertAttributes();
+				table.detach();
+			}
+		} finally {
+			done.set(true);
+			reader.join();
+		}
+		assertNull(failure.get());
+	}
+
+	private void assertAttributes() {
+		for (int i = 0; i < entries.length; i++) {
+			MockMarkerEntry entry = entries[i];
+			assertEquals(SEVERITIES[i], MarkerAttributeTable.getSeverity(entry));
+			assertEquals(10 - i, MarkerAttributeTable.getLineNumber(entry));
+			assertEquals("line " + (10 - i), MarkerAttributeTable.getLocation(entry));
+			assertEquals(entry.getPath(), MarkerAttributeTable.getPath(entry));
+			assertEquals(IMarker.PRIORITY_NORMAL, MarkerAttributeTable.getPriority(entry));
+		}
+	}
+}
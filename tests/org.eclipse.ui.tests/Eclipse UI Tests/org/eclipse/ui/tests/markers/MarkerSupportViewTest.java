@@ -12,10 +12,12 @@
 
 package org.eclipse.ui.tests.markers;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -23,14 +25,36 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.viewers.CheckboxTableViewer;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.ide.IDEInternalPreferences;
+import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
 import org.eclipse.ui.internal.views.markers.ExtendedMarkersView;
 import org.eclipse.ui.internal.views.markers.FiltersConfigurationDialog;
 import org.eclipse.ui.internal.views.markers.MarkerContentGenerator;
+import org.eclipse.ui.internal.views.markers.MarkersTreeViewer;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+import org.eclipse.ui.views.markers.MarkerItem;
 import org.eclipse.ui.views.markers.MarkerField;
 import org.eclipse.ui.views.markers.MarkerSupportView;
 import org.eclipse.ui.views.markers.internal.ContentGeneratorDescriptor;
@@ -44,6 +68,8 @@ public class MarkerSupportViewTest {
 
 	private static final String PROBLEM_VIEW_ID = "org.eclipse.ui.views.ProblemView";
 
+	private static final int VIRTUAL_TREE_MARKERS = 80;
+
 	@Test
 	public void canOverrideOpenSelectedMarkers() {
 		Boolean[] canOverride = new Boolean[] { false };
@@ -184,6 +210,140 @@ public class MarkerSupportViewTest {
 				groupIds.contains(groupId));
 	}
 
+	@Test
+	public void virtualTreeUsedWhenEnabled() throws Exception {
+		IPreferenceStore store = IDEWorkbenchPlugin.getDefault().getPreferenceStore();
+		IWorkbenchPage page = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		store.setValue(IDEInternalPreferences.USE_VIRTUAL_MARKERS_TREE, true);
+		try {
+			hideProblemView(page);
+			MarkerSupportView view = (MarkerSupportView) page.showView(PROBLEM_VIEW_ID);
+
+			MarkersTreeViewer viewer = view.getAdapter(MarkersTreeViewer.class);
+			assertTrue((viewer.getTree().getStyle() & SWT.VIRTUAL) != 0);
+			assertTrue(viewer.getContentProvider() instanceof ILazyTreeContentProvider);
+		} finally {
+			store.setToDefault(IDEInternalPreferences.USE_VIRTUAL_MARKERS_TREE);
+			hideProblemView(page);
+		}
+	}
+
+	@Test
+	public void virtualTreeCreatesChildrenOnDemand() throws Exception {
+		IPreferenceStore store = IDEWorkbenchPlugin.getDefault().getPreferenceStore();
+		IWorkbenchPage page = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		store.setValue(IDEInternalPreferences.USE_VIRTUAL_MARKERS_TREE, true);
+		IProject project = createProjectWithWarnings(VIRTUAL_TREE_MARKERS);
+		try {
+			hideProblemView(page);
+			MarkerSupportView view = (MarkerSupportView) page.showView(PROBLEM_VIEW_ID);
+			MarkersTreeViewer viewer = view.getAdapter(MarkersTreeViewer.class);
+			TreeItem categoryItem = waitForCategoryItem(view, viewer.getTree());
+			Object category = categoryItem.getData();
+
+			viewer.setExpandedState(category, false);
+			viewer.setExpandedState(category, true);
+			UITestCase.processEvents();
+
+			assertEquals(VIRTUAL_TREE_MARKERS, categoryItem.getItemCount());
+			assertTrue("All rows were populated on expand", countPopulatedItems(categoryItem) < VIRTUAL_TREE_MARKERS);
+
+			// asking a row for its text has the tree request its element
+			TreeItem lastItem = categoryItem.getItem(VIRTUAL_TREE_MARKERS - 1);
+			lastItem.getText();
+			assertTrue(lastItem.getData() instanceof MarkerItem);
+		} finally {
+			store.setToDefault(IDEInternalPreferences.USE_VIRTUAL_MARKERS_TREE);
+			hideProblemView(page);
+			project.delete(true, null);
+		}
+	}
+
+	@Test
+	public void virtualTreeSelectsMarkersNotYetShown() throws Exception {
+		IPreferenceStore store = IDEWorkbenchPlugin.getDefault().getPreferenceStore();
+		IWorkbenchPage page = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		store.setValue(IDEInternalPreferences.USE_VIRTUAL_MARKERS_TREE, true);
+		IProject project = createProjectWithWarnings(VIRTUAL_TREE_MARKERS);
+		try {
+			hideProblemView(page);
+			MarkerSupportView view = (MarkerSupportView) page.showView(PROBLEM_VIEW_ID);
+			MarkersTreeViewer viewer = view.getAdapter(MarkersTreeViewer.class);
+			TreeItem categoryItem = waitForCategoryItem(view, viewer.getTree());
+			viewer.setExpandedState(categoryItem.getData(), false);
+			UITestCase.processEvents();
+
+			IMarker[] markers = project.getFile("file.txt").findMarkers(IMarker.PROBLEM, false, 0);
+			IMarker last = markers[markers.length - 1];
+			Method setSelection = ExtendedMarkersView.class.getDeclaredMethod("setSelection",
+					StructuredSelection.class, boolean.class);
+			setSelection.setAccessible(true);
+			setSelection.invoke(view, new StructuredSelection(last), true);
+			UITestCase.processEvents();
+
+			IStructuredSelection selection = viewer.getStructuredSelection();
+			assertEquals(1, selection.size());
+			assertEquals(last, ((MarkerItem) selection.getFirstElement()).getMarker());
+			assertTrue(viewer.getExpandedState(categoryItem.getData()));
+		} finally {
+			store.setToDefault(IDEInternalPreferences.USE_VIRTUAL_MARKERS_TREE);
+			hideProblemView(page);
+			project.delete(true, null);
+		}
+	}
+
+	private static IProject createProjectWithWarnings(int count) throws CoreException {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("VirtualMarkersTreeTest");
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			project.create(null);
+			project.open(null);
+			IFile file = project.getFile("file.txt");
+			file.create(new ByteArrayInputStream(new byte[0]), true, null);
+			for (int i = 0; i < count; i++) {
+				IMarker marker = file.createMarker(IMarker.PROBLEM);
+				marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+				marker.setAttribute(IMarker.MESSAGE, "Warning " + i);
+				marker.setAttribute(IMarker.LINE_NUMBER, i + 1);
+			}
+		}, null);
+		return project;
+	}
+
+	private static TreeItem waitForCategoryItem(MarkerSupportView view, Tree tree) {
+		TreeItem[] found = new TreeItem[1];
+		assertTrue("Markers not shown", DisplayHelper.waitForCondition(Display.getCurrent(), 30_000, () -> {
+			if (Job.getJobManager().find(view.MARKERSVIEW_UPDATE_JOB_FAMILY).length > 0) {
+				return false;
+			}
+			for (TreeItem item : tree.getItems()) {
+				item.getText(); // populates the virtual item
+				if (item.getItemCount() == VIRTUAL_TREE_MARKERS) {
+					found[0] = item;
+					return true;
+				}
+			}
+			return false;
+		}));
+		return found[0];
+	}
+
+	private static int countPopulatedItems(TreeItem parent) {
+		int populated = 0;
+		for (TreeItem item : parent.getItems()) {
+			if (item.getData() != null) {
+				populated++;
+			}
+		}
+		return populated;
+	}
+
+	private void hideProblemView(IWorkbenchPage page) {
+		IViewPart part = page.findView(PROBLEM_VIEW_ID);
+		if (part != null) {
+			page.hideView(part);
+		}
+	}
+
 	private List<String> mapToNames(MarkerField[] markerFields) {
 		if (markerFields == null || markerFields.length == 0) {
 			return Collections.emptyList();
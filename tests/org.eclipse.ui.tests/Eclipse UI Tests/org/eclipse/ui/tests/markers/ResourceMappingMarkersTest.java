@@ -13,14 +13,23 @@
  *******************************************************************************/
 package org.eclipse.ui.tests.markers;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.jobs.IJobManager;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.views.markers.ExtendedMarkersView;
 import org.eclipse.ui.tests.navigator.AbstractNavigatorTest;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -88,4 +97,127 @@ public class ResourceMappingMarkersTest extends AbstractNavigatorTest {
 		}
 		assertTrue("No markers generated",markerFound);
 	}
+
+	@Test
+	public void testMarkerChangesAppliedToView() throws CoreException {
+		IWorkbenchWindow window = PlatformUI.getWorkbench()
+				.getActiveWorkbenchWindow();
+		IWorkbenchPage page = window.getActivePage();
+		ResourceMappingTestView view;
+		final MarkersTestMarkersView problemView;
+		try {
+			view = (ResourceMappingTestView) page
+					.showView("org.eclipse.ui.tests.resourceMappingView");
+			problemView = (MarkersTestMarkersView) page
+					.showView("org.eclipse.ui.tests.markerTests");
+		} catch (PartInitException e) {
+			fail(e.getLocalizedMessage());
+			return;
+		}
+		waitForUpdates(problemView);
+
+		// the view has gathered its markers, following changes are applied
+		// to them incrementally
+		IMarker marker = view.addMarkerToFirstProject();
+		assertNotNull("Marker creation failed", marker);
+		waitForUpdates(problemView);
+		assertTrue("Added marker not shown", containsMarker(problemView, marker));
+
+		marker.setAttribute(IMarker.MESSAGE, "changed");
+		waitForUpdates(problemView);
+		assertTrue("Changed marker not shown", containsMarker(problemView, marker));
+
+		marker.delete();
+		waitForUpdates(problemView);
+		assertFalse("Deleted marker still shown", containsMarker(problemView, marker));
+	}
+
+	@Test
+	public void testCleanUpdateKeptWhenCancelledBeforeCommit() throws Exception {
+		IWorkbenchWindow window = PlatformUI.getWorkbench()
+				.getActiveWorkbenchWindow();
+		IWorkbenchPage page = window.getActivePage();
+		ResourceMappingTestView view;
+		final MarkersTestMarkersView problemView;
+		try {
+			view = (ResourceMappingTestView) page
+					.showView("org.eclipse.ui.tests.resourceMappingView");
+			problemView = (MarkersTestMarkersView) page
+					.showView("org.eclipse.ui.tests.markerTests");
+		} catch (PartInitException e) {
+			fail(e.getLocalizedMessage());
+			return;
+		}
+		waitForUpdates(problemView);
+		Job updateJob = getIncrementUpdateJob(problemView);
+		assertNotNull("No incremental update job", updateJob);
+
+		IMarker marker;
+		IJobManager jobManager = Job.getJobManager();
+		// run the update job by hand only
+		jobManager.suspend();
+		try {
+			marker = view.addMarkerToFirstProject();
+			assertNotNull("Marker creation failed", marker);
+			invoke(updateJob, "setClean");
+
+			// cancel once the markers are gathered, before they are committed
+			IProgressMonitor monitor = new NullProgressMonitor() {
+				@Override
+				public void setTaskName(String name) {
+					setCanceled(true);
+				}
+			};
+			IStatus status = (IStatus) invoke(updateJob, "run", monitor);
+			assertEquals(IStatus.CANCEL, status.getSeverity());
+			assertTrue("Clean request lost", (Boolean) invoke(updateJob, "isClean"));
+			assertFalse("Queued changes dropped", ((List<?>) invoke(updateJob, "getUpdatesQueue")).isEmpty());
+		} finally {
+			jobManager.resume();
+		}
+
+		// the scheduled run gathers clean again
+		waitForUpdates(problemView);
+		assertFalse("Clean request not done", (Boolean) invoke(updateJob, "isClean"));
+		assertTrue("Added marker not shown", containsMarker(problemView, marker));
+	}
+
+	private Job getIncrementUpdateJob(MarkersTestMarkersView problemView) throws Exception {
+		Field builderField = ExtendedMarkersView.class.getDeclaredField("builder");
+		builderField.setAccessible(true);
+		Object builder = builderField.get(problemView);
+		Field jobField = builder.getClass().getDeclaredField("incrementJob");
+		jobField.setAccessible(true);
+		return (Job) jobField.get(builder);
+	}
+
+	private Object invoke(Job job, String methodName, Object... arguments) throws Exception {
+		for (Class<?> type = job.getClass(); type != null; type = type.getSuperclass()) {
+			for (Method method : type.getDeclaredMethods()) {
+				if (method.getName().equals(methodName) && method.getParameterCount() == arguments.length) {
+					method.setAccessible(true);
+					return method.invoke(job, arguments);
+				}
+			}
+		}
+		throw new NoSuchMethodException(methodName);
+	}
+
+	private void waitForUpdates(MarkersTestMarkersView problemView) {
+		try {
+			Job.getJobManager().join(
+					problemView.MARKERSVIEW_UPDATE_JOB_FAMILY,
+					new NullProgressMonitor());
+		} catch (OperationCanceledException | InterruptedException e) {
+		}
+	}
+
+	private boolean containsMarker(MarkersTestMarkersView problemView, IMarker marker) {
+		for (IMarker current : problemView.getCurrentMarkers()) {
+			if (current.equals(marker)) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ ******************************************************************************/
+package org.eclipse.ui.tests.quickaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.ui.internal.quickaccess.QuickAccessEntry;
+import org.eclipse.ui.internal.quickaccess.QuickAccessMatcher;
+import org.eclipse.ui.internal.quickaccess.QuickAccessProvider;
+import org.eclipse.ui.quickaccess.QuickAccessElement;
+import org.junit.Test;
+
+/**
+ * Tests that a {@link QuickAccessMatcher} gives the same results when it is
+ * reused for the filters typed one after the other.
+ */
+public class QuickAccessMatcherTest {
+
+	private static class Element extends QuickAccessElement {
+		private final String label;
+
+		Element(String label) {
+			this.label = label;
+		}
+
+		@Override
+		public String getLabel() {
+			return label;
+		}
+
+		@Override
+		public ImageDescriptor getImageDescriptor() {
+			return null;
+		}
+
+		@Override
+		public String getId() {
+			return label;
+		}
+
+		@Override
+		public void execute() {
+		}
+	}
+
+	private static class Provider extends QuickAccessProvider {
+		private final String name;
+
+		Provider(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getId() {
+			return name;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public ImageDescriptor getImageDescriptor() {
+			return null;
+		}
+
+		@Override
+		public QuickAccessElement[] getElements() {
+			return new QuickAccessElement[0];
+		}
+
+		@Override
+		protected void doReset() {
+		}
+	}
+
+	@Test
+	public void testReusedMatcher() {
+		QuickAccessMatcher matcher = new QuickAccessMatcher(new Element("Show Whitespace Characters"));
+		Provider commands = new Provider("Commands");
+
+		assertEquals(QuickAccessEntry.MATCH_EXCELLENT, matcher.match("s", commands).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_EXCELLENT, matcher.match("show", commands).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_GOOD, matcher.match("white", commands).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_PERFECT,
+				matcher.match("show whitespace characters", commands).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_EXCELLENT, matcher.match("sh wh", commands).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_EXCELLENT, matcher.match("sh*ch", commands).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_GOOD, matcher.match("swc", commands).getMatchQuality());
+		assertNull(matcher.match("xyz", commands));
+		assertEquals(QuickAccessEntry.MATCH_EXCELLENT, matcher.match("show", commands).getMatchQuality());
+	}
+
+	@Test
+	public void testProviderName() {
+		QuickAccessMatcher matcher = new QuickAccessMatcher(new Element("Console"));
+
+		assertEquals(QuickAccessEntry.MATCH_GOOD, matcher.match("views con", new Provider("Views")).getMatchQuality());
+		assertNull(matcher.match("views con", new Provider("Commands")));
+		assertEquals(QuickAccessEntry.MATCH_GOOD,
+				matcher.match("commands con", new Provider("Commands")).getMatchQuality());
+		assertEquals(QuickAccessEntry.MATCH_GOOD, matcher.match("vc", new Provider("Views")).getMatchQuality());
+	}
+}